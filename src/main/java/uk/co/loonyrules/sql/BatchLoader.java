@@ -0,0 +1,451 @@
+package uk.co.loonyrules.sql;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Primitives;
+import uk.co.loonyrules.sql.accessors.FieldAccessor;
+import uk.co.loonyrules.sql.codecs.Codec;
+import uk.co.loonyrules.sql.utils.ReflectionUtil;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Batches the @Primary lookups of an @Table Class, so looking up rows one at a time from
+ * loops or concurrent tasks costs one {@code SELECT [...] WHERE pk IN (...)} per batch
+ * instead of one query per row.
+ *
+ * Lookups made within the window of the first one are sent together, or as soon as the
+ * batch is full. Only so many batches are run at once on the {@link Database}'s
+ * {@link QueryExecutor}, any other full batches wait for one to finish. Batches are handed
+ * to the QueryExecutor without blocking, as they're also sent from its own Threads, and
+ * retried shortly if its queue is full. Rows that are replicated or cached are returned
+ * without waiting for a batch.
+ *
+ * Keys are matched to rows the way MySQL compares them: text given for another type of
+ * @Primary (Eg: a UUID) is converted through its Codec, whole numbers of any size are the
+ * same key and text is matched without case under a case insensitive collation.
+ *
+ * @param <T> type of the rows loaded
+ */
+public class BatchLoader<T>
+{
+
+    /**
+     * How long to wait before offering batches again when the QueryExecutor's queue is full
+     */
+    private static final long RETRY_MILLIS = 5;
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "LoonySQL-loader");
+
+        // Only sends batches, so it shouldn't keep the JVM alive
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    private final Database database;
+    private final Class<T> type;
+    private final String primaryColumn;
+    private final Class<?> primaryType;
+    private final FieldAccessor primary;
+    private final boolean caseInsensitive;
+
+    private final long windowMillis;
+    private final int
+            batchSize,
+            maxInFlight;
+
+    private Map<Object, Lookup<T>> pending = Maps.newLinkedHashMap();
+    private ScheduledFuture<?> flushTask,
+            retryTask;
+    private final Deque<Map<Object, Lookup<T>>> ready = new ArrayDeque<>();
+    private int inFlight;
+
+    private final LongAdder
+            requests = new LongAdder(),
+            batches = new LongAdder(),
+            rows = new LongAdder();
+
+    /**
+     * Construct a new BatchLoader
+     * @param database to load the rows from
+     * @param type of the rows, with a @Primary Field
+     * @param windowMillis how long to wait for more lookups after the first of a batch
+     * @param batchSize maximum number of keys sent in one batch
+     * @param maxInFlight maximum number of batches running at once
+     * @param caseInsensitive whether the collation compares text without case
+     */
+    BatchLoader(Database database, Class<T> type, long windowMillis, int batchSize, int maxInFlight, boolean caseInsensitive)
+    {
+        Preconditions.checkArgument(batchSize > 0, "Batch size must be greater than 0.");
+        Preconditions.checkArgument(maxInFlight > 0, "Maximum in-flight batches must be greater than 0.");
+
+        // Get the Primary Field
+        final Optional<Field> primaryOptional = ReflectionUtil.getPrimaryField(type);
+
+        // No Primary field so we've nothing to look up by
+        Preconditions.checkArgument(primaryOptional.isPresent(), "No @Primary Field found in " + type + ".");
+
+        this.database = database;
+        this.type = type;
+        this.primaryColumn = ReflectionUtil.getColumnName(primaryOptional.get());
+        this.primaryType = Primitives.wrap(primaryOptional.get().getType());
+        this.primary = ReflectionUtil.getAccessor(primaryOptional.get());
+        this.caseInsensitive = caseInsensitive;
+        this.windowMillis = windowMillis;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Get the type of the rows loaded
+     * @return the type
+     */
+    public Class<T> getType()
+    {
+        return this.type;
+    }
+
+    /**
+     * Get the number of lookups made
+     * @return number of lookups
+     */
+    public long getRequests()
+    {
+        return this.requests.sum();
+    }
+
+    /**
+     * Get the number of batches sent
+     * @return number of batches
+     */
+    public long getBatches()
+    {
+        return this.batches.sum();
+    }
+
+    /**
+     * Get the number of rows found by the batches sent
+     * @return number of rows
+     */
+    public long getRows()
+    {
+        return this.rows.sum();
+    }
+
+    /**
+     * Get the number of batches currently running
+     * @return number of batches in flight
+     */
+    public synchronized int getInFlight()
+    {
+        return this.inFlight;
+    }
+
+    /**
+     * Look up a row by its @Primary value
+     * @param key the @Primary value
+     * @return future completed with the row, or an empty Optional if there's no such row
+     */
+    public CompletableFuture<Optional<T>> load(Object key)
+    {
+        Preconditions.checkNotNull(key, "Key cannot be null.");
+
+        this.requests.increment();
+
+        final Object primaryKey;
+
+        // Bound and matched as the @Primary's type
+        try {
+            primaryKey = toPrimaryType(key);
+        } catch (IllegalArgumentException e) {
+            final CompletableFuture<Optional<T>> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        // Answer from memory if we can
+        final List<T> found = this.database.findInMemory(this.type, new Query().where(this.primaryColumn, primaryKey));
+
+        if(found != null)
+            return CompletableFuture.completedFuture(found.stream().findFirst());
+
+        final CompletableFuture<Optional<T>> future = new CompletableFuture<>();
+
+        synchronized(this)
+        {
+            // Lookups of the same key share the row
+            this.pending.computeIfAbsent(toKey(primaryKey), normalized -> new Lookup<>(primaryKey)).futures.add(future);
+
+            if(this.pending.size() >= this.batchSize)
+            {
+                // Full so send it now
+                if(this.flushTask != null)
+                    this.flushTask.cancel(false);
+
+                this.flushTask = null;
+                this.ready.add(this.pending);
+                this.pending = Maps.newLinkedHashMap();
+            } else if(this.flushTask == null) {
+                // First of a batch so wait for more
+                this.flushTask = scheduler.schedule(this::flush, this.windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        dispatch();
+
+        return future;
+    }
+
+    /**
+     * Send the pending batch once its window has passed
+     */
+    private void flush()
+    {
+        synchronized(this)
+        {
+            this.flushTask = null;
+
+            if(this.pending.isEmpty())
+                return;
+
+            this.ready.add(this.pending);
+            this.pending = Maps.newLinkedHashMap();
+        }
+
+        dispatch();
+    }
+
+    /**
+     * Run the batches that are ready, as long as there's room for them
+     */
+    private void dispatch()
+    {
+        final Deque<Map<Object, Lookup<T>>> toRun = new ArrayDeque<>();
+
+        synchronized(this)
+        {
+            while(this.inFlight < this.maxInFlight && !this.ready.isEmpty())
+            {
+                toRun.add(this.ready.poll());
+                this.inFlight++;
+            }
+        }
+
+        // Offered outside of the lock, never blocking as we may be on one of the QueryExecutor's Threads
+        while(!toRun.isEmpty())
+        {
+            final Map<Object, Lookup<T>> batch = toRun.poll();
+            final Executor executor = this.database.getExecutorService();
+
+            try {
+                Preconditions.checkState(executor != null, "Database isn't connected.");
+
+                if(executor instanceof QueryExecutor)
+                {
+                    // Queue is full so try again shortly
+                    if(!((QueryExecutor) executor).offer(() -> run(batch)))
+                    {
+                        toRun.addFirst(batch);
+                        requeue(toRun);
+                        return;
+                    }
+                }
+                else executor.execute(() -> run(batch));
+            } catch (IllegalStateException | RejectedExecutionException e) {
+                fail(batch, e);
+                finished();
+            }
+        }
+    }
+
+    /**
+     * Put batches the QueryExecutor had no room for back in front of the ready
+     * batches, offering them again once a batch finishes or shortly after
+     * @param batches that weren't run, in order
+     */
+    private void requeue(Deque<Map<Object, Lookup<T>>> batches)
+    {
+        synchronized(this)
+        {
+            while(!batches.isEmpty())
+            {
+                this.ready.addFirst(batches.pollLast());
+                this.inFlight--;
+            }
+
+            if(this.retryTask == null)
+                this.retryTask = scheduler.schedule(this::retry, RETRY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Offer the requeued batches again
+     */
+    private void retry()
+    {
+        synchronized(this)
+        {
+            this.retryTask = null;
+        }
+
+        dispatch();
+    }
+
+    /**
+     * Load the rows of a batch and complete the lookups waiting for them
+     * @param batch to load
+     */
+    private void run(Map<Object, Lookup<T>> batch)
+    {
+        try {
+            this.batches.increment();
+
+            // Getting the keys as they were given
+            final List<Object> keys = Lists.newArrayListWithCapacity(batch.size());
+            batch.values().forEach(lookup -> keys.add(lookup.key));
+
+            // Load the rows and match them to their lookups
+            final Map<Object, T> found = Maps.newHashMap();
+
+            for(T row : this.database.findByPrimary(this.type, this.primaryColumn, keys))
+                found.put(toKey(this.primary.get(row)), row);
+
+            this.rows.add(found.size());
+
+            for(Map.Entry<Object, Lookup<T>> entry : batch.entrySet())
+                entry.getValue().complete(found.get(entry.getKey()), this.database.getChangeTracker());
+        } catch (Exception e) {
+            fail(batch, e);
+        } finally {
+            finished();
+        }
+    }
+
+    /**
+     * Make room for another batch once one has finished
+     */
+    private void finished()
+    {
+        synchronized(this)
+        {
+            this.inFlight--;
+        }
+
+        dispatch();
+    }
+
+    /**
+     * Fail every lookup of a batch
+     * @param batch that failed
+     * @param throwable it failed with
+     */
+    private void fail(Map<Object, Lookup<T>> batch, Throwable throwable)
+    {
+        batch.values().forEach(lookup -> lookup.futures.forEach(future -> future.completeExceptionally(throwable)));
+    }
+
+    /**
+     * Convert text given for another type of @Primary (Eg: a UUID) through the type's Codec
+     * @param key the @Primary value given
+     * @return the @Primary value as the @Primary's type where it's text for another type
+     * @throws IllegalArgumentException if the text isn't a valid value of the @Primary's type
+     */
+    private Object toPrimaryType(Object key)
+    {
+        if(!(key instanceof String) || this.primaryType == String.class)
+            return key;
+
+        // Get the Codec for the @Primary's type
+        final Codec<?> codec = Codec.getCodec(this.primaryType);
+
+        try {
+            return codec == null ? key : codec.decodeText((String) key, this.primaryType);
+        } catch (UnsupportedOperationException e) {
+            // Left for MySQL to convert
+            return key;
+        }
+    }
+
+    /**
+     * Get the key of a @Primary value the way MySQL compares it
+     * @param value the @Primary value
+     * @return the key
+     */
+    private Object toKey(Object value)
+    {
+        return PrimaryKeys.toKey(value, this.caseInsensitive);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BatchLoader{" +
+                "type=" + this.type +
+                ", requests=" + getRequests() +
+                ", batches=" + getBatches() +
+                ", inFlight=" + getInFlight() +
+                '}';
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The lookups of one key in a batch
+     * @param <T> type of the row
+     */
+    private static class Lookup<T>
+    {
+
+        private final Object key;
+        private final List<CompletableFuture<Optional<T>>> futures = Lists.newArrayListWithCapacity(1);
+
+        private Lookup(Object key)
+        {
+            this.key = key;
+        }
+
+        /**
+         * Complete every lookup, each after the first getting its own copy of the row
+         * @param row that was found or null
+         * @param changeTracker to snapshot the copies with
+         * @throws ReflectiveOperationException if the row couldn't be copied
+         */
+        private void complete(T row, ChangeTracker changeTracker) throws ReflectiveOperationException
+        {
+            final List<Optional<T>> results = Lists.newArrayListWithCapacity(this.futures.size());
+            results.add(Optional.ofNullable(row));
+
+            // Copied before completing anything as completing runs the callers' callbacks
+            for(int i = 1; i < this.futures.size(); i++)
+            {
+                final T copy = row == null ? null : EntityCopier.copy(row);
+
+                if(copy != null)
+                    changeTracker.snapshot(copy);
+
+                results.add(Optional.ofNullable(copy));
+            }
+
+            for(int i = 0; i < this.futures.size(); i++)
+                this.futures.get(i).complete(results.get(i));
+        }
+
+    }
+
+}
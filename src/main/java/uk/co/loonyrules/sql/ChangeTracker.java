@@ -0,0 +1,162 @@
+package uk.co.loonyrules.sql;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.hash.TIntIntHashMap;
+import uk.co.loonyrules.sql.annotations.Table;
+import uk.co.loonyrules.sql.utils.ReflectionUtil;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers the @Column values of @Table Objects as they were last read from
+ * or written to the {@link Database}, so saving them only writes what changed.
+ *
+ * Only Classes with {@link Table#trackChanges()} are tracked. Snapshots are
+ * held against the Object's identity and are dropped once it's garbage collected.
+ */
+class ChangeTracker
+{
+
+    private final ConcurrentMap<Object, Object[]> snapshots = new MapMaker()
+            .weakKeys()
+            .makeMap();
+
+    /**
+     * Check if changes are tracked for a Class
+     * @param clazz to check
+     * @return whether the Class has {@link Table#trackChanges()} enabled
+     */
+    boolean isTracked(Class<?> clazz)
+    {
+        return ReflectionUtil.getTableAnnotation(clazz).map(Table::trackChanges).orElse(false);
+    }
+
+    /**
+     * Take a snapshot of an Object's current @Column values if its Class is tracked
+     * @param object to take the snapshot of
+     */
+    void snapshot(Object object)
+    {
+        if(!isTracked(object.getClass()))
+            return;
+
+        // Getting the Fields for this Class
+        final Collection<Field> fields = ReflectionUtil.getFields(object.getClass()).values();
+
+        // Copying every value
+        final Object[] snapshot = new Object[fields.size()];
+        int index = 0;
+
+        for(Field field : fields)
+            snapshot[index++] = copy(ReflectionUtil.getFieldValue(field, object));
+
+        this.snapshots.put(object, snapshot);
+    }
+
+    /**
+     * Forget the snapshot of an Object
+     * @param object to forget
+     */
+    void forget(Object object)
+    {
+        this.snapshots.remove(object);
+    }
+
+    /**
+     * Get the Fields that have changed since the last snapshot of an Object
+     * @param object to compare
+     * @return the changed Fields, or null if there's no snapshot to compare with
+     */
+    List<Field> getChanges(Object object)
+    {
+        // Get the last snapshot
+        final Object[] snapshot = this.snapshots.get(object);
+
+        // Never loaded or saved
+        if(snapshot == null)
+            return null;
+
+        final List<Field> changes = Lists.newArrayList();
+        int index = 0;
+
+        // Comparing every value with the snapshot
+        for(Field field : ReflectionUtil.getFields(object.getClass()).values())
+        {
+            if(!Objects.deepEquals(snapshot[index++], ReflectionUtil.getFieldValue(field, object)))
+                changes.add(field);
+        }
+
+        return changes;
+    }
+
+    /**
+     * Copy a value that could be modified in place
+     * @param value to copy
+     * @return the copied value or the value itself if it's not mutable
+     */
+    static Object copy(Object value)
+    {
+        if(value == null)
+            return null;
+
+        // Arrays can be modified in place
+        if(value.getClass().isArray())
+        {
+            final int length = Array.getLength(value);
+            final Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+
+        // Collections compare by their contents so a copy compares the same
+        if(value instanceof List)
+            return Lists.newArrayList((List<?>) value);
+
+        if(value instanceof Set)
+            return Sets.newLinkedHashSet((Set<?>) value);
+
+        if(value instanceof Map)
+            return Maps.newLinkedHashMap((Map<?, ?>) value);
+
+        if(value instanceof ByteBuffer)
+        {
+            final ByteBuffer buffer = (ByteBuffer) value;
+            final ByteBuffer copy = ByteBuffer.allocate(buffer.remaining()).put(buffer.duplicate());
+
+            // Through Buffer as ByteBuffer#flip() only exists from Java 9
+            ((Buffer) copy).flip();
+            return copy;
+        }
+
+        if(value instanceof BitSet)
+            return ((BitSet) value).clone();
+
+        // Trove collections also compare by their contents
+        if(value instanceof TIntArrayList)
+            return new TIntArrayList(((TIntArrayList) value).toArray());
+
+        if(value instanceof TLongArrayList)
+            return new TLongArrayList(((TLongArrayList) value).toArray());
+
+        if(value instanceof TIntIntHashMap)
+            return new TIntIntHashMap((TIntIntHashMap) value);
+
+        return value;
+    }
+
+}
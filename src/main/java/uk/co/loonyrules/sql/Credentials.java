@@ -1,5 +1,7 @@
 package uk.co.loonyrules.sql;
 
+import uk.co.loonyrules.sql.enums.RejectionPolicy;
+
 /**
  * Credential file used for a {@link Database} connection initialisation.
  */
@@ -16,6 +18,17 @@ public class Credentials
             timeout;
 
     private int maximumPoolSize = 10;
+    private int
+            executorThreads = 0,
+            executorQueueSize = 1024,
+            batchSize = 500;
+    private boolean rewriteBatchedStatements = true;
+    private boolean coalesceReads = false;
+    private long loaderWindow = 2;
+    private int
+            loaderBatchSize = 100,
+            loaderMaxInFlight = 2;
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
     private String
             encoding = "utf8",
             collation = "utf8_general_ci";
@@ -116,6 +129,87 @@ public class Credentials
         return this.maximumPoolSize;
     }
 
+    /**
+     * Get the number of Threads used for asynchronous queries
+     * @return number of Threads, 0 to match the maximum pool size
+     */
+    public int getExecutorThreads()
+    {
+        return this.executorThreads;
+    }
+
+    /**
+     * Get the maximum number of asynchronous queries waiting for a Thread
+     * @return size of the asynchronous query queue
+     */
+    public int getExecutorQueueSize()
+    {
+        return this.executorQueueSize;
+    }
+
+    /**
+     * Get what happens to asynchronous queries once the queue is full
+     * @return the RejectionPolicy used
+     */
+    public RejectionPolicy getRejectionPolicy()
+    {
+        return this.rejectionPolicy;
+    }
+
+    /**
+     * Get the maximum number of rows sent in one batch by {@link Database#saveAll}
+     * @return the batch size
+     */
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    /**
+     * Check if the driver rewrites batched statements into multi-row statements
+     * @return whether batched statements are rewritten
+     */
+    public boolean isRewriteBatchedStatements()
+    {
+        return this.rewriteBatchedStatements;
+    }
+
+    /**
+     * Check if concurrent identical reads share a single execution, see {@link ReadCoalescer}
+     * @return whether reads are coalesced
+     */
+    public boolean isCoalesceReads()
+    {
+        return this.coalesceReads;
+    }
+
+    /**
+     * Get how long a {@link BatchLoader} waits for more lookups after the first of a batch
+     * @return the window in milliseconds
+     */
+    public long getLoaderWindow()
+    {
+        return this.loaderWindow;
+    }
+
+    /**
+     * Get the maximum number of keys a {@link BatchLoader} sends in one batch
+     * @return the batch size
+     */
+    public int getLoaderBatchSize()
+    {
+        return this.loaderBatchSize;
+    }
+
+    /**
+     * Get the maximum number of batches a {@link BatchLoader} runs at once
+     * @return the maximum in-flight batches
+     */
+    public int getLoaderMaxInFlight()
+    {
+        return this.loaderMaxInFlight;
+    }
+
     /**
      * Get the encoding type used for this connection
      * @return encoding type used
@@ -134,6 +228,15 @@ public class Credentials
         return this.collation;
     }
 
+    /**
+     * Check if the collation used for this connection compares text without case
+     * @return whether the collation is case insensitive
+     */
+    public boolean isCaseInsensitive()
+    {
+        return this.collation.endsWith("_ci");
+    }
+
     /**
      * Get the driver class name
      * @return the driver class name
@@ -152,6 +255,108 @@ public class Credentials
         return this.maximumPoolSize = maximumPoolSize;
     }
 
+    /**
+     * Set the number of Threads used for asynchronous queries
+     * @param executorThreads number of Threads, 0 to match the maximum pool size
+     * @return current instance for chaining
+     */
+    public Credentials setExecutorThreads(int executorThreads)
+    {
+        this.executorThreads = executorThreads;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of asynchronous queries waiting for a Thread
+     * @param executorQueueSize size of the asynchronous query queue
+     * @return current instance for chaining
+     */
+    public Credentials setExecutorQueueSize(int executorQueueSize)
+    {
+        this.executorQueueSize = executorQueueSize;
+        return this;
+    }
+
+    /**
+     * Set what happens to asynchronous queries once the queue is full, {@link RejectionPolicy#ABORT}
+     * by default so the asynchronous methods never block the calling Thread
+     * @param rejectionPolicy to use
+     * @return current instance for chaining
+     */
+    public Credentials setRejectionPolicy(RejectionPolicy rejectionPolicy)
+    {
+        this.rejectionPolicy = rejectionPolicy;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of rows sent in one batch by {@link Database#saveAll}
+     * @param batchSize the batch size
+     * @return current instance for chaining
+     */
+    public Credentials setBatchSize(int batchSize)
+    {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Set whether the driver rewrites batched statements into multi-row statements
+     * (the {@code rewriteBatchedStatements} connection property), used when connecting
+     * @param rewriteBatchedStatements whether batched statements are rewritten
+     * @return current instance for chaining
+     */
+    public Credentials setRewriteBatchedStatements(boolean rewriteBatchedStatements)
+    {
+        this.rewriteBatchedStatements = rewriteBatchedStatements;
+        return this;
+    }
+
+    /**
+     * Set whether concurrent identical reads share a single execution, see {@link ReadCoalescer}.
+     * Disabled by default, as joined reads wait on the statement of another caller
+     * @param coalesceReads whether reads are coalesced
+     * @return current instance for chaining
+     */
+    public Credentials setCoalesceReads(boolean coalesceReads)
+    {
+        this.coalesceReads = coalesceReads;
+        return this;
+    }
+
+    /**
+     * Set how long a {@link BatchLoader} waits for more lookups after the first of a batch
+     * @param loaderWindow the window in milliseconds
+     * @return current instance for chaining
+     */
+    public Credentials setLoaderWindow(long loaderWindow)
+    {
+        this.loaderWindow = loaderWindow;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of keys a {@link BatchLoader} sends in one batch
+     * @param loaderBatchSize the batch size
+     * @return current instance for chaining
+     */
+    public Credentials setLoaderBatchSize(int loaderBatchSize)
+    {
+        this.loaderBatchSize = loaderBatchSize;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of batches a {@link BatchLoader} runs at once
+     * @param loaderMaxInFlight the maximum in-flight batches
+     * @return current instance for chaining
+     */
+    public Credentials setLoaderMaxInFlight(int loaderMaxInFlight)
+    {
+        this.loaderMaxInFlight = loaderMaxInFlight;
+        return this;
+    }
+
     /**
      * Set the encoding type for this connection
      * @param encoding to set to
@@ -0,0 +1,159 @@
+package uk.co.loonyrules.sql;
+
+import uk.co.loonyrules.sql.mappers.RowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily maps the rows of an open {@link ResultSet}, one row at a time.
+ *
+ * A Cursor holds on to its {@link Connection} until it has been fully
+ * iterated or {@link #close()} is called, so always close it (or the
+ * {@link Stream} created from it) when you're done.
+ *
+ * @param <T> type of the rows
+ */
+public class Cursor<T> implements Iterator<T>, AutoCloseable
+{
+
+    private final Database database;
+    private final Connection connection;
+    private final PreparedStatement preparedStatement;
+    private final ResultSet resultSet;
+    private final RowMapper<T> rowMapper;
+
+    private T next;
+    private boolean closed;
+
+    /**
+     * Construct a new Cursor over an executed query
+     * @param database the resources belong to
+     * @param connection the query was executed on
+     * @param preparedStatement that was executed
+     * @param resultSet to iterate
+     * @param rowMapper to map each row with
+     */
+    Cursor(Database database, Connection connection, PreparedStatement preparedStatement, ResultSet resultSet, RowMapper<T> rowMapper)
+    {
+        this.database = database;
+        this.connection = connection;
+        this.preparedStatement = preparedStatement;
+        this.resultSet = resultSet;
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * Construct an empty, already closed Cursor
+     */
+    Cursor()
+    {
+        this(null, null, null, null, null);
+        this.closed = true;
+    }
+
+    /**
+     * Check if there's another row, reading it if needed
+     * @return whether there's another row
+     * @throws IllegalStateException if reading the next row failed, so a failure
+     *         part way through isn't mistaken for the end of the rows
+     */
+    @Override
+    public boolean hasNext()
+    {
+        // Already read the next row
+        if(this.next != null)
+            return true;
+
+        // Nothing left to read
+        if(this.closed)
+            return false;
+
+        try {
+            // Read and map the next row
+            while (this.resultSet.next())
+            {
+                try {
+                    this.next = this.rowMapper.map(this.resultSet);
+
+                    // Remember what we loaded
+                    this.database.getChangeTracker().snapshot(this.next);
+                    return true;
+                } catch (ReflectiveOperationException e) {
+                    e.printStackTrace();
+                }
+            }
+        } catch (SQLException e) {
+            // Release our Connection before failing
+            close();
+
+            throw new IllegalStateException("Failed to read the next row, the rows read so far are incomplete.", e);
+        }
+
+        // No more rows so release our Connection
+        close();
+
+        return false;
+    }
+
+    /**
+     * Get the next row
+     * @return the next mapped row
+     */
+    @Override
+    public T next()
+    {
+        if(!hasNext())
+            throw new NoSuchElementException();
+
+        // Handing over the row we've read
+        final T next = this.next;
+        this.next = null;
+
+        return next;
+    }
+
+    /**
+     * Check if this Cursor has released its resources
+     * @return whether this Cursor is closed
+     */
+    public boolean isClosed()
+    {
+        return this.closed;
+    }
+
+    /**
+     * Get a {@link Stream} of the remaining rows, closing the Stream closes this Cursor
+     * @return the remaining rows as a Stream
+     */
+    public Stream<T> stream()
+    {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * Release the {@link Connection} and close the statement and {@link ResultSet}
+     */
+    @Override
+    public void close()
+    {
+        // Already released
+        if(this.closed)
+            return;
+
+        this.closed = true;
+        this.next = null;
+
+        // Closing our resources
+        this.database.closeResources(this.connection, this.preparedStatement, this.resultSet);
+    }
+
+}
@@ -1,35 +1,53 @@
 package uk.co.loonyrules.sql;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.primitives.Primitives;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import uk.co.loonyrules.sql.StatementCache.Operation;
+import uk.co.loonyrules.sql.accessors.FieldAccessor;
 import uk.co.loonyrules.sql.annotations.Column;
 import uk.co.loonyrules.sql.annotations.Primary;
 import uk.co.loonyrules.sql.annotations.Table;
 import uk.co.loonyrules.sql.codecs.Codec;
+import uk.co.loonyrules.sql.codecs.types.BlobRefCodec;
 import uk.co.loonyrules.sql.enums.ModifyType;
+import uk.co.loonyrules.sql.mappers.EntityMapper;
+import uk.co.loonyrules.sql.mappers.EntityMappers;
+import uk.co.loonyrules.sql.mappers.RowMapper;
 import uk.co.loonyrules.sql.models.TableColumn;
 import uk.co.loonyrules.sql.models.TableInfo;
 import uk.co.loonyrules.sql.models.TableSchema;
-import uk.co.loonyrules.sql.utils.ParseUtil;
 import uk.co.loonyrules.sql.utils.ReflectionUtil;
 import uk.co.loonyrules.sql.utils.StorageUtil;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.channels.FileChannel;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The main class that allows you to manage the entire Database
@@ -38,13 +56,25 @@ import java.util.stream.Collectors;
 public class Database
 {
 
+    private static final Codec[] NO_CODECS = new Codec[0];
+
     private final Credentials credentials;
     private final Map<String, String> tablePlaceholders = Maps.newHashMap();
 
     private HikariDataSource hikariDataSource;
-    private ExecutorService executorService;
+    private QueryExecutor executorService;
     private Thread shutdownThread;
 
+    private final ThreadLocal<QueryFuture<?>> currentFuture = new ThreadLocal<>();
+    private final ConcurrentMap<Statement, QueryFuture<?>> trackedStatements = Maps.newConcurrentMap();
+    private final ChangeTracker changeTracker = new ChangeTracker();
+    private final StatementCache statementCache = new StatementCache();
+    private final EntityCache entityCache;
+    private final QueryCache queryCache = new QueryCache(this.changeTracker);
+    private final TableReplicas tableReplicas;
+    private final ReadCoalescer readCoalescer = new ReadCoalescer();
+    private final ConcurrentMap<Class<?>, BatchLoader<?>> batchLoaders = Maps.newConcurrentMap();
+
     /**
      * Initialise a new Database connection using a set of {@link Credentials}
      * @param credentials to connect and authenticate with
@@ -56,6 +86,12 @@ public class Database
 
         // Assigning the Credentials variable
         this.credentials = credentials;
+
+        // Cached rows are keyed the way the collation compares them
+        this.entityCache = new EntityCache(this.changeTracker, credentials);
+
+        // Replicated rows are read without going through any cache
+        this.tableReplicas = new TableReplicas(this.changeTracker, credentials, clazz -> executeSelect(clazz, ReflectionUtil.getTableAnnotation(clazz).get(), new Query()));
     }
 
     /**
@@ -76,6 +112,76 @@ public class Database
         return this.executorService;
     }
 
+    /**
+     * Get the {@link QueryExecutor} used for asynchronous query calls, exposing its queue metrics
+     * @return {@link QueryExecutor} for this Database
+     */
+    public QueryExecutor getQueryExecutor()
+    {
+        return this.executorService;
+    }
+
+    /**
+     * Get the {@link ReadCoalescer} collapsing concurrent identical reads, with the number of reads collapsed
+     * @return {@link ReadCoalescer} for this Database
+     */
+    public ReadCoalescer getReadCoalescer()
+    {
+        return this.readCoalescer;
+    }
+
+    /**
+     * Get the {@link BatchLoader} batching the @Primary lookups of a Class, configured
+     * with the loader window, batch size and maximum in-flight batches of the {@link Credentials}
+     * @param clazz to get the BatchLoader of
+     * @param <T> type of the Class
+     * @return {@link BatchLoader} of the Class
+     */
+    public <T> BatchLoader<T> getBatchLoader(Class<T> clazz)
+    {
+        return (BatchLoader<T>) this.batchLoaders.computeIfAbsent(clazz, type -> new BatchLoader<>(
+                this,
+                type,
+                this.credentials.getLoaderWindow(),
+                this.credentials.getLoaderBatchSize(),
+                this.credentials.getLoaderMaxInFlight(),
+                this.credentials.isCaseInsensitive()
+        ));
+    }
+
+    /**
+     * Get the {@link ChangeTracker} holding snapshots of @Table Objects that track changes
+     * @return {@link ChangeTracker} for this Database
+     */
+    ChangeTracker getChangeTracker()
+    {
+        return this.changeTracker;
+    }
+
+    /**
+     * Get the hit, miss and eviction counts of a {@link uk.co.loonyrules.sql.annotations.Cached}
+     * or {@link uk.co.loonyrules.sql.annotations.CachedQueries} @Table Class, summed across both caches
+     * @param clazz to get the counts of
+     * @return the CacheStats of the Class, all zero if it isn't cached
+     */
+    public CacheStats getCacheStats(Class<?> clazz)
+    {
+        return this.entityCache.getStats(clazz).plus(this.queryCache.getStats(clazz));
+    }
+
+    /**
+     * Invalidate the cached rows and results of a {@link uk.co.loonyrules.sql.annotations.Cached}
+     * or {@link uk.co.loonyrules.sql.annotations.CachedQueries} @Table Class,
+     * used when its rows have been modified outside of this Database
+     * @param clazz to invalidate
+     */
+    public void invalidateCache(Class<?> clazz)
+    {
+        written(clazz);
+        this.entityCache.invalidateAll(clazz);
+        this.tableReplicas.invalidate(clazz);
+    }
+
     /**
      * Get @Table name placeholders
      * @return all registered @Table name placeholders
@@ -162,6 +268,12 @@ public class Database
     public void addTablePlaceholder(String placeholder, String value)
     {
         this.tablePlaceholders.put(placeholder, value);
+
+        // Cached statements may contain the old value
+        this.statementCache.invalidate();
+        this.entityCache.invalidateAll();
+        this.queryCache.invalidateAll();
+        this.tableReplicas.invalidateAll();
     }
 
     /**
@@ -171,6 +283,12 @@ public class Database
     public void removeTablePlaceholder(String placeholder)
     {
         this.tablePlaceholders.remove(placeholder);
+
+        // Cached statements may contain the old value
+        this.statementCache.invalidate();
+        this.entityCache.invalidateAll();
+        this.queryCache.invalidateAll();
+        this.tableReplicas.invalidateAll();
     }
 
     /**
@@ -217,6 +335,9 @@ public class Database
         hikariConfig.addDataSourceProperty("collationConnection", this.credentials.getCollation());
         hikariConfig.addDataSourceProperty("useUnicode","true");
 
+        // Let the driver send batched upserts as multi-row statements
+        hikariConfig.addDataSourceProperty("rewriteBatchedStatements", String.valueOf(this.credentials.isRewriteBatchedStatements()));
+
         hikariConfig.setConnectionInitSql("SET NAMES utf8mb4");
 
         // Setting the authentication credentials
@@ -233,8 +354,15 @@ public class Database
             e.printStackTrace();
         }
 
-        // Creating our executor for this Database
-        this.executorService = Executors.newCachedThreadPool();
+        // Number of Threads for our executor, no more than the connections we have by default
+        final int executorThreads = this.credentials.getExecutorThreads() > 0 ? this.credentials.getExecutorThreads() : this.credentials.getMaximumPoolSize();
+
+        // Creating our bounded executor for this Database
+        this.executorService = new QueryExecutor(
+                executorThreads,
+                this.credentials.getExecutorQueueSize(),
+                this.credentials.getRejectionPolicy()
+        );
 
         // Add a shutdown hook
         Runtime.getRuntime().addShutdownHook(this.shutdownThread = new Thread(this::disconnect));
@@ -254,6 +382,9 @@ public class Database
         // Shutting down the pool
         this.executorService.shutdown();
 
+        // No longer refreshing replicated rows
+        this.tableReplicas.shutdown();
+
         // If shutdownThread is active
         if(this.shutdownThread == null || !this.shutdownThread.isAlive())
             return;
@@ -296,6 +427,19 @@ public class Database
         return Optional.ofNullable(results.iterator().hasNext() ? results.iterator().next() : null);
     }
 
+    /**
+     * Asynchronously find a row by its @Primary value, batched with the other
+     * lookups of the same Class made at the same time by its {@link BatchLoader}
+     * @param clazz to get data for
+     * @param primary value of the row's @Primary column
+     * @param <T> the type to parse to
+     * @return future completed with the row wrapped in an Optional
+     */
+    public <T> CompletableFuture<Optional<T>> load(Class<T> clazz, Object primary)
+    {
+        return getBatchLoader(clazz).load(primary);
+    }
+
     /**
      * Find all rows and get back a list of the object provided
      * @param clazz to get data for
@@ -326,14 +470,44 @@ public class Database
      */
     public <T> List<T> find(Class<T> clazz, Query query)
     {
-        // Where we'll store our Results
-        final List<T> results = Lists.newArrayList();
+        try {
+            return executeFind(clazz, query);
+        } catch (SQLException e) {
+            // Print the stacktrace
+            e.printStackTrace();
+
+            // Return no results
+            return Lists.newArrayList();
+        }
+    }
+
+    /**
+     * Open a {@link Cursor} over all rows, decoding each row lazily
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @param <T> the type to parse to
+     * @return the open Cursor, which must be closed
+     */
+    public <T> Cursor<T> cursor(Class<T> clazz, Query query)
+    {
+        return cursor(clazz, query, Integer.MIN_VALUE);
+    }
 
+    /**
+     * Open a {@link Cursor} over all rows, decoding each row lazily
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @param fetchSize rows to fetch per round trip ({@link Integer#MIN_VALUE} streams row by row)
+     * @param <T> the type to parse to
+     * @return the open Cursor, which must be closed
+     */
+    public <T> Cursor<T> cursor(Class<T> clazz, Query query, int fetchSize)
+    {
         // Get the Table annotation wrapped in an Optional
         final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(clazz);
 
         // Not found so throw an error
-        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + clazz + " when find results.");
+        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + clazz + " when streaming results.");
 
         // Get the Table annotation
         final Table table = tableOptional.get();
@@ -348,37 +522,88 @@ public class Database
             // Get a new connection
             connection = getConnection();
 
-            // Preparing our statement
-            preparedStatement = prepare(connection, String.format("SELECT * FROM %s %s", replaceTableNamePlaceholders(table.name()), query.toString()), query.getWheres().values().toArray());
+            // Preparing a forward only, read only statement so the driver is able to stream the rows
+            preparedStatement = track(connection.prepareStatement(getQueryStatement(clazz, table, Operation.SELECT, query), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY));
+            preparedStatement.setFetchSize(fetchSize);
+
+            // Binding our data
+            bind(preparedStatement, query.getParameters(), getParameterCodecs(clazz, query));
 
             // Execute our PreparedStatement
             resultSet = preparedStatement.executeQuery();
 
-            // Whilst there's results, parse and add to the results
-            while (resultSet.next())
-            {
-                try {
-                    // Create a new instance for this class
-                    T instance = clazz.newInstance();
-
-                    // Attempt to parse the class
-                    populate(instance, resultSet);
-
-                    // Add to the results
-                    results.add(instance);
-                } catch (InstantiationException | IllegalAccessException e) {
-                    e.printStackTrace();
-                }
-            }
+            // Hand the resources over to the Cursor
+            return new Cursor<>(this, connection, preparedStatement, resultSet, RowMapper.of(clazz, resultSet));
         } catch (SQLException e) {
             // Print the stacktrace
             e.printStackTrace();
-        } finally {
+
+            // Release what we've opened
             closeResources(connection, preparedStatement, resultSet);
         }
 
-        // Return our results
-        return results;
+        // Return an empty Cursor
+        return new Cursor<>();
+    }
+
+    /**
+     * Stream all rows, decoding each row lazily
+     * @param clazz to get data for
+     * @param <T> the type to parse to
+     * @return the rows as a Stream, which must be closed
+     */
+    public <T> Stream<T> stream(Class<T> clazz)
+    {
+        return stream(clazz, new Query());
+    }
+
+    /**
+     * Stream all rows, decoding each row lazily
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @param <T> the type to parse to
+     * @return the rows as a Stream, which must be closed
+     */
+    public <T> Stream<T> stream(Class<T> clazz, Query query)
+    {
+        return cursor(clazz, query).stream();
+    }
+
+    /**
+     * Iterate through all rows, decoding each row lazily
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @param consumer to accept each row
+     * @param <T> the type to parse to
+     */
+    public <T> void forEach(Class<T> clazz, Query query, Consumer<? super T> consumer)
+    {
+        try (Cursor<T> cursor = cursor(clazz, query)) {
+            cursor.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * Stream a BLOB column of the first row matching a {@link Query} into a channel, without
+     * spooling it to a temporary file like decoding a {@link uk.co.loonyrules.sql.storage.BlobRef} does
+     * @param clazz the row belongs to
+     * @param query filter for the query
+     * @param column name of the BLOB column
+     * @param target channel to write the payload to, from its current position
+     * @return the number of bytes transferred, or -1 if the column is null or no row matched
+     * @throws IOException if the target can't be written
+     */
+    public long transferBlob(Class<?> clazz, Query query, String column, FileChannel target) throws IOException
+    {
+        try {
+            return executeTransferBlob(clazz, query, column, target);
+        } catch (SQLException e) {
+            // Print the stacktrace
+            e.printStackTrace();
+
+            // Nothing was transferred
+            return -1;
+        }
     }
 
     /**
@@ -413,49 +638,15 @@ public class Database
      */
     public long count(Class<?> clazz, Query query)
     {
-        // Number of rows counted
-        long numberOfRows = 0;
-
-        // Get the Table annotation wrapped in an Optional
-        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(clazz);
-
-        // Not found so throw an error
-        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + clazz + " when counting results.");
-
-        // Get the Table annotation
-        final Table table = tableOptional.get();
-
-        // Our SQL objects used
-        Connection connection = null;
-        PreparedStatement preparedStatement = null;
-        ResultSet resultSet = null;
-
-        // Wrapping in a SQLException try and catch
         try {
-            // Get a new connection
-            connection = getConnection();
-
-            // Preparing our statement
-            preparedStatement = prepare(connection, String.format("SELECT COUNT(*) FROM %s %s", replaceTableNamePlaceholders(table.name()), query.toString()), query.getWheres().values().toArray());
-
-            // Execute the query
-            resultSet = preparedStatement.executeQuery();
-
-            // Get number of rows
-            if(resultSet.first() || resultSet.next())
-            {
-                // Get the number of rows it counted
-                numberOfRows = resultSet.getInt("COUNT(*)");
-            }
+            return executeCount(clazz, query);
         } catch (SQLException e) {
             // Print the stacktrace
             e.printStackTrace();
-        } finally {
-            closeResources(connection, preparedStatement, resultSet);
-        }
 
-        // Return our results
-        return numberOfRows;
+            // Nothing was counted
+            return 0;
+        }
     }
 
     /**
@@ -475,6 +666,9 @@ public class Database
      */
     public long delete(Object object)
     {
+        // No longer need to track this Object's changes
+        this.changeTracker.forget(object);
+
         // Delete via an auto-generated Query using a @Primary Field
         return delete(object.getClass(), Query.generatePrimary(object));
     }
@@ -487,41 +681,15 @@ public class Database
      */
     public long delete(Class<?> clazz, Query query)
     {
-        // Number of rows deleted
-        long deletedCount = 0;
-
-        // Get the Table annotation wrapped in an Optional
-        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(clazz);
-
-        // Not found so throw an error
-        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + clazz + " when deleting results.");
-
-        // Get the Table annotation
-        final Table table = tableOptional.get();
-
-        // Our SQL objects used
-        Connection connection = null;
-        PreparedStatement preparedStatement = null;
-
-        // Wrapping in a SQLException try and catch
         try {
-            // Get a new connection
-            connection = getConnection();
-
-            // Preparing our statement
-            preparedStatement = prepare(connection, String.format("DELETE FROM %s %s", replaceTableNamePlaceholders(table.name()), query.toString()), query.getWheres().values().toArray());
-
-            // Execute our PreparedStatement
-            deletedCount = preparedStatement.executeLargeUpdate();
+            return executeDelete(clazz, query);
         } catch (SQLException e) {
             // Print the stacktrace
             e.printStackTrace();
-        } finally {
-            closeResources(connection, preparedStatement);
-        }
 
-        // Return our results
-        return deletedCount;
+            // Nothing was deleted
+            return 0;
+        }
     }
 
     /**
@@ -558,6 +726,9 @@ public class Database
             // Execute our query
             resultSet = preparedStatement.executeQuery();
 
+            // Get the RowMapper for our TableColumn model
+            final RowMapper<TableColumn> rowMapper = RowMapper.of(TableColumn.class, resultSet);
+
             // While we have results...
             while (resultSet.next())
             {
@@ -565,7 +736,7 @@ public class Database
                 TableColumn tableColumn = new TableColumn();
 
                 // Populate our Object
-                populate(tableColumn, resultSet);
+                rowMapper.populate(tableColumn, resultSet);
 
                 // Adding to the List
                 columns.add(tableColumn);
@@ -682,6 +853,11 @@ public class Database
             closeResources(connection, preparedStatement);
         }
 
+        // Cached rows no longer have the same columns
+        written(clazz);
+        this.entityCache.invalidateAll(clazz);
+        this.tableReplicas.invalidate(clazz);
+
         // Return the modified variable
         return modified;
     }
@@ -702,42 +878,11 @@ public class Database
      */
     public void reload(Object object, Query query)
     {
-        // Get the Table annotation wrapped in an Optional
-        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(object.getClass());
-
-        // Not found so throw an error
-        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + object.getClass() + " when reloading.");
-
-        // Get the Table annotation
-        final Table table = tableOptional.get();
-
-        // Limit our response to 1
-        query.limit(1);
-
-        // Our SQL objects used
-        Connection connection = null;
-        PreparedStatement preparedStatement = null;
-        ResultSet resultSet = null;
-
-        // Wrapping in a SQLException try and catch
         try {
-            // Get a new connection
-            connection = getConnection();
-
-            // Preparing our statement
-            preparedStatement = prepare(connection, String.format("SELECT * FROM %s %s", replaceTableNamePlaceholders(table.name()), query.toString()), query.getWheres().values().toArray());
-
-            // Execute our PreparedStatement
-            resultSet = preparedStatement.executeQuery();
-
-            // If there's results then populate else throw error
-            if (resultSet.next())
-                populate(object, resultSet);
+            executeReload(object, query);
         } catch (SQLException e) {
             // Print the stacktrace
             e.printStackTrace();
-        } finally {
-            closeResources(connection, preparedStatement, resultSet);
         }
     }
 
@@ -747,183 +892,1616 @@ public class Database
      */
     public void save(Object object)
     {
-        // Get the Table annotation wrapped in an Optional
-        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(object.getClass());
-
-        // Not found so throw an error
-        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + object.getClass() + " when saving.");
+        try {
+            executeSave(object);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
 
-        // Get the Table annotation
-        final Table table = tableOptional.get();
+    /**
+     * Save a Collection of Objects with a @Table annotation, batching the upserts
+     * @param objects to save
+     */
+    public void saveAll(Collection<?> objects)
+    {
+        saveAll(objects, this.credentials.getBatchSize());
+    }
 
-        // Get the Primary Field and the true name of the Primary Column
-        final Optional<Field> primaryOptional = ReflectionUtil.getPrimaryField(object.getClass());
+    /**
+     * Save a Collection of Objects with a @Table annotation, batching the upserts
+     * @param objects to save
+     * @param chunkSize maximum number of rows sent in one batch
+     */
+    public void saveAll(Collection<?> objects, int chunkSize)
+    {
+        try {
+            executeSaveAll(objects, chunkSize);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
 
-        // Generating our Query objects
-        final Query query = Query.from(object);
+    /**
+     * Asynchronously save a Collection of Objects with a @Table annotation, batching the upserts
+     * @param objects to save
+     * @return future completed once the Objects are saved
+     */
+    public CompletableFuture<Void> saveAllAsync(Collection<?> objects)
+    {
+        return saveAllAsync(objects, this.executorService);
+    }
 
-        // Our SQL objects used
-        Connection connection = null;
+    /**
+     * Asynchronously save a Collection of Objects with a @Table annotation, batching the upserts
+     * @param objects to save
+     * @param chunkSize maximum number of rows sent in one batch
+     * @return future completed once the Objects are saved
+     */
+    public CompletableFuture<Void> saveAllAsync(Collection<?> objects, int chunkSize)
+    {
+        return saveAllAsync(objects, chunkSize, this.executorService);
+    }
+
+    /**
+     * Asynchronously save a Collection of Objects with a @Table annotation, batching the upserts
+     * @param objects to save
+     * @param executor to run the query on
+     * @return future completed once the Objects are saved
+     */
+    public CompletableFuture<Void> saveAllAsync(Collection<?> objects, Executor executor)
+    {
+        return saveAllAsync(objects, this.credentials.getBatchSize(), executor);
+    }
+
+    /**
+     * Asynchronously save a Collection of Objects with a @Table annotation, batching the upserts
+     * @param objects to save
+     * @param chunkSize maximum number of rows sent in one batch
+     * @param executor to run the query on
+     * @return future completed once the Objects are saved
+     */
+    public CompletableFuture<Void> saveAllAsync(Collection<?> objects, int chunkSize, Executor executor)
+    {
+        return supplyAsync(() -> {
+            executeSaveAll(objects, chunkSize);
+            return null;
+        }, executor);
+    }
+
+    /**
+     * Asynchronously find all rows and get back a list of the object provided
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @param <T> the type to parse to
+     * @return future completed with all found results
+     */
+    public <T> CompletableFuture<List<T>> findAsync(Class<T> clazz, Query query)
+    {
+        return findAsync(clazz, query, this.executorService);
+    }
+
+    /**
+     * Asynchronously find all rows and get back a list of the object provided
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @param executor to run the query on
+     * @param <T> the type to parse to
+     * @return future completed with all found results
+     */
+    public <T> CompletableFuture<List<T>> findAsync(Class<T> clazz, Query query, Executor executor)
+    {
+        return supplyAsync(() -> executeFind(clazz, query), executor);
+    }
+
+    /**
+     * Asynchronously find the first row and parse to the object provided
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @param <T> the type to parse to
+     * @return future completed with the first found result wrapped in an Optional
+     */
+    public <T> CompletableFuture<Optional<T>> findFirstAsync(Class<T> clazz, Query query)
+    {
+        return findFirstAsync(clazz, query, this.executorService);
+    }
+
+    /**
+     * Asynchronously find the first row and parse to the object provided
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @param executor to run the query on
+     * @param <T> the type to parse to
+     * @return future completed with the first found result wrapped in an Optional
+     */
+    public <T> CompletableFuture<Optional<T>> findFirstAsync(Class<T> clazz, Query query, Executor executor)
+    {
+        return supplyAsync(() -> executeFind(clazz, query.limit(query.getSkip() + 1)).stream().findFirst(), executor);
+    }
+
+    /**
+     * Asynchronously save an Object with a @Table annotation
+     * @param object to save
+     * @return future completed once the Object is saved
+     */
+    public CompletableFuture<Void> saveAsync(Object object)
+    {
+        return saveAsync(object, this.executorService);
+    }
+
+    /**
+     * Asynchronously save an Object with a @Table annotation
+     * @param object to save
+     * @param executor to run the query on
+     * @return future completed once the Object is saved
+     */
+    public CompletableFuture<Void> saveAsync(Object object, Executor executor)
+    {
+        return supplyAsync(() -> {
+            executeSave(object);
+            return null;
+        }, executor);
+    }
+
+    /**
+     * Asynchronously delete a row specified with an Object that has a @Primary @Column Field
+     * @param object to generate Query off of for deletion
+     * @return future completed with the number of rows deleted
+     */
+    public CompletableFuture<Long> deleteAsync(Object object)
+    {
+        // No longer need to track this Object's changes
+        this.changeTracker.forget(object);
+
+        return deleteAsync(object.getClass(), Query.generatePrimary(object));
+    }
+
+    /**
+     * Asynchronously delete all rows associated with the clazz @Table data matching a Query
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @return future completed with the number of rows deleted
+     */
+    public CompletableFuture<Long> deleteAsync(Class<?> clazz, Query query)
+    {
+        return deleteAsync(clazz, query, this.executorService);
+    }
+
+    /**
+     * Asynchronously delete all rows associated with the clazz @Table data matching a Query
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @param executor to run the query on
+     * @return future completed with the number of rows deleted
+     */
+    public CompletableFuture<Long> deleteAsync(Class<?> clazz, Query query, Executor executor)
+    {
+        return supplyAsync(() -> executeDelete(clazz, query), executor);
+    }
+
+    /**
+     * Asynchronously count the number of rows for a {@link Class} that matches a {@link Query}
+     * @param clazz to check for
+     * @param query filter for this query
+     * @return future completed with the number of rows counted
+     */
+    public CompletableFuture<Long> countAsync(Class<?> clazz, Query query)
+    {
+        return countAsync(clazz, query, this.executorService);
+    }
+
+    /**
+     * Asynchronously count the number of rows for a {@link Class} that matches a {@link Query}
+     * @param clazz to check for
+     * @param query filter for this query
+     * @param executor to run the query on
+     * @return future completed with the number of rows counted
+     */
+    public CompletableFuture<Long> countAsync(Class<?> clazz, Query query, Executor executor)
+    {
+        return supplyAsync(() -> executeCount(clazz, query), executor);
+    }
+
+    /**
+     * Asynchronously reload an @Table object to get new data
+     * @param object the object to reload data for
+     * @param <T> type of the object
+     * @return future completed with the reloaded object
+     */
+    public <T> CompletableFuture<T> reloadAsync(T object)
+    {
+        return reloadAsync(object, Query.generatePrimary(object), this.executorService);
+    }
+
+    /**
+     * Asynchronously reload an @Table object to get new data
+     * @param object to reload data for
+     * @param query query to execute to get the row data
+     * @param executor to run the query on
+     * @param <T> type of the object
+     * @return future completed with the reloaded object
+     */
+    public <T> CompletableFuture<T> reloadAsync(T object, Query query, Executor executor)
+    {
+        return supplyAsync(() -> {
+            executeReload(object, query);
+            return object;
+        }, executor);
+    }
+
+    /**
+     * Close MySQL resources used
+     * @param connection used in a query
+     */
+    public void closeResources(Connection connection)
+    {
+        closeResources(connection, null);
+    }
+
+    /**
+     * Close MySQL resources used
+     * @param connection used in a query
+     * @param preparedStatement used in a query
+     */
+    public void closeResources(Connection connection, PreparedStatement preparedStatement)
+    {
+        closeResources(connection, preparedStatement, null);
+    }
+
+    /**
+     * Close MySQL resources used
+     * @param connection used in a query
+     * @param preparedStatement used in a query
+     * @param resultSet used in a query
+     */
+    public void closeResources(Connection connection, PreparedStatement preparedStatement, ResultSet resultSet)
+    {
+        // Untracked first so it can't be cancelled once its Connection is back in the pool
+        if(preparedStatement != null)
+        {
+            final QueryFuture<?> future = this.trackedStatements.remove(preparedStatement);
+
+            if(future != null)
+                future.untrack(preparedStatement);
+        }
+
+        try {
+            // Closing our Connection
+            if(connection != null && !connection.isClosed())
+                connection.close();
+
+            // Closing our PreparedStatement
+            if(preparedStatement != null && !preparedStatement.isClosed())
+                preparedStatement.close();
+
+            // Closing our ResultSet
+            if(resultSet != null && !resultSet.isClosed())
+                resultSet.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+
+        // Closing payload streams the driver didn't read to the end
+        if(preparedStatement != null)
+            BlobRefCodec.closeStreams(preparedStatement);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Run a query on an Executor, reporting the result or failure through a {@link CompletableFuture}.
+     * Cancelling the future cancels the statements the query is executing.
+     * @param callable the query to run
+     * @param executor to run the query on
+     * @param <R> type of the result
+     * @return future completed with the query result
+     */
+    private <R> CompletableFuture<R> supplyAsync(SQLCallable<R> callable, Executor executor)
+    {
+        // The future we're handing back
+        final QueryFuture<R> future = new QueryFuture<>();
+
+        try {
+            executor.execute(() -> {
+                // Cancelled before we've started
+                if(future.isDone())
+                    return;
+
+                // Statements prepared on this thread belong to our future
+                this.currentFuture.set(future);
+
+                try {
+                    future.complete(callable.call());
+                } catch (Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                } finally {
+                    this.currentFuture.remove();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Track a statement so it's cancelled with the {@link QueryFuture} running on this thread
+     * @param statement to track
+     * @param <S> type of the statement
+     * @return the statement for chaining
+     */
+    private <S extends Statement> S track(S statement)
+    {
+        // Get the future running on this thread
+        final QueryFuture<?> future = this.currentFuture.get();
+
+        if(future != null)
+        {
+            this.trackedStatements.put(statement, future);
+            future.track(statement);
+        }
+
+        return statement;
+    }
+
+    /**
+     * Find all rows and get back a list of the object provided
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @param <T> the type to parse to
+     * @return all found results
+     * @throws SQLException if an error is encountered
+     */
+    private <T> List<T> executeFind(Class<T> clazz, Query query) throws SQLException
+    {
+        // Get the Table annotation wrapped in an Optional
+        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(clazz);
+
+        // Not found so throw an error
+        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + clazz + " when find results.");
+
+        // Get the Table annotation
+        final Table table = tableOptional.get();
+
+        // Answer from the replicated rows or the cached row
+        final List<T> inMemory = findInMemory(clazz, query);
+
+        if(inMemory != null)
+            return inMemory;
+
+        // Serve repeated Queries from the cache
+        final List<T> cachedResults = this.queryCache.find(clazz, query);
+
+        if(cachedResults != null)
+            return cachedResults;
+
+        // Taken before reading so a write whilst we're reading isn't missed
+        final long generation = this.queryCache.getGeneration(clazz);
+        final long entityGeneration = this.entityCache.getGeneration(clazz);
+
+        // Read the rows, sharing them with identical reads running at the same time
+        final List<T> results = this.credentials.isCoalesceReads()
+                ? this.readCoalescer.execute(clazz, Operation.SELECT, query, () -> executeSelect(clazz, table, query))
+                : executeSelect(clazz, table, query);
+
+        // Remember what we loaded
+        results.forEach(this.changeTracker::snapshot);
+
+        // Cache the row a @Primary lookup found
+        if(results.size() == 1 && this.entityCache.isPrimaryLookup(clazz, query))
+            this.entityCache.put(results.get(0), entityGeneration);
+
+        // Cache what this Query found
+        this.queryCache.putFind(clazz, query, results, generation);
+
+        // Return our results
+        return results;
+    }
+
+    /**
+     * Find the rows matching a {@link Query} from the replicated rows, or the cached row of a @Primary lookup
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @param <T> the type to parse to
+     * @return all found results, or null if they have to be read from MySQL
+     */
+    <T> List<T> findInMemory(Class<T> clazz, Query query)
+    {
+        // Answer from the replicated rows
+        final List<T> replicated = this.tableReplicas.find(clazz, query);
+
+        if(replicated != null)
+            return replicated;
+
+        // Serve @Primary lookups from the cache
+        final T cached = this.entityCache.get(clazz, query);
+
+        return cached == null ? null : Lists.newArrayList(cached);
+    }
+
+    /**
+     * Find the rows of many @Primary values with a single {@code SELECT [...] WHERE pk IN (...)},
+     * used by the {@link BatchLoader}
+     * @param clazz to get data for
+     * @param primaryColumn name of the @Primary column
+     * @param keys the @Primary values
+     * @param <T> the type to parse to
+     * @return the rows found, in no particular order
+     * @throws SQLException if an error is encountered
+     */
+    <T> List<T> findByPrimary(Class<T> clazz, String primaryColumn, List<Object> keys) throws SQLException
+    {
+        // Get the Table annotation wrapped in an Optional
+        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(clazz);
+
+        // Not found so throw an error
+        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + clazz + " when finding by @Primary.");
+
+        // Get the Table annotation
+        final Table table = tableOptional.get();
+
+        // Padding to a power of two with the last key so only a few statements are ever built
+        final int size = keys.size() == 1 ? 1 : Integer.highestOneBit(keys.size() - 1) << 1;
+        final Object[] values = keys.toArray(new Object[size]);
+        Arrays.fill(values, keys.size(), size, keys.get(keys.size() - 1));
+
+        // Every value of the @Primary column's type is bound with its Codec
+        final Field primaryField = getColumnFields(clazz, new String[] { primaryColumn })[0];
+        final Codec primaryCodec = primaryField == null ? null : ReflectionUtil.getColumnCodec(primaryField);
+        final Codec[] codecs = new Codec[size];
+
+        for(int i = 0; i < size; i++)
+            codecs[i] = primaryCodec != null && isColumnValue(primaryField, values[i]) ? primaryCodec : null;
+
+        // Our statement for this many keys
+        final String statement = this.statementCache.get(clazz, Operation.SELECT_IN, new String[] { primaryColumn }, size, () -> String.format(
+                "SELECT * FROM %s WHERE `%s` IN (%s)",
+                replaceTableNamePlaceholders(table.name()),
+                primaryColumn,
+                String.join(",", Collections.nCopies(size, "?"))
+        ));
+
+        // Where we'll store our Results
+        final List<T> results = Lists.newArrayListWithCapacity(keys.size());
+
+        // Taken before reading so a write whilst we're reading isn't missed
+        final long generation = this.entityCache.getGeneration(clazz);
+
+        // Our SQL objects used
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+
+        try {
+            // Get a new connection
+            connection = getConnection();
+
+            // Preparing our statement
+            preparedStatement = prepare(connection, statement, values, codecs);
+
+            // Execute our PreparedStatement
+            resultSet = preparedStatement.executeQuery();
+
+            // Get the RowMapper for this Class and column layout
+            final RowMapper<T> rowMapper = RowMapper.of(clazz, resultSet);
+
+            // Whilst there's results, parse and add to the results
+            while (resultSet.next())
+            {
+                try {
+                    // Map the row to a new instance
+                    final T result = rowMapper.map(resultSet);
+
+                    // Remember what we loaded and add to the results
+                    this.changeTracker.snapshot(result);
+                    this.entityCache.put(result, generation);
+                    results.add(result);
+                } catch (ReflectiveOperationException e) {
+                    e.printStackTrace();
+                }
+            }
+        } finally {
+            closeResources(connection, preparedStatement, resultSet);
+        }
+
+        // Return our results
+        return results;
+    }
+
+    /**
+     * Read the rows matching a {@link Query} from MySQL, without any caching
+     * @param clazz to get data for
+     * @param table of the Class
+     * @param query filter for the query
+     * @param <T> the type to parse to
+     * @return all found results
+     * @throws SQLException if an error is encountered
+     */
+    private <T> List<T> executeSelect(Class<T> clazz, Table table, Query query) throws SQLException
+    {
+        // Where we'll store our Results
+        final List<T> results = Lists.newArrayList();
+
+        // Our SQL objects used
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+
+        try {
+            // Get a new connection
+            connection = getConnection();
+
+            // Preparing our statement
+            preparedStatement = prepare(connection, getQueryStatement(clazz, table, Operation.SELECT, query), query.getParameters(), getParameterCodecs(clazz, query));
+
+            // Execute our PreparedStatement
+            resultSet = preparedStatement.executeQuery();
+
+            // Get the RowMapper for this Class and column layout
+            final RowMapper<T> rowMapper = RowMapper.of(clazz, resultSet);
+
+            // Whilst there's results, parse and add to the results
+            while (resultSet.next())
+            {
+                try {
+                    // Map the row to a new instance and add to the results
+                    results.add(rowMapper.map(resultSet));
+                } catch (ReflectiveOperationException e) {
+                    e.printStackTrace();
+                }
+            }
+        } finally {
+            closeResources(connection, preparedStatement, resultSet);
+        }
+
+        // Return our results
+        return results;
+    }
+
+    /**
+     * Count the number of rows for a {@link Class} that matches a {@link Query}
+     * @param clazz to check for
+     * @param query filter for this query
+     * @return number of rows counted after filtering
+     * @throws SQLException if an error is encountered
+     */
+    private long executeCount(Class<?> clazz, Query query) throws SQLException
+    {
+        // Get the Table annotation wrapped in an Optional
+        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(clazz);
+
+        // Not found so throw an error
+        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + clazz + " when counting results.");
+
+        // Get the Table annotation
+        final Table table = tableOptional.get();
+
+        // Answer from the replicated rows
+        final Long replicated = this.tableReplicas.count(clazz, query);
+
+        if(replicated != null)
+            return replicated;
+
+        // Serve repeated Queries from the cache
+        final Long cached = this.queryCache.count(clazz, query);
+
+        if(cached != null)
+            return cached;
+
+        // Taken before counting so a write whilst we're counting isn't missed
+        final long generation = this.queryCache.getGeneration(clazz);
+
+        // Count the rows, sharing the count with identical counts running at the same time
+        final long numberOfRows = this.credentials.isCoalesceReads()
+                ? this.readCoalescer.execute(clazz, Operation.COUNT, query, () -> executeSelectCount(clazz, table, query))
+                : executeSelectCount(clazz, table, query);
+
+        // Cache what this Query counted
+        this.queryCache.putCount(clazz, query, numberOfRows, generation);
+
+        // Return our results
+        return numberOfRows;
+    }
+
+    /**
+     * Count the rows matching a {@link Query} in MySQL, without any caching
+     * @param clazz to check for
+     * @param table of the Class
+     * @param query filter for this query
+     * @return number of rows counted after filtering
+     * @throws SQLException if an error is encountered
+     */
+    private long executeSelectCount(Class<?> clazz, Table table, Query query) throws SQLException
+    {
+        // Number of rows counted
+        long numberOfRows = 0;
+
+        // Our SQL objects used
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+
+        try {
+            // Get a new connection
+            connection = getConnection();
+
+            // Preparing our statement
+            preparedStatement = prepare(connection, getQueryStatement(clazz, table, Operation.COUNT, query), query.getParameters(), getParameterCodecs(clazz, query));
+
+            // Execute the query
+            resultSet = preparedStatement.executeQuery();
+
+            // Get number of rows
+            if(resultSet.first() || resultSet.next())
+            {
+                // Get the number of rows it counted
+                numberOfRows = resultSet.getInt("COUNT(*)");
+            }
+        } finally {
+            closeResources(connection, preparedStatement, resultSet);
+        }
+
+        // Return our results
+        return numberOfRows;
+    }
+
+    /**
+     * Stream a BLOB column of the first row matching a {@link Query} into a channel
+     * @param clazz the row belongs to
+     * @param query filter for the query
+     * @param column name of the BLOB column
+     * @param target channel to write the payload to, from its current position
+     * @return the number of bytes transferred, or -1 if the column is null or no row matched
+     * @throws SQLException if an error is encountered
+     * @throws IOException if the target can't be written
+     */
+    private long executeTransferBlob(Class<?> clazz, Query query, String column, FileChannel target) throws SQLException, IOException
+    {
+        // Get the Table annotation wrapped in an Optional
+        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(clazz);
+
+        // Not found so throw an error
+        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + clazz + " when transferring a BLOB.");
+
+        // Get the Field of the column so only real column names end up in the statement
+        final Optional<Field> fieldOptional = ReflectionUtil.getColumnField(ReflectionUtil.getFields(clazz), column);
+
+        Preconditions.checkArgument(fieldOptional.isPresent(), "Column " + column + " not found for " + clazz + " when transferring a BLOB.");
+
+        // The true name of the column
+        final String columnName = ReflectionUtil.getColumnName(fieldOptional.get());
+
+        // Our statement keyed by the column we're reading and the "WHERE" columns
+        final String[] whereColumns = query.getWhereColumns();
+        final String[] columns = new String[whereColumns.length + 1];
+        columns[0] = columnName;
+        System.arraycopy(whereColumns, 0, columns, 1, whereColumns.length);
+
+        final String statement = this.statementCache.get(clazz, Operation.BLOB, columns, query.getLimitShape(), () -> String.format(
+                "SELECT `%s` FROM %s %s",
+                columnName,
+                replaceTableNamePlaceholders(tableOptional.get().name()),
+                query.buildTemplate()
+        ));
+
+        // Our SQL objects used
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+
+        try {
+            // Get a new connection
+            connection = getConnection();
+
+            // Preparing a forward only, read only statement so the driver streams the payload
+            preparedStatement = track(connection.prepareStatement(statement, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY));
+            preparedStatement.setFetchSize(Integer.MIN_VALUE);
+
+            // Binding our data
+            bind(preparedStatement, query.getParameters(), getParameterCodecs(clazz, query));
+
+            // Execute our PreparedStatement
+            resultSet = preparedStatement.executeQuery();
+
+            // Transfer the first row's payload
+            return resultSet.next() ? BlobRefCodec.transfer(resultSet, columnName, target) : -1;
+        } finally {
+            closeResources(connection, preparedStatement, resultSet);
+        }
+    }
+
+    /**
+     * Finds all rows associated with the clazz @Table data and deletes them
+     * @param clazz to get data for
+     * @param query filter for the query
+     * @return number of rows deleted
+     * @throws SQLException if an error is encountered
+     */
+    private long executeDelete(Class<?> clazz, Query query) throws SQLException
+    {
+        // Number of rows deleted
+        long deletedCount = 0;
+
+        // Get the Table annotation wrapped in an Optional
+        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(clazz);
+
+        // Not found so throw an error
+        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + clazz + " when deleting results.");
+
+        // Get the Table annotation
+        final Table table = tableOptional.get();
+
+        // Our SQL objects used
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+
+        try {
+            // Get a new connection
+            connection = getConnection();
+
+            // Preparing our statement
+            preparedStatement = prepare(connection, getQueryStatement(clazz, table, Operation.DELETE, query), query.getParameters(), getParameterCodecs(clazz, query));
+
+            // Execute our PreparedStatement
+            deletedCount = preparedStatement.executeLargeUpdate();
+
+            // Remove the deleted rows from the replicated rows
+            this.tableReplicas.deleted(clazz, query);
+        } finally {
+            // Drop what we could have deleted, even if the statement failed part way
+            written(clazz);
+            this.entityCache.invalidate(clazz, query);
+
+            closeResources(connection, preparedStatement);
+        }
+
+        // Return our results
+        return deletedCount;
+    }
+
+    /**
+     * Reload an @Table object to get new data
+     * @param object to reload data for
+     * @param query query to execute to get the row data
+     * @throws SQLException if an error is encountered
+     */
+    private void executeReload(Object object, Query query) throws SQLException
+    {
+        // Get the Table annotation wrapped in an Optional
+        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(object.getClass());
+
+        // Not found so throw an error
+        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + object.getClass() + " when reloading.");
+
+        // Get the Table annotation
+        final Table table = tableOptional.get();
+
+        // Limit our response to 1
+        query.limit(1);
+
+        // Populate from the cache if we can
+        if(this.entityCache.populate(object, query))
+            return;
+
+        // Taken before reading so a write whilst we're reading isn't missed
+        final long generation = this.entityCache.getGeneration(object.getClass());
+
+        // Our SQL objects used
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+
+        try {
+            // Get a new connection
+            connection = getConnection();
+
+            // Preparing our statement
+            preparedStatement = prepare(connection, getQueryStatement(object.getClass(), table, Operation.SELECT, query), query.getParameters(), getParameterCodecs(object.getClass(), query));
+
+            // Execute our PreparedStatement
+            resultSet = preparedStatement.executeQuery();
+
+            // If there's results then populate else throw error
+            if (resultSet.next())
+            {
+                RowMapper.of(object.getClass(), resultSet).populate(object, resultSet);
+
+                // Remember what we loaded
+                this.changeTracker.snapshot(object);
+
+                // Cache the row a @Primary lookup found
+                if(this.entityCache.isPrimaryLookup(object.getClass(), query))
+                    this.entityCache.put(object, generation);
+            }
+        } finally {
+            closeResources(connection, preparedStatement, resultSet);
+        }
+    }
+
+    /**
+     * Save a Collection of Objects with a @Table annotation, grouping them by Class and
+     * upsert statement so each group is sent with JDBC batching
+     * @param objects to save
+     * @param chunkSize maximum number of rows sent in one batch
+     * @throws SQLException if an error is encountered
+     */
+    private void executeSaveAll(Collection<?> objects, int chunkSize) throws SQLException
+    {
+        // Ensuring our chunks hold something
+        Preconditions.checkArgument(chunkSize > 0, "Chunk size must be greater than 0.");
+
+        // Our batches grouped by Class and then by statement
+        final Map<Class<?>, Map<String, Batch>> batches = Maps.newLinkedHashMap();
+
+        // Iterate through every Object and add it to its batch
+        for(Object object : objects)
+            addToBatch(batches.computeIfAbsent(object.getClass(), clazz -> Maps.newLinkedHashMap()), object);
+
+        // Our SQL objects used
+        Connection connection = null;
         PreparedStatement preparedStatement = null;
 
-        try {
-            // Get a new Connection
-            connection = getConnection();
+        try {
+            // Get a new Connection
+            connection = getConnection();
+
+            // Iterate through every batch
+            for(Map.Entry<Class<?>, Map<String, Batch>> classBatches : batches.entrySet())
+            {
+                for(Batch batch : classBatches.getValue().values())
+                {
+                    // Prepare our statement, asking for the generated keys if we need them
+                    preparedStatement = track(connection.prepareStatement(
+                            batch.statement,
+                            batch.keyAccessor == null ? Statement.NO_GENERATED_KEYS : Statement.RETURN_GENERATED_KEYS
+                    ));
+
+                    // Index of the first Object in the current chunk
+                    int chunkStart = 0;
+
+                    for(int i = 0; i < batch.objects.size(); i++)
+                    {
+                        // Binding this Object's values, or reading them from its Fields
+                        if(batch.accessors == null)
+                            bind(preparedStatement, batch.values.get(i), batch.codecs);
+                        else
+                            bind(preparedStatement, 0, batch.objects.get(i), batch.accessors, batch.codecs);
+
+                        preparedStatement.addBatch();
+
+                        // Chunk isn't full and there's more to add
+                        if(i + 1 - chunkStart < chunkSize && i + 1 < batch.objects.size())
+                            continue;
+
+                        // Send this chunk
+                        preparedStatement.executeBatch();
+
+                        // Write the generated keys back to the Objects in this chunk
+                        if(batch.keyAccessor != null)
+                            assignGeneratedKeys(preparedStatement, batch.keyAccessor, batch.objects.subList(chunkStart, i + 1));
+
+                        chunkStart = i + 1;
+                    }
+
+                    // Close this statement before the next batch
+                    closeResources(null, preparedStatement);
+                    preparedStatement = null;
+
+                    // Remember what we've written, stopping reads joining older reads before caching
+                    written(classBatches.getKey());
+                    batch.objects.forEach(this.changeTracker::snapshot);
+                    batch.objects.forEach(this.entityCache::saved);
+                    batch.objects.forEach(this.tableReplicas::saved);
+                }
+            }
+        } catch (SQLException e) {
+            // Can't tell which rows a failed batch wrote, so reload the replicated rows
+            batches.keySet().forEach(this.tableReplicas::invalidate);
+
+            throw e;
+        } finally {
+            // Drop the results of every Class we could have written to, even if a batch failed part way
+            batches.keySet().forEach(this::written);
+
+            // Close the resources we've used.
+            closeResources(connection, preparedStatement);
+        }
+    }
+
+    /**
+     * Add an Object to the batch for its upsert statement
+     * @param batches for the Object's Class keyed by statement
+     * @param object to add
+     */
+    private void addToBatch(Map<String, Batch> batches, Object object)
+    {
+        // Get the Table annotation wrapped in an Optional
+        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(object.getClass());
+
+        // Not found so throw an error
+        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + object.getClass() + " when saving.");
+
+        // Get the Primary Field
+        final Optional<Field> primaryOptional = ReflectionUtil.getPrimaryField(object.getClass());
+
+        // Get the changes if this Object is tracked and we've seen it before
+        final List<Field> changes = getTrackedChanges(object, primaryOptional);
+
+        // Only write what's changed
+        if(changes != null)
+        {
+            if(!changes.isEmpty())
+                batches.computeIfAbsent(buildUpdateStatement(object.getClass(), tableOptional.get(), primaryOptional.get(), changes), key -> new Batch(key, getUpdateCodecs(object.getClass(), primaryOptional.get(), changes), null, null))
+                        .add(object, getUpdateValues(object, primaryOptional.get(), changes));
+
+            return;
+        }
+
+        // Get the generated EntityMapper if there is one
+        final EntityMapper<Object> entityMapper = (EntityMapper<Object>) EntityMappers.get(object.getClass());
+
+        // The columns we're saving and their values, or the FieldAccessors to read them with
+        final List<String> columns;
+        final Object[] values;
+        final FieldAccessor[] accessors;
+        final boolean primaryUnassigned;
+
+        // Prefer the generated EntityMapper over Reflection
+        if(entityMapper != null)
+        {
+            primaryUnassigned = entityMapper.isPrimaryUnassigned(object);
+            values = entityMapper.bind(object, !primaryUnassigned);
+            accessors = null;
+            columns = Arrays.asList(getMapperColumns(entityMapper, !primaryUnassigned));
+        } else {
+            // The Fields we're saving, read when they're bound
+            accessors = getSaveAccessors(object);
+
+            columns = Arrays.asList(getColumnNames(accessors));
+            values = null;
+            primaryUnassigned = primaryOptional
+                    .map(field -> !columns.contains(ReflectionUtil.getColumnName(field)))
+                    .orElse(false);
+        }
+
+        // The columns in the order they're bound
+        final String[] columnArray = columns.toArray(new String[columns.size()]);
+
+        // Building the statement for this set of columns
+        final String statement = this.statementCache.get(object.getClass(), Operation.BATCH_UPSERT, columnArray, 0, () -> String.format(
+                "INSERT INTO `%s` (%s) VALUES (%s) ON DUPLICATE KEY UPDATE %s",
+                replaceTableNamePlaceholders(tableOptional.get().name()),
+                columns.stream().map(column -> "`" + column + "`").collect(Collectors.joining(", ")),
+                columns.stream().map(column -> "?").collect(Collectors.joining(", ")),
+                columns.stream().map(column -> "`" + column + "`=VALUES(`" + column + "`)").collect(Collectors.joining(", "))
+        ));
+
+        // Add to the batch for this statement
+        batches.computeIfAbsent(statement, key -> new Batch(
+                key,
+                accessors == null ? getColumnCodecs(object.getClass(), columnArray) : getAccessorCodecs(accessors),
+                accessors,
+                primaryUnassigned ? ReflectionUtil.getAccessor(primaryOptional.get()) : null
+        )).add(object, values);
+    }
+
+    /**
+     * Assign the auto-incremented keys generated by a batch to its Objects
+     * @param preparedStatement the batch was executed on
+     * @param accessor of the @Primary Field
+     * @param objects in the order they were added to the batch
+     * @throws SQLException if an error is encountered
+     */
+    private void assignGeneratedKeys(PreparedStatement preparedStatement, FieldAccessor accessor, List<Object> objects) throws SQLException
+    {
+        try (ResultSet resultSet = preparedStatement.getGeneratedKeys())
+        {
+            // Keys are returned in the order the rows were inserted
+            for(int i = 0; i < objects.size() && resultSet.next(); i++)
+                assignKey(accessor, objects.get(i), resultSet);
+        }
+    }
+
+    /**
+     * Save an Object with a @Table annotation
+     * @param object to save
+     * @throws SQLException if an error is encountered
+     */
+    private void executeSave(Object object) throws SQLException
+    {
+        // Get the Table annotation wrapped in an Optional
+        final Optional<Table> tableOptional = ReflectionUtil.getTableAnnotation(object.getClass());
+
+        // Not found so throw an error
+        Preconditions.checkArgument(tableOptional.isPresent(), "@Table annotation not found for " + object.getClass() + " when saving.");
+
+        // Get the Table annotation
+        final Table table = tableOptional.get();
+
+        // Get the Primary Field and the true name of the Primary Column
+        final Optional<Field> primaryOptional = ReflectionUtil.getPrimaryField(object.getClass());
+
+        // Get the changes if this Object is tracked and we've seen it before
+        final List<Field> changes = getTrackedChanges(object, primaryOptional);
+
+        // Only write what's changed
+        if(changes != null)
+        {
+            if(!changes.isEmpty())
+                executeUpdate(object, table, primaryOptional.get(), changes);
+
+            return;
+        }
+
+        // Get the generated EntityMapper if there is one
+        final EntityMapper<Object> entityMapper = (EntityMapper<Object>) EntityMappers.get(object.getClass());
+
+        // Our query string, the values or FieldAccessors to bind and the Codecs for them
+        final String queryString;
+        final Object[] values;
+        final FieldAccessor[] accessors;
+        final Codec[] codecs;
+
+        // Prefer the generated EntityMapper over Reflection
+        if(entityMapper != null)
+        {
+            // Whether the @Primary column is being inserted
+            final boolean includePrimary = !entityMapper.isPrimaryUnassigned(object);
+
+            // Our pre-built query string
+            queryString = this.statementCache.get(object.getClass(), Operation.GENERATED_UPSERT, new String[0], includePrimary ? 1 : 0,
+                    () -> replaceTableNamePlaceholders(entityMapper.getUpsertStatement(includePrimary)));
+            values = entityMapper.bind(object, includePrimary);
+            accessors = null;
+            codecs = getColumnCodecs(object.getClass(), getMapperColumns(entityMapper, includePrimary));
+        } else {
+            // The Fields we're saving, read when they're bound
+            accessors = getSaveAccessors(object);
+
+            // The columns in the order they're bound
+            final String[] columns = getColumnNames(accessors);
 
             // Prepare our query string
-            String queryString = String.format(
+            queryString = this.statementCache.get(object.getClass(), Operation.UPSERT, columns, 0, () -> String.format(
                     /* Our query string with formatting */
                     "INSERT INTO `%s` (%s) VALUES (%s) ON DUPLICATE KEY UPDATE %s",
                     /* Table name */
                     replaceTableNamePlaceholders(table.name()),
                     /* Get the column names */
-                    query.getWheresAsColumns(),
+                    Arrays.stream(columns).map(column -> "`" + column + "`").collect(Collectors.joining(", ")),
                     /* Combining stuff */
-                    query.getWheresAsPlaceholders(),
+                    Arrays.stream(columns).map(column -> "?").collect(Collectors.joining(", ")),
                     /* Get our placeholders for our UPDATE formatting */
-                    query.buildConditionPlaceholders()
-            );
+                    Arrays.stream(columns).map(column -> column + "=?").collect(Collectors.joining(", "))
+            ));
+            values = null;
+            codecs = getAccessorCodecs(accessors);
+        }
 
-            // Prepare our query
-            preparedStatement = prepare(
+        // The @Primary Field to assign the generated key to, if it's not yet assigned
+        final FieldAccessor keyAccessor = primaryOptional
+                .filter(field -> field.getAnnotation(Primary.class).autoIncrement())
+                .map(ReflectionUtil::getAccessor)
+                .filter(accessor -> accessor.getLong(object) == 0)
+                .orElse(null);
+
+        // Our SQL objects used
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+
+        try {
+            // Get a new Connection
+            connection = getConnection();
+
+            // Prepare our query, asking for the generated key if we need it
+            preparedStatement = accessors == null ? prepare(
+                    connection,
+                    queryString,
+                    StorageUtil.combine(values, values),
+                    repeat(codecs),
+                    keyAccessor == null ? Statement.NO_GENERATED_KEYS : Statement.RETURN_GENERATED_KEYS
+            ) : prepareUpsert(
                     connection,
                     queryString,
-                    StorageUtil.combine(
-                            query.getWheres().values().toArray(),
-                            query.getWheres().values().toArray()
-                    )
+                    object,
+                    accessors,
+                    codecs,
+                    keyAccessor == null ? Statement.NO_GENERATED_KEYS : Statement.RETURN_GENERATED_KEYS
             );
 
             // Execute the statement
             preparedStatement.execute();
-        } catch(SQLException e) {
-            e.printStackTrace();
-        } finally {
-            // Close the resources we've used.
-            closeResources(connection, preparedStatement);
 
-            // Check if the @Primary is autoIncrement type and value = 0
-            if(primaryOptional.isPresent())
+            // We've a key to assign
+            if(keyAccessor != null)
             {
-                // Getting the Primary Field
-                final Field field = primaryOptional.get();
+                // Get the key generated by this statement
+                resultSet = preparedStatement.getGeneratedKeys();
 
-                // autoIncrement type so get last data
-                if(field.getAnnotation(Primary.class).autoIncrement())
-                {
-                    // Checking if the field is an int to get the last autoIncremented integer
-                    if(ParseUtil.toInt(ReflectionUtil.getFieldValue(field, object), 0) == 0)
-                    {
-                        ResultSet resultSet = null;
-
-                        try {
-                            // Get a new Connection
-                            connection = getConnection();
-
-                            // Prepare our statement
-                            preparedStatement = connection.prepareStatement("SELECT LAST_INSERT_ID()");
-
-                            // Execution was a success
-                            resultSet = preparedStatement.executeQuery();
-
-                            // There was a result
-                            if(resultSet.next())
-                            {
-                                try {
-                                    // Setting Field's value
-                                    field.set(object, resultSet.getInt(1));
-                                } catch (IllegalAccessException e) {
-                                    e.printStackTrace();
-                                }
-                            }
-                        } catch (SQLException e) {
-                            e.printStackTrace();
-                        } finally {
-                            // Closing connections
-                            closeResources(connection, preparedStatement, resultSet);
-                        }
-                    }
-                }
+                // There was a result so set the Field's value
+                if(resultSet.next())
+                    assignKey(keyAccessor, object, resultSet);
             }
+
+            // Remember what we've written
+            this.changeTracker.snapshot(object);
+            written(object.getClass());
+            this.entityCache.saved(object);
+            this.tableReplicas.saved(object);
+        } finally {
+            // Close the resources we've used.
+            closeResources(connection, preparedStatement, resultSet);
         }
     }
 
     /**
-     * Close MySQL resources used
-     * @param connection used in a query
+     * Drop the cached results of a Class that was written to, and stop reads
+     * from joining identical reads that started before the write
+     * @param clazz that was written to
      */
-    public void closeResources(Connection connection)
+    private void written(Class<?> clazz)
     {
-        closeResources(connection, null);
+        // Before the caches, so a read that saw them invalidated can't join a read from before the write
+        this.readCoalescer.written(clazz);
+        this.queryCache.invalidateAll(clazz);
     }
 
     /**
-     * Close MySQL resources used
-     * @param connection used in a query
-     * @param preparedStatement used in a query
+     * Get the cached statement for a SELECT, COUNT or DELETE Query
+     * @param clazz the Query is for
+     * @param table of the Class
+     * @param operation the statement performs
+     * @param query to get the statement for
+     * @return the statement to bind {@link Query#getParameters()} to
      */
-    public void closeResources(Connection connection, PreparedStatement preparedStatement)
+    private String getQueryStatement(Class<?> clazz, Table table, Operation operation, Query query)
     {
-        closeResources(connection, preparedStatement, null);
+        return this.statementCache.get(clazz, operation, query.getWhereColumns(), query.getLimitShape(), () -> String.format(
+                operation == Operation.COUNT ? "SELECT COUNT(*) FROM %s %s" : operation == Operation.DELETE ? "DELETE FROM %s %s" : "SELECT * FROM %s %s",
+                replaceTableNamePlaceholders(table.name()),
+                query.buildTemplate()
+        ));
     }
 
     /**
-     * Close MySQL resources used
-     * @param connection used in a query
-     * @param preparedStatement used in a query
-     * @param resultSet used in a query
+     * Get the Fields changed since a tracked Object was last loaded or saved
+     * @param object to get the changes for
+     * @param primaryOptional the @Primary Field of the Object
+     * @return the changed Fields, or null if the whole row should be written
      */
-    public void closeResources(Connection connection, PreparedStatement preparedStatement, ResultSet resultSet)
+    private List<Field> getTrackedChanges(Object object, Optional<Field> primaryOptional)
+    {
+        // Need a @Primary Field to know which row to update
+        if(!primaryOptional.isPresent() || !this.changeTracker.isTracked(object.getClass()))
+            return null;
+
+        // Get the changes since our last snapshot
+        final List<Field> changes = this.changeTracker.getChanges(object);
+
+        // Changing the @Primary moves the row so write the whole thing
+        return changes == null || changes.contains(primaryOptional.get()) ? null : changes;
+    }
+
+    /**
+     * Write only the changed columns of a tracked Object
+     * @param object to write
+     * @param table of the Object
+     * @param primary @Primary Field of the Object
+     * @param changes Fields to write
+     * @throws SQLException if an error is encountered
+     */
+    private void executeUpdate(Object object, Table table, Field primary, List<Field> changes) throws SQLException
     {
+        // Our SQL objects used
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+
         try {
-            // Closing our Connection
-            if(connection != null && !connection.isClosed())
-                connection.close();
+            // Get a new Connection
+            connection = getConnection();
 
-            // Closing our PreparedStatement
-            if(preparedStatement != null && !preparedStatement.isClosed())
-                preparedStatement.close();
+            // Prepare our query
+            preparedStatement = prepare(connection, buildUpdateStatement(object.getClass(), table, primary, changes), getUpdateValues(object, primary, changes), getUpdateCodecs(object.getClass(), primary, changes));
 
-            // Closing our ResultSet
-            if(resultSet != null && !resultSet.isClosed())
-                resultSet.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
+            // Execute the statement
+            preparedStatement.execute();
+
+            // Remember what we've written
+            this.changeTracker.snapshot(object);
+            written(object.getClass());
+            this.entityCache.saved(object);
+            this.tableReplicas.saved(object);
+        } finally {
+            // Close the resources we've used.
+            closeResources(connection, preparedStatement);
         }
     }
 
-    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Build an UPDATE statement for the changed columns of a row
+     * @param clazz of the row
+     * @param table of the row
+     * @param primary @Primary Field identifying the row
+     * @param changes Fields to write
+     * @return the UPDATE statement
+     */
+    private String buildUpdateStatement(Class<?> clazz, Table table, Field primary, List<Field> changes)
+    {
+        // The changed column names make up the shape of this statement
+        final String[] columns = new String[changes.size()];
+        for(int i = 0; i < columns.length; i++)
+            columns[i] = ReflectionUtil.getColumnName(changes.get(i));
+
+        return this.statementCache.get(clazz, Operation.UPDATE, columns, 0, () -> String.format(
+                "UPDATE `%s` SET %s WHERE `%s`=?",
+                replaceTableNamePlaceholders(table.name()),
+                Arrays.stream(columns).map(column -> "`" + column + "`=?").collect(Collectors.joining(", ")),
+                ReflectionUtil.getColumnName(primary)
+        ));
+    }
+
+    /**
+     * Get the values to bind to an UPDATE statement built by {@link #buildUpdateStatement(Class, Table, Field, List)}
+     * @param object being written
+     * @param primary @Primary Field identifying the row
+     * @param changes Fields to write
+     * @return the values of the changed Fields followed by the @Primary value
+     */
+    private Object[] getUpdateValues(Object object, Field primary, List<Field> changes)
+    {
+        final Object[] values = new Object[changes.size() + 1];
+
+        for(int i = 0; i < changes.size(); i++)
+            values[i] = ReflectionUtil.getFieldValue(changes.get(i), object);
+
+        values[changes.size()] = ReflectionUtil.getFieldValue(primary, object);
+
+        return values;
+    }
+
+    /**
+     * Assign a generated key to the @Primary Field of an Object
+     * @param accessor of the @Primary Field
+     * @param object to assign the key to
+     * @param resultSet of generated keys positioned at the key
+     * @throws SQLException if an error is encountered
+     */
+    private void assignKey(FieldAccessor accessor, Object object, ResultSet resultSet) throws SQLException
+    {
+        // int Fields can't hold a long
+        if(accessor.getType() == int.class || accessor.getType() == Integer.class)
+            accessor.setInt(object, resultSet.getInt(1));
+        else accessor.setLong(object, resultSet.getLong(1));
+    }
 
     /**
      * Generate a PreparedStatement with specified data
      * @return the generated PreparedStatement
      */
     private PreparedStatement prepare(Connection connection, String statement, Object[] data) throws SQLException
+    {
+        return prepare(connection, statement, data, NO_CODECS);
+    }
+
+    /**
+     * Generate a PreparedStatement with specified data
+     * @param codecs selected for the data, see {@link #bind(PreparedStatement, Object[], Codec[])}
+     * @return the generated PreparedStatement
+     */
+    private PreparedStatement prepare(Connection connection, String statement, Object[] data, Codec[] codecs) throws SQLException
+    {
+        return prepare(connection, statement, data, codecs, Statement.NO_GENERATED_KEYS);
+    }
+
+    /**
+     * Generate a PreparedStatement with specified data
+     * @param codecs selected for the data, see {@link #bind(PreparedStatement, Object[], Codec[])}
+     * @param autoGeneratedKeys whether generated keys should be returned, see {@link Statement#RETURN_GENERATED_KEYS}
+     * @return the generated PreparedStatement
+     */
+    private PreparedStatement prepare(Connection connection, String statement, Object[] data, Codec[] codecs, int autoGeneratedKeys) throws SQLException
     {
         // Prepare our PreparedStatement
-        final PreparedStatement preparedStatement = connection.prepareStatement(statement);
+        final PreparedStatement preparedStatement = track(connection.prepareStatement(statement, autoGeneratedKeys));
+
+        try {
+            // Binding our data
+            bind(preparedStatement, data, codecs);
+        } catch (SQLException | RuntimeException e) {
+            // The caller never gets the statement to close
+            closeResources(null, preparedStatement);
+            throw e;
+        }
 
+        // Return our statement
+        return preparedStatement;
+    }
+
+    /**
+     * Bind data to a PreparedStatement using the registered Codecs
+     * @param preparedStatement to bind the data to
+     * @param data to bind
+     * @param codecs selected for the data by index, null entries (or missing ones) use the registered Codec
+     * @throws SQLException if an error occurs
+     */
+    private void bind(PreparedStatement preparedStatement, Object[] data, Codec[] codecs) throws SQLException
+    {
         // Iterate through the data
         for(int i = 1; i <= data.length; i++)
+            bindValue(preparedStatement, i, data[i - 1], i <= codecs.length ? codecs[i - 1] : null);
+    }
+
+    /**
+     * Bind a value to a PreparedStatement
+     * @param preparedStatement to bind the value to
+     * @param index of the parameter
+     * @param object to bind
+     * @param codec selected for the value, null to use the registered Codec
+     * @throws SQLException if an error occurs
+     */
+    private void bindValue(PreparedStatement preparedStatement, int index, Object object, Codec codec) throws SQLException
+    {
+        // Nothing to encode, not every Codec accepts a null
+        if(object == null)
         {
-            // Get the current Field
-            Object object = data[i - 1];
+            preparedStatement.setNull(index, Types.NULL);
+            return;
+        }
 
-            // Get the Codec for this Type
-            Codec codec = Codec.getCodec(object.getClass());
+        // Get the Codec selected for this column or the one for this Type
+        if(codec == null)
+            codec = Codec.getCodec(object.getClass());
 
-            // Not known so skip (TODO: Throw an exception?)
-            if(codec == null)
-                continue;
+        // Not known so skip (TODO: Throw an exception?)
+        if(codec == null)
+            return;
+
+        // Encode the data
+        codec.encode(preparedStatement, index, object);
+    }
+
+    /**
+     * Generate a PreparedStatement for an upsert built from the columns of an Object,
+     * binding every column twice for the INSERT and the UPDATE
+     * @param object to read the column values from
+     * @param accessors of the Fields in the order they're bound
+     * @param codecs for each Field
+     * @param autoGeneratedKeys whether generated keys should be returned, see {@link Statement#RETURN_GENERATED_KEYS}
+     * @return the generated PreparedStatement
+     */
+    private PreparedStatement prepareUpsert(Connection connection, String statement, Object object, FieldAccessor[] accessors, Codec[] codecs, int autoGeneratedKeys) throws SQLException
+    {
+        // Prepare our PreparedStatement
+        final PreparedStatement preparedStatement = track(connection.prepareStatement(statement, autoGeneratedKeys));
 
-            // Encode the data
-            codec.encode(preparedStatement, i, object);
+        try {
+            // Binding the INSERT and then the UPDATE
+            bind(preparedStatement, 0, object, accessors, codecs);
+            bind(preparedStatement, accessors.length, object, accessors, codecs);
+        } catch (SQLException | RuntimeException e) {
+            // The caller never gets the statement to close
+            closeResources(null, preparedStatement);
+            throw e;
         }
 
         // Return our statement
         return preparedStatement;
     }
 
+    /**
+     * Bind the Fields of an Object to a PreparedStatement, primitive Fields with a primitive
+     * Codec (eg {@link Codec.OfInt}) are read and encoded without boxing
+     * @param preparedStatement to bind the data to
+     * @param offset number of parameters before the first Field
+     * @param object to read the Fields of
+     * @param accessors of the Fields in the order they're bound
+     * @param codecs for each Field, null entries use the registered Codec for the value
+     * @throws SQLException if an error occurs
+     */
+    private void bind(PreparedStatement preparedStatement, int offset, Object object, FieldAccessor[] accessors, Codec[] codecs) throws SQLException
+    {
+        // Iterate through the Fields
+        for(int i = 0; i < accessors.length; i++)
+        {
+            // The FieldAccessor and Codec for this column
+            final FieldAccessor accessor = accessors[i];
+            final Codec codec = codecs[i];
+            final Class<?> type = accessor.getType();
+            final int index = offset + i + 1;
+
+            // Primitives skip boxing when the Codec supports them
+            if(type == int.class && codec instanceof Codec.OfInt)
+                ((Codec.OfInt) codec).encodeInt(preparedStatement, index, accessor.getInt(object));
+            else if(type == long.class && codec instanceof Codec.OfLong)
+                ((Codec.OfLong) codec).encodeLong(preparedStatement, index, accessor.getLong(object));
+            else if(type == double.class && codec instanceof Codec.OfDouble)
+                ((Codec.OfDouble) codec).encodeDouble(preparedStatement, index, accessor.getDouble(object));
+            else if(type == float.class && codec instanceof Codec.OfFloat)
+                ((Codec.OfFloat) codec).encodeFloat(preparedStatement, index, accessor.getFloat(object));
+            else if(type == boolean.class && codec instanceof Codec.OfBoolean)
+                ((Codec.OfBoolean) codec).encodeBoolean(preparedStatement, index, accessor.getBoolean(object));
+            else
+                bindValue(preparedStatement, index, accessor.get(object), codec);
+        }
+    }
+
+    /**
+     * Get the FieldAccessors of the columns to save for an Object, skipping an
+     * auto increment @Primary that's not yet assigned like {@link Query#from(Object)}
+     * @param object to save
+     * @return the FieldAccessor for each column in the order they're bound
+     */
+    private static FieldAccessor[] getSaveAccessors(Object object)
+    {
+        final List<FieldAccessor> accessors = Lists.newArrayList();
+
+        // Get all Field's for this Object's Class
+        for(Field field : ReflectionUtil.getFields(object.getClass()).values())
+        {
+            // Get our @Primary annotation
+            final Primary primary = field.getAnnotation(Primary.class);
+
+            // Get the FieldAccessor for this Field
+            final FieldAccessor accessor = ReflectionUtil.getAccessor(field);
+
+            // We don't have a Primary key or it's an incrementation that's not yet assigned
+            if(primary != null && primary.autoIncrement() && accessor.getLong(object) == 0)
+                continue;
+
+            accessors.add(accessor);
+        }
+
+        return accessors.toArray(new FieldAccessor[accessors.size()]);
+    }
+
+    /**
+     * Get the column names of FieldAccessors
+     * @param accessors to get the column names of
+     * @return the column name for each FieldAccessor
+     */
+    private static String[] getColumnNames(FieldAccessor[] accessors)
+    {
+        final String[] columns = new String[accessors.length];
+
+        for(int i = 0; i < accessors.length; i++)
+            columns[i] = ReflectionUtil.getColumnName(accessors[i].getField());
+
+        return columns;
+    }
+
+    /**
+     * Get the {@link Codec}'s for the Fields of FieldAccessors
+     * @param accessors to get the Codecs for
+     * @return the Codec for each FieldAccessor, null if it doesn't have one
+     */
+    private static Codec[] getAccessorCodecs(FieldAccessor[] accessors)
+    {
+        final Codec[] codecs = new Codec[accessors.length];
+
+        for(int i = 0; i < accessors.length; i++)
+            codecs[i] = ReflectionUtil.getColumnCodec(accessors[i].getField());
+
+        return codecs;
+    }
+
+    /**
+     * Get the Fields of the columns of a Class
+     * @param clazz the columns belong to
+     * @param columns in the order they're bound
+     * @return the Field for each column, null if the column has no Field
+     */
+    private Field[] getColumnFields(Class<?> clazz, String[] columns)
+    {
+        return this.statementCache.getFields(clazz, columns, () -> {
+            // Getting the Fields for this Class
+            final Map<String, Field> fields = ReflectionUtil.getFields(clazz);
+            final Field[] columnFields = new Field[columns.length];
+
+            for(int i = 0; i < columns.length; i++)
+                columnFields[i] = ReflectionUtil.getColumnField(fields, columns[i]).orElse(null);
+
+            return columnFields;
+        });
+    }
+
+    /**
+     * Get the {@link Codec}'s for the columns of a Class, the same Codecs the columns are decoded with
+     * @param clazz the columns belong to
+     * @param columns in the order they're bound
+     * @return the Codec for each column, null if the column has no Field
+     */
+    private Codec[] getColumnCodecs(Class<?> clazz, String[] columns)
+    {
+        final Field[] fields = getColumnFields(clazz, columns);
+        final Codec[] codecs = new Codec[fields.length];
+
+        for(int i = 0; i < fields.length; i++)
+            codecs[i] = fields[i] == null ? null : ReflectionUtil.getColumnCodec(fields[i]);
+
+        return codecs;
+    }
+
+    /**
+     * Get the {@link Codec}'s for the parameters of a Query, a value that isn't of its column's
+     * type (Eg: an int compared with a long column) is bound with the Codec for its own type
+     * @param clazz the Query is for
+     * @param query to get the Codecs for
+     * @return the Codec for each "WHERE" parameter, null to use the Codec for the value
+     */
+    private Codec[] getParameterCodecs(Class<?> clazz, Query query)
+    {
+        final Field[] fields = getColumnFields(clazz, query.getWhereColumns());
+        final Object[] values = query.getWheres().values().toArray();
+        final Codec[] codecs = new Codec[fields.length];
+
+        for(int i = 0; i < fields.length; i++)
+            codecs[i] = fields[i] != null && isColumnValue(fields[i], values[i]) ? ReflectionUtil.getColumnCodec(fields[i]) : null;
+
+        return codecs;
+    }
+
+    /**
+     * Check if a value is of the type of a column's Field
+     * @param field of the column
+     * @param value to check
+     * @return whether the column's Codec is able to encode the value
+     */
+    private static boolean isColumnValue(Field field, Object value)
+    {
+        return value == null || Primitives.wrap(field.getType()).isInstance(value);
+    }
+
+    /**
+     * Get the {@link Codec}'s for an UPDATE statement built by {@link #buildUpdateStatement(Class, Table, Field, List)}
+     * @param clazz of the row
+     * @param primary @Primary Field identifying the row
+     * @param changes Fields to write
+     * @return the selected Codec for each bound value
+     */
+    private Codec[] getUpdateCodecs(Class<?> clazz, Field primary, List<Field> changes)
+    {
+        final String[] columns = new String[changes.size() + 1];
+
+        for(int i = 0; i < changes.size(); i++)
+            columns[i] = ReflectionUtil.getColumnName(changes.get(i));
+
+        columns[changes.size()] = ReflectionUtil.getColumnName(primary);
+
+        return getColumnCodecs(clazz, columns);
+    }
+
+    /**
+     * Get the columns of an {@link EntityMapper} in the order {@link EntityMapper#bind(Object, boolean)} returns them
+     * @param entityMapper to get the columns of
+     * @param includePrimary whether the @Primary column is included
+     * @return the bound columns
+     */
+    private String[] getMapperColumns(EntityMapper<?> entityMapper, boolean includePrimary)
+    {
+        return entityMapper.getColumns().stream()
+                .filter(column -> includePrimary || !column.equals(entityMapper.getPrimaryColumn()))
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Repeat the selected {@link Codec}'s for statements binding their values twice (INSERT [...] ON DUPLICATE KEY UPDATE)
+     * @param codecs to repeat
+     * @return the Codecs followed by themselves
+     */
+    private static Codec[] repeat(Codec[] codecs)
+    {
+        // Nothing selected
+        if(codecs.length == 0)
+            return codecs;
+
+        final Codec[] repeated = Arrays.copyOf(codecs, codecs.length * 2);
+        System.arraycopy(codecs, 0, repeated, codecs.length, codecs.length);
+
+        return repeated;
+    }
+
     /**
      * Generate a PreparedStatement for creating a Table
      * @param connection to create the PreparedStatement from
@@ -942,6 +2520,13 @@ public class Database
         // Get the Table annotation
         final Table table = tableOptional.get();
 
+        // Get the generated EntityMapper if there is one
+        final EntityMapper<?> entityMapper = EntityMappers.get(clazz);
+
+        // Use the pre-built statement if the EntityMapper was able to build it
+        if(entityMapper != null && entityMapper.getCreateStatement() != null)
+            return connection.prepareStatement(replaceTableNamePlaceholders(entityMapper.getCreateStatement()));
+
         // Get the Field's for this Class
         final Map<String, Field> fields = ReflectionUtil.getFields(clazz);
 
@@ -962,7 +2547,7 @@ public class Database
             final String columnName =  ReflectionUtil.getColumnName(entry.getValue());
 
             // Get the Codec for this Field
-            final  Codec codec = Codec.getCodec(field.getType());
+            final  Codec codec = ReflectionUtil.getColumnCodec(field);
 
             // No Codec known, skip!
             if(codec == null)
@@ -1059,7 +2644,7 @@ public class Database
                 continue;
 
             // Get the Codec for this Field
-            final Codec codec = Codec.getCodec(field.getType());
+            final Codec codec = ReflectionUtil.getColumnCodec(field);
 
             // No Codec known, skip!
             if(codec == null)
@@ -1106,51 +2691,47 @@ public class Database
     }
 
     /**
-     * Populate an Object with data from a ResultSet
-     * @param object to populate the data into
-     * @param resultSet where our data is
+     * Objects sharing an upsert statement and the values to bind for each
      */
-    private void populate(Object object, ResultSet resultSet)
+    private static class Batch
     {
-        // Getting the Fields for this object
-        final Map<String, Field> fields = ReflectionUtil.getFields(object.getClass());
 
-        // No known fields so just return
-        if(fields == null || fields.isEmpty())
-            return;
+        private final String statement;
+        private final Codec[] codecs;
+        private final FieldAccessor[] accessors;
+        private final FieldAccessor keyAccessor;
+        private final List<Object> objects = Lists.newArrayList();
+        private final List<Object[]> values = Lists.newArrayList();
 
-        // Iterate through ResultSet data as a Map
-        for(Map.Entry<String, Object> entry : StorageUtil.toMap(resultSet).entrySet())
+        private Batch(String statement, Codec[] codecs, FieldAccessor[] accessors, FieldAccessor keyAccessor)
         {
-            // Name of the Column
-            final String column = entry.getKey();
+            this.statement = statement;
+            this.codecs = codecs;
+            this.accessors = accessors;
+            this.keyAccessor = keyAccessor;
+        }
 
-            // Get the Field associated with the Column name
-            final Optional<Field> fieldOptional = ReflectionUtil.getColumnField(fields, column);
+        private void add(Object object, Object[] values)
+        {
+            this.objects.add(object);
 
-            // No Field found for this Column name
-            if(!fieldOptional.isPresent())
-                continue;
+            // Values are read from the Object's Fields when it's bound
+            if(this.accessors == null)
+                this.values.add(values);
+        }
 
-            // The Field for this data
-            final Field field = fieldOptional.get();
+    }
 
-            // Get the Codec for this type
-            final Codec codec = Codec.getCodec(field.getType());
+    /**
+     * A query that's able to throw a {@link SQLException}
+     * @param <R> type of the result
+     */
+    @FunctionalInterface
+    private interface SQLCallable<R>
+    {
 
-            // No Codec
-            if(codec == null)
-                continue;
+        R call() throws SQLException;
 
-            // Assigning the field's value with the decoded data
-            try {
-                field.set(object, codec.decode(resultSet, field.getType(), column));
-            } catch (IllegalAccessException | SQLException e) {
-                // TODO: LoggerFactory
-                System.out.println("Error occurred when decoding " + field);
-                e.printStackTrace();
-            }
-        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,347 @@
+package uk.co.loonyrules.sql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Maps;
+import uk.co.loonyrules.sql.accessors.FieldAccessor;
+import uk.co.loonyrules.sql.annotations.Cached;
+import uk.co.loonyrules.sql.utils.ReflectionUtil;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the rows of {@link Cached} @Table Classes by their @Primary value, so
+ * finding or reloading an Object by its @Primary {@link uk.co.loonyrules.sql.annotations.Column}
+ * doesn't have to query the {@link Database}.
+ *
+ * Only a {@link Query} with a single "WHERE" on the @Primary column and no skip is
+ * served from the cache, anything else is left to the {@link Database}. Entries
+ * are copied in and out unless {@link Cached#copyOnRead()} is disabled.
+ *
+ * Like the {@link QueryCache}, each Class has a generation bumped on every save and
+ * invalidation so a row that was being read whilst it was written isn't cached.
+ */
+class EntityCache
+{
+
+    private static final CacheStats EMPTY_STATS = new CacheStats(0, 0, 0, 0, 0, 0);
+
+    private final ConcurrentMap<Class<?>, Optional<Region>> regions = Maps.newConcurrentMap();
+    private final ChangeTracker changeTracker;
+    private final Credentials credentials;
+
+    /**
+     * Construct a new EntityCache
+     * @param changeTracker to snapshot the copies read from the cache with
+     * @param credentials whose collation decides if @Primary text is compared without case
+     */
+    EntityCache(ChangeTracker changeTracker, Credentials credentials)
+    {
+        this.changeTracker = changeTracker;
+        this.credentials = credentials;
+    }
+
+    /**
+     * Get the generation of a Class, to be given back when caching a row read after getting it
+     * @param clazz to get the generation of
+     * @return the generation
+     */
+    long getGeneration(Class<?> clazz)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        return region == null ? 0 : region.generation.get();
+    }
+
+    /**
+     * Check if a {@link Query} looks up a single row of a cached Class by its @Primary value
+     * @param clazz the Query is for
+     * @param query to check
+     * @return whether the Query can be served from the cache
+     */
+    boolean isPrimaryLookup(Class<?> clazz, Query query)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        return region != null && region.isPrimaryLookup(query);
+    }
+
+    /**
+     * Get the cached row a {@link Query} looks up by its @Primary value
+     * @param clazz the Query is for
+     * @param query to look up
+     * @param <T> type of the Class
+     * @return the cached Object, or null if it's not cached or the Query isn't a @Primary lookup
+     */
+    <T> T get(Class<T> clazz, Query query)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        // Not cached or not a lookup we can serve
+        if(region == null || !region.isPrimaryLookup(query))
+            return null;
+
+        // Get the cached Object
+        final Object cached = region.cache.getIfPresent(region.toKey(query.getWheres().values().iterator().next()));
+
+        // Not cached or the same instance is shared
+        if(cached == null || !region.copyOnRead)
+            return (T) cached;
+
+        try {
+            // Copy the cached Object so it can be modified
+            final T copy = (T) EntityCopier.copy(cached);
+
+            // Remember what we loaded
+            this.changeTracker.snapshot(copy);
+
+            return copy;
+        } catch (ReflectiveOperationException e) {
+            e.printStackTrace();
+
+            // Fallback to the Database
+            return null;
+        }
+    }
+
+    /**
+     * Populate an Object with its cached row
+     * @param object to populate
+     * @param query the Object would be reloaded with
+     * @return whether the Object was populated
+     */
+    boolean populate(Object object, Query query)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(object.getClass());
+
+        // Not cached or not a lookup we can serve
+        if(region == null || !region.isPrimaryLookup(query))
+            return false;
+
+        // Get the cached Object
+        final Object cached = region.cache.getIfPresent(region.toKey(query.getWheres().values().iterator().next()));
+
+        // Not cached
+        if(cached == null)
+            return false;
+
+        // Copy the cached values into the Object
+        EntityCopier.copyInto(cached, object);
+
+        // Remember what we loaded
+        this.changeTracker.snapshot(object);
+
+        return true;
+    }
+
+    /**
+     * Cache the row of an Object that was read, unless the Class was written to since
+     * @param object to cache
+     * @param generation of the Class from before the row was read
+     */
+    void put(Object object, long generation)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(object.getClass());
+
+        // Not cached
+        if(region != null)
+            region.put(object, generation);
+    }
+
+    /**
+     * Cache the row of an Object that was saved, making rows of the Class still being read uncacheable
+     * @param object to cache
+     */
+    void saved(Object object)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(object.getClass());
+
+        // Not cached
+        if(region != null)
+            region.put(object, region.generation.incrementAndGet());
+    }
+
+    /**
+     * Invalidate the rows a {@link Query} could have modified
+     * @param clazz the Query is for
+     * @param query that modified the rows
+     */
+    void invalidate(Class<?> clazz, Query query)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        // Not cached
+        if(region == null)
+            return;
+
+        // Rows still being read may have been modified
+        region.generation.incrementAndGet();
+
+        // Only the one row, otherwise we don't know which rows so drop them all
+        if(region.isPrimaryLookup(query))
+            region.cache.invalidate(region.toKey(query.getWheres().values().iterator().next()));
+        else
+            region.cache.invalidateAll();
+    }
+
+    /**
+     * Invalidate every row of a Class
+     * @param clazz to invalidate
+     */
+    void invalidateAll(Class<?> clazz)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        if(region != null)
+            region.invalidateAll();
+    }
+
+    /**
+     * Invalidate every row of every Class, used when the @Table name placeholders change
+     */
+    void invalidateAll()
+    {
+        this.regions.values().forEach(optional -> optional.ifPresent(Region::invalidateAll));
+    }
+
+    /**
+     * Get the hit, miss and eviction counts of a Class
+     * @param clazz to get the counts of
+     * @return the CacheStats, all zero if the Class isn't cached
+     */
+    CacheStats getStats(Class<?> clazz)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        return region == null ? EMPTY_STATS : region.cache.stats();
+    }
+
+    /**
+     * Get the Region of a Class, building it the first time
+     * @param clazz to get the Region of
+     * @return the Region or null if the Class isn't cached
+     */
+    private Region getRegion(Class<?> clazz)
+    {
+        return this.regions.computeIfAbsent(clazz, type -> {
+            // Get the Cached annotation
+            final Cached cached = type.getAnnotation(Cached.class);
+
+            // Not cached
+            if(cached == null)
+                return Optional.empty();
+
+            // Rows are cached by their @Primary value
+            return ReflectionUtil.getPrimaryField(type).map(primary -> new Region(cached, primary, this.credentials.isCaseInsensitive()));
+        }).orElse(null);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The cached rows of a Class
+     */
+    private static class Region
+    {
+
+        private final Cache<Object, Object> cache;
+        private final boolean copyOnRead;
+        private final String primaryColumn;
+        private final FieldAccessor primary;
+        private final boolean caseInsensitive;
+        private final AtomicLong generation = new AtomicLong();
+
+        private Region(Cached cached, Field primary, boolean caseInsensitive)
+        {
+            final CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                    .maximumSize(cached.maximumSize())
+                    .recordStats();
+
+            // Expiring rows once they've been held too long
+            if(cached.expireAfterWrite() > 0)
+                builder.expireAfterWrite(cached.expireAfterWrite(), cached.unit());
+
+            this.cache = builder.build();
+            this.copyOnRead = cached.copyOnRead();
+            this.primaryColumn = ReflectionUtil.getColumnName(primary);
+            this.primary = ReflectionUtil.getAccessor(primary);
+            this.caseInsensitive = caseInsensitive;
+        }
+
+        /**
+         * Get the key of a @Primary value the way MySQL compares it
+         * @param value the @Primary value
+         * @return the key
+         */
+        private Object toKey(Object value)
+        {
+            return PrimaryKeys.toKey(value, this.caseInsensitive);
+        }
+
+        /**
+         * Check if a {@link Query} looks up a single row by its @Primary value
+         * @param query to check
+         * @return whether the Query can be served from the cache
+         */
+        private boolean isPrimaryLookup(Query query)
+        {
+            return query.getSkip() == 0
+                    && query.getWheres().size() == 1
+                    && query.getWheres().keySet().iterator().next().equalsIgnoreCase(this.primaryColumn);
+        }
+
+        /**
+         * Cache the row of an Object unless the Class was written to since the generation
+         * @param object to cache
+         * @param generation of the Class the row is from
+         */
+        private void put(Object object, long generation)
+        {
+            // Get the @Primary value
+            final Object key = this.primary.get(object);
+
+            // Not yet assigned or written to since it was read
+            if(key == null || this.generation.get() != generation)
+                return;
+
+            try {
+                // Copy the Object so modifying it doesn't modify the cache
+                this.cache.put(toKey(key), this.copyOnRead ? EntityCopier.copy(object) : object);
+            } catch (ReflectiveOperationException e) {
+                e.printStackTrace();
+
+                // Don't leave the previous row behind
+                this.cache.invalidate(toKey(key));
+                return;
+            }
+
+            // Written to whilst we were caching, so it may be stale
+            if(this.generation.get() != generation)
+                this.cache.invalidate(toKey(key));
+        }
+
+        /**
+         * Invalidate every row, making any row still being read uncacheable
+         */
+        private void invalidateAll()
+        {
+            this.generation.incrementAndGet();
+            this.cache.invalidateAll();
+        }
+
+    }
+
+}
@@ -0,0 +1,130 @@
+package uk.co.loonyrules.sql;
+
+import uk.co.loonyrules.sql.accessors.FieldAccessor;
+import uk.co.loonyrules.sql.mappers.EntityMapper;
+import uk.co.loonyrules.sql.mappers.EntityMappers;
+import uk.co.loonyrules.sql.utils.ReflectionUtil;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Copies @Table Objects held by the {@link EntityCache} and {@link QueryCache},
+ * so the Objects handed out can be modified without modifying the cache.
+ *
+ * Mutable @Column values (arrays, Collections, Maps etc.) are copied the same way
+ * the {@link ChangeTracker} copies them for its snapshots.
+ */
+final class EntityCopier
+{
+
+    private static final ClassValue<EntityCopier> copiers = new ClassValue<EntityCopier>()
+    {
+        @Override
+        protected EntityCopier computeValue(Class<?> type)
+        {
+            return new EntityCopier(type);
+        }
+    };
+
+    /**
+     * Create a copy of an @Table Object
+     * @param source to copy
+     * @param <T> type of the Object
+     * @return the copy
+     * @throws ReflectiveOperationException if the Class couldn't be instantiated
+     */
+    static <T> T copy(T source) throws ReflectiveOperationException
+    {
+        return (T) copiers.get(source.getClass()).copyOf(source);
+    }
+
+    /**
+     * Copy the @Column values of an @Table Object into another of the same Class
+     * @param source to copy from
+     * @param target to copy into
+     */
+    static void copyInto(Object source, Object target)
+    {
+        copiers.get(source.getClass()).copyValues(source, target);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private final Class<?> type;
+    private final FieldAccessor[] accessors;
+    private final EntityMapper<?> entityMapper;
+    private final Constructor<?> constructor;
+
+    /**
+     * Construct a new EntityCopier for a Class
+     * @param type to copy
+     */
+    private EntityCopier(Class<?> type)
+    {
+        this.type = type;
+
+        // Getting the accessor of every Field we copy
+        this.accessors = ReflectionUtil.getFields(type).values().stream()
+                .map(ReflectionUtil::getAccessor)
+                .toArray(FieldAccessor[]::new);
+
+        // Prefer the generated EntityMapper over Reflection when creating copies
+        this.entityMapper = EntityMappers.get(type);
+        this.constructor = this.entityMapper == null ? findConstructor(type) : null;
+    }
+
+    /**
+     * Create a copy of an Object
+     * @param source to copy
+     * @return the copy
+     * @throws ReflectiveOperationException if the Class couldn't be instantiated
+     */
+    private Object copyOf(Object source) throws ReflectiveOperationException
+    {
+        final Object copy;
+
+        // Generated EntityMapper knows how to create the instance
+        if(this.entityMapper != null)
+            copy = this.entityMapper.newInstance();
+        else if(this.constructor != null)
+            copy = this.constructor.newInstance();
+        else
+            copy = this.type.newInstance();
+
+        copyValues(source, copy);
+
+        return copy;
+    }
+
+    /**
+     * Copy the @Column values of an Object into another
+     * @param source to copy from
+     * @param target to copy into
+     */
+    private void copyValues(Object source, Object target)
+    {
+        for(FieldAccessor accessor : this.accessors)
+            accessor.set(target, ChangeTracker.copy(accessor.get(source)));
+    }
+
+    /**
+     * Find the no-args constructor for a Class
+     * @param type to find the constructor for
+     * @return the accessible constructor or null if not found
+     */
+    private static Constructor<?> findConstructor(Class<?> type)
+    {
+        try {
+            // Get the no-args constructor
+            final Constructor<?> constructor = type.getDeclaredConstructor();
+
+            // Allow access if it's not public
+            constructor.setAccessible(true);
+
+            return constructor;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+}
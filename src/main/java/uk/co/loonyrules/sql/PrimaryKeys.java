@@ -0,0 +1,36 @@
+package uk.co.loonyrules.sql;
+
+import java.util.Locale;
+
+/**
+ * Turns @Primary values into keys that are equal whenever MySQL would match
+ * the same row with them, so the {@link EntityCache} and {@link BatchLoader}
+ * agree with MySQL and each other on which row a value identifies.
+ */
+final class PrimaryKeys
+{
+
+    private PrimaryKeys()
+    {
+
+    }
+
+    /**
+     * Get the key of a @Primary value the way MySQL compares it, so an int and a long of
+     * the same value are the same key and text differing by case is under a case insensitive collation
+     * @param value the @Primary value
+     * @param caseInsensitive whether the collation compares text without case, see {@link Credentials#isCaseInsensitive()}
+     * @return the key
+     */
+    static Object toKey(Object value, boolean caseInsensitive)
+    {
+        if(value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return ((Number) value).longValue();
+
+        if(value instanceof String && caseInsensitive)
+            return ((String) value).toLowerCase(Locale.ROOT);
+
+        return value;
+    }
+
+}
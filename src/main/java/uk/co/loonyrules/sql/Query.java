@@ -1,6 +1,9 @@
 package uk.co.loonyrules.sql;
 
+import uk.co.loonyrules.sql.accessors.FieldAccessor;
 import uk.co.loonyrules.sql.annotations.Primary;
+import uk.co.loonyrules.sql.mappers.EntityMapper;
+import uk.co.loonyrules.sql.mappers.EntityMappers;
 import uk.co.loonyrules.sql.utils.ReflectionUtil;
 
 import java.lang.reflect.Field;
@@ -35,17 +38,15 @@ public class Query
             // Get our @Primary annotation
             final Primary primary = field.getAnnotation(Primary.class);
 
-            try {
-                // We don't have a Primary key or it's an incrementation that's not yet assigned.
-                if(primary != null && primary.autoIncrement() && ((int) field.get(object)) == 0)
-                    continue;
-            } catch (IllegalAccessException e) {
-                // Throw the error (int's only supported)
-                e.printStackTrace();
-            }
+            // Get the FieldAccessor for this Field
+            final FieldAccessor accessor = ReflectionUtil.getAccessor(field);
+
+            // We don't have a Primary key or it's an incrementation that's not yet assigned
+            if(primary != null && primary.autoIncrement() && accessor.getLong(object) == 0)
+                continue;
 
             // Add to the where conditions
-            query.where(columnName, ReflectionUtil.getFieldValue(field, object));
+            query.where(columnName, accessor.get(object));
         }
 
         // Returning our Query
@@ -59,6 +60,13 @@ public class Query
      */
     public static Query generatePrimary(Object object)
     {
+        // Get the generated EntityMapper if there is one
+        final EntityMapper<Object> entityMapper = (EntityMapper<Object>) EntityMappers.get(object.getClass());
+
+        // Prefer the generated EntityMapper over Reflection
+        if(entityMapper != null && entityMapper.getPrimaryColumn() != null)
+            return new Query().where(entityMapper.getPrimaryColumn(), entityMapper.getPrimaryValue(object));
+
         // Get the Primary Field
         final Optional<Field> primaryOptional = ReflectionUtil.getPrimaryField(object.getClass());
 
@@ -69,16 +77,8 @@ public class Query
         // Get our Field
         final Field field = primaryOptional.get();
 
-        // Getting the value of the Field
-        Object fieldValue = null;
-        try {
-            fieldValue = field.get(object);
-        } catch (IllegalAccessException e) {
-            fieldValue = null;
-        }
-
         // We have a Primary key so generate a Query and return
-        return new Query().where(ReflectionUtil.getColumnName(field), fieldValue);
+        return new Query().where(ReflectionUtil.getColumnName(field), ReflectionUtil.getFieldValue(field, object));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -98,6 +98,24 @@ public class Query
         return this.wheres;
     }
 
+    /**
+     * Get the "WHERE" columns in the order they were added
+     * @return the "WHERE" columns
+     */
+    public String[] getWhereColumns()
+    {
+        return this.wheres.keySet().toArray(new String[this.wheres.size()]);
+    }
+
+    /**
+     * Get the shape of the skip and limit, used to tell apart statements with the same "WHERE" columns
+     * @return 0 for neither, 1 for skip only, 2 for limit only and 3 for both
+     */
+    public int getLimitShape()
+    {
+        return (this.skip != 0 ? 1 : 0) | (this.limit != 0 ? 2 : 0);
+    }
+
     /**
      * Get all "WHERE" conditions as a (`column1`, column2`) string
      * @return all "WHERE" conditions as a column string
@@ -181,6 +199,19 @@ public class Query
         return this;
     }
 
+    /**
+     * Create a copy of this Query, so it can be held on to without later changes modifying it
+     * @return the copied Query
+     */
+    public Query copy()
+    {
+        final Query query = new Query();
+        query.wheres.putAll(this.wheres);
+        query.skip = this.skip;
+        query.limit = this.limit;
+        return query;
+    }
+
     /**
      * Check if a where condition exists
      * @param where to check for
@@ -216,6 +247,46 @@ public class Query
                 .collect(Collectors.joining(", "));
     }
 
+    /**
+     * Build the "WHERE" conditions along with the skip and limit as placeholders
+     * so the SQL is the same for every Query of the same shape
+     * @return condition statement appended with skip and limit placeholders
+     */
+    public String buildTemplate()
+    {
+        final StringBuilder stringBuilder = new StringBuilder(buildWhere());
+
+        // Managing skip/limit
+        if(this.skip != 0 || this.limit != 0)
+            stringBuilder.append(this.skip != 0 && this.limit != 0 ? " LIMIT ?,?" : " LIMIT ?");
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Get the values to bind to the statement built by {@link #buildTemplate()}
+     * @return the "WHERE" values followed by the skip and limit
+     */
+    public Object[] getParameters()
+    {
+        // Number of skip/limit parameters
+        final int extra = Integer.bitCount(getLimitShape());
+
+        // Copying the "WHERE" values
+        final Object[] parameters = this.wheres.values().toArray(new Object[this.wheres.size() + extra]);
+
+        // Appending the skip and limit in the order they appear
+        int index = this.wheres.size();
+
+        if(this.skip != 0)
+            parameters[index++] = this.skip;
+
+        if(this.limit != 0)
+            parameters[index] = this.limit;
+
+        return parameters;
+    }
+
     @Override
     public boolean equals(Object o)
     {
@@ -0,0 +1,291 @@
+package uk.co.loonyrules.sql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import uk.co.loonyrules.sql.StatementCache.Operation;
+import uk.co.loonyrules.sql.annotations.CachedQueries;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the results of finding and counting the rows of {@link CachedQueries} @Table
+ * Classes, keyed by the {@link Query} they were found with.
+ *
+ * Every write to a Class through the {@link Database} invalidates all of its results. A
+ * generation is bumped on every invalidation so a result that was being read whilst a
+ * write happened is never cached, as it may have been read before the write.
+ */
+class QueryCache
+{
+
+    private static final CacheStats EMPTY_STATS = new CacheStats(0, 0, 0, 0, 0, 0);
+
+    private final ConcurrentMap<Class<?>, Optional<Region>> regions = Maps.newConcurrentMap();
+    private final ChangeTracker changeTracker;
+
+    /**
+     * Construct a new QueryCache
+     * @param changeTracker to snapshot the copies read from the cache with
+     */
+    QueryCache(ChangeTracker changeTracker)
+    {
+        this.changeTracker = changeTracker;
+    }
+
+    /**
+     * Get the generation of a Class, to be given back when caching a result read after getting it
+     * @param clazz to get the generation of
+     * @return the generation
+     */
+    long getGeneration(Class<?> clazz)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        return region == null ? 0 : region.generation.get();
+    }
+
+    /**
+     * Get the cached rows found with a {@link Query}
+     * @param clazz the Query is for
+     * @param query the rows were found with
+     * @param <T> type of the Class
+     * @return the cached rows, or null if they're not cached
+     */
+    <T> List<T> find(Class<T> clazz, Query query)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        // Not cached
+        if(region == null)
+            return null;
+
+        // Get the cached rows
+        final List<T> cached = (List<T>) region.cache.getIfPresent(new Key(Operation.SELECT, query));
+
+        // Not cached or the same instances are shared
+        if(cached == null || !region.copyOnRead)
+            return cached == null ? null : Lists.newArrayList(cached);
+
+        try {
+            // Copy the cached rows so they can be modified
+            final List<T> copies = Lists.newArrayListWithCapacity(cached.size());
+
+            for(T row : cached)
+            {
+                final T copy = EntityCopier.copy(row);
+
+                // Remember what we loaded
+                this.changeTracker.snapshot(copy);
+                copies.add(copy);
+            }
+
+            return copies;
+        } catch (ReflectiveOperationException e) {
+            e.printStackTrace();
+
+            // Fallback to the Database
+            return null;
+        }
+    }
+
+    /**
+     * Get the cached number of rows counted with a {@link Query}
+     * @param clazz the Query is for
+     * @param query the rows were counted with
+     * @return the cached count, or null if it's not cached
+     */
+    Long count(Class<?> clazz, Query query)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        return region == null ? null : (Long) region.cache.getIfPresent(new Key(Operation.COUNT, query));
+    }
+
+    /**
+     * Cache the rows found with a {@link Query}
+     * @param clazz the Query is for
+     * @param query the rows were found with
+     * @param rows that were found
+     * @param generation of the Class from before the rows were read
+     */
+    void putFind(Class<?> clazz, Query query, List<?> rows, long generation)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        // Not cached
+        if(region == null)
+            return;
+
+        try {
+            // Copy the rows so modifying them doesn't modify the cache
+            final List<Object> cached = Lists.newArrayListWithCapacity(rows.size());
+
+            for(Object row : rows)
+                cached.add(region.copyOnRead ? EntityCopier.copy(row) : row);
+
+            region.put(new Key(Operation.SELECT, query.copy()), cached, generation);
+        } catch (ReflectiveOperationException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Cache the number of rows counted with a {@link Query}
+     * @param clazz the Query is for
+     * @param query the rows were counted with
+     * @param count of the rows
+     * @param generation of the Class from before the rows were counted
+     */
+    void putCount(Class<?> clazz, Query query, long count, long generation)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        if(region != null)
+            region.put(new Key(Operation.COUNT, query.copy()), count, generation);
+    }
+
+    /**
+     * Invalidate every result of a Class
+     * @param clazz to invalidate
+     */
+    void invalidateAll(Class<?> clazz)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        if(region != null)
+            region.invalidateAll();
+    }
+
+    /**
+     * Invalidate every result of every Class, used when the @Table name placeholders change
+     */
+    void invalidateAll()
+    {
+        this.regions.values().forEach(optional -> optional.ifPresent(Region::invalidateAll));
+    }
+
+    /**
+     * Get the hit, miss and eviction counts of a Class
+     * @param clazz to get the counts of
+     * @return the CacheStats, all zero if the Class isn't cached
+     */
+    CacheStats getStats(Class<?> clazz)
+    {
+        // Get the Region of this Class
+        final Region region = getRegion(clazz);
+
+        return region == null ? EMPTY_STATS : region.cache.stats();
+    }
+
+    /**
+     * Get the Region of a Class, building it the first time
+     * @param clazz to get the Region of
+     * @return the Region or null if the Class isn't cached
+     */
+    private Region getRegion(Class<?> clazz)
+    {
+        return this.regions.computeIfAbsent(clazz, type -> Optional.ofNullable(type.getAnnotation(CachedQueries.class)).map(Region::new)).orElse(null);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The cached results of a Class
+     */
+    private static class Region
+    {
+
+        private final Cache<Key, Object> cache;
+        private final boolean copyOnRead;
+        private final AtomicLong generation = new AtomicLong();
+
+        private Region(CachedQueries cachedQueries)
+        {
+            this.cache = CacheBuilder.newBuilder()
+                    .maximumWeight(cachedQueries.maximumWeight())
+                    .<Key, Object>weigher((key, value) -> value instanceof List ? Math.max(1, ((List<?>) value).size()) : 1)
+                    .expireAfterWrite(cachedQueries.expireAfterWrite(), cachedQueries.unit())
+                    .recordStats()
+                    .build();
+            this.copyOnRead = cachedQueries.copyOnRead();
+        }
+
+        /**
+         * Cache a result unless the Class was written to since it was read
+         * @param key of the result
+         * @param value of the result
+         * @param generation of the Class from before the result was read
+         */
+        private void put(Key key, Object value, long generation)
+        {
+            if(this.generation.get() != generation)
+                return;
+
+            this.cache.put(key, value);
+
+            // Written to whilst we were caching, so it may be stale
+            if(this.generation.get() != generation)
+                this.cache.invalidate(key);
+        }
+
+        /**
+         * Invalidate every result, making any result still being read uncacheable
+         */
+        private void invalidateAll()
+        {
+            this.generation.incrementAndGet();
+            this.cache.invalidateAll();
+        }
+
+    }
+
+    /**
+     * Cache key of an operation and the {@link Query} it ran
+     */
+    private static class Key
+    {
+
+        private final Operation operation;
+        private final Query query;
+
+        private Key(Operation operation, Query query)
+        {
+            this.operation = operation;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+                return true;
+
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            final Key key = (Key) o;
+
+            return this.operation == key.operation && this.query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * this.operation.hashCode() + this.query.hashCode();
+        }
+
+    }
+
+}
@@ -0,0 +1,273 @@
+package uk.co.loonyrules.sql;
+
+import uk.co.loonyrules.sql.enums.RejectionPolicy;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded {@link ThreadPoolExecutor} used for the asynchronous queries of a {@link Database}.
+ *
+ * There's no point running more queries at once than there are pooled connections, so
+ * the number of Threads is fixed and anything else waits in a bounded queue. Once that
+ * queue is full the {@link RejectionPolicy} decides what happens to new queries.
+ */
+public class QueryExecutor extends ThreadPoolExecutor
+{
+
+    private final RejectionPolicy rejectionPolicy;
+    private final int queueSize;
+
+    private final LongAdder
+            completedWaits = new LongAdder(),
+            totalWaitNanos = new LongAdder(),
+            rejected = new LongAdder();
+    private final AtomicLong maximumWaitNanos = new AtomicLong();
+
+    /**
+     * Set whilst {@link #offer(Runnable)} is executing, cleared if the query didn't fit
+     */
+    private final ThreadLocal<Boolean> offering = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Construct a new QueryExecutor
+     * @param threads number of Threads executing queries
+     * @param queueSize maximum number of queries waiting for a Thread
+     * @param rejectionPolicy what to do with queries once the queue is full
+     */
+    public QueryExecutor(int threads, int queueSize, RejectionPolicy rejectionPolicy)
+    {
+        super(threads, threads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize), new QueryThreadFactory());
+
+        this.rejectionPolicy = rejectionPolicy;
+        this.queueSize = queueSize;
+
+        // Handle full queues with our policy
+        setRejectedExecutionHandler(new PolicyHandler());
+
+        // Let idle Threads die off
+        allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Get the policy used once the queue is full
+     * @return the RejectionPolicy used
+     */
+    public RejectionPolicy getRejectionPolicy()
+    {
+        return this.rejectionPolicy;
+    }
+
+    /**
+     * Get the maximum number of queries waiting for a Thread
+     * @return the capacity of the queue
+     */
+    public int getQueueSize()
+    {
+        return this.queueSize;
+    }
+
+    /**
+     * Get the number of queries waiting for a Thread
+     * @return current depth of the queue
+     */
+    public int getQueueDepth()
+    {
+        return getQueue().size();
+    }
+
+    /**
+     * Get the number of Threads currently executing a query
+     * @return number of active queries
+     */
+    public int getActiveTasks()
+    {
+        return getActiveCount();
+    }
+
+    /**
+     * Get the number of queries rejected by {@link RejectionPolicy#ABORT}
+     * @return number of rejected queries
+     */
+    public long getRejectedCount()
+    {
+        return this.rejected.sum();
+    }
+
+    /**
+     * Get the average time queries waited in the queue before executing
+     * @param timeUnit to get the time in
+     * @return the average wait time
+     */
+    public long getAverageWaitTime(TimeUnit timeUnit)
+    {
+        // Number of waits we've recorded
+        final long waits = this.completedWaits.sum();
+
+        return waits == 0 ? 0 : timeUnit.convert(this.totalWaitNanos.sum() / waits, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the longest time a query waited in the queue before executing
+     * @param timeUnit to get the time in
+     * @return the maximum wait time
+     */
+    public long getMaximumWaitTime(TimeUnit timeUnit)
+    {
+        return timeUnit.convert(this.maximumWaitNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void execute(Runnable command)
+    {
+        super.execute(new TimedRunnable(command));
+    }
+
+    /**
+     * Execute a query if there's room for it, never blocking or running it on the calling
+     * Thread whatever the {@link RejectionPolicy}, for callers that may be query Threads themselves
+     * @param command to execute
+     * @return whether the query was accepted, false if the queue is full
+     * @throws RejectedExecutionException if the QueryExecutor has been shutdown
+     */
+    public boolean offer(Runnable command)
+    {
+        this.offering.set(true);
+
+        try {
+            execute(command);
+            return this.offering.get();
+        } finally {
+            this.offering.remove();
+        }
+    }
+
+    /**
+     * Record the time a query spent waiting for a Thread
+     * @param waitNanos time waited in nanoseconds
+     */
+    private void recordWait(long waitNanos)
+    {
+        this.completedWaits.increment();
+        this.totalWaitNanos.add(waitNanos);
+        this.maximumWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "QueryExecutor{" +
+                "threads=" + getMaximumPoolSize() +
+                ", activeTasks=" + getActiveTasks() +
+                ", queueDepth=" + getQueueDepth() +
+                ", queueSize=" + this.queueSize +
+                ", rejectionPolicy=" + this.rejectionPolicy +
+                '}';
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Wraps a query to record how long it waited for a Thread
+     */
+    private class TimedRunnable implements Runnable
+    {
+
+        private final Runnable command;
+        private final long queuedAt = System.nanoTime();
+
+        private TimedRunnable(Runnable command)
+        {
+            this.command = command;
+        }
+
+        @Override
+        public void run()
+        {
+            recordWait(System.nanoTime() - this.queuedAt);
+            this.command.run();
+        }
+
+    }
+
+    /**
+     * Applies the {@link RejectionPolicy} when the queue is full
+     */
+    private class PolicyHandler implements RejectedExecutionHandler
+    {
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor)
+        {
+            // Nothing runs once we're shutdown
+            if(executor.isShutdown())
+            {
+                rejected.increment();
+                throw new RejectedExecutionException("QueryExecutor has been shutdown.");
+            }
+
+            // Offered, so the caller decides what to do with it
+            if(offering.get())
+            {
+                offering.set(false);
+                return;
+            }
+
+            switch (rejectionPolicy)
+            {
+                case CALLER_RUNS:
+                    runnable.run();
+                    break;
+                case BLOCK:
+                    try {
+                        // Wait for room in the queue
+                        executor.getQueue().put(runnable);
+
+                        // Shutdown whilst we were waiting, so nothing will run it
+                        if(executor.isShutdown() && executor.remove(runnable))
+                        {
+                            rejected.increment();
+                            throw new RejectedExecutionException("QueryExecutor has been shutdown.");
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        rejected.increment();
+                        throw new RejectedExecutionException("Interrupted whilst waiting for room in the queue.", e);
+                    }
+                    break;
+                default:
+                    rejected.increment();
+                    throw new RejectedExecutionException("QueryExecutor queue is full (" + queueSize + " queries waiting).");
+            }
+        }
+
+    }
+
+    /**
+     * Names the Threads used for queries
+     */
+    private static class QueryThreadFactory implements ThreadFactory
+    {
+
+        private static final AtomicInteger executors = new AtomicInteger();
+
+        private final int executor = executors.incrementAndGet();
+        private final AtomicInteger threads = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            final Thread thread = new Thread(runnable, "LoonySQL-" + this.executor + "-query-" + this.threads.incrementAndGet());
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package uk.co.loonyrules.sql;
+
+import com.google.common.collect.Sets;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link CompletableFuture} for an asynchronous {@link Database} query that
+ * cancels the JDBC statements it's executing when it's cancelled.
+ *
+ * Cancelling and untracking a statement hold the same lock, and statements are
+ * untracked before they're closed. A statement is therefore never cancelled once
+ * its Connection may have gone back to the pool, where the cancel would kill
+ * the next borrower's query.
+ *
+ * @param <T> type of the result
+ */
+class QueryFuture<T> extends CompletableFuture<T>
+{
+
+    private final Set<Statement> statements = Sets.newHashSet();
+
+    /**
+     * Track a statement executed for this future
+     * @param statement to cancel if this future is cancelled
+     */
+    synchronized void track(Statement statement)
+    {
+        // Cancelled whilst we were preparing
+        if(isCancelled())
+        {
+            cancel(statement);
+            return;
+        }
+
+        this.statements.add(statement);
+    }
+
+    /**
+     * Stop tracking a statement before it's closed, waiting for any cancel in progress
+     * @param statement about to be closed
+     */
+    synchronized void untrack(Statement statement)
+    {
+        this.statements.remove(statement);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning)
+    {
+        final boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+        // Cancel anything that's still executing
+        if(cancelled)
+        {
+            synchronized(this)
+            {
+                this.statements.forEach(QueryFuture::cancel);
+                this.statements.clear();
+            }
+        }
+
+        return cancelled;
+    }
+
+    /**
+     * Cancel a statement, ignoring statements that have already finished
+     * @param statement to cancel
+     */
+    private static void cancel(Statement statement)
+    {
+        try {
+            if(!statement.isClosed())
+                statement.cancel();
+        } catch (SQLException e) {
+            // Already finished or closed, nothing to cancel
+        }
+    }
+
+}
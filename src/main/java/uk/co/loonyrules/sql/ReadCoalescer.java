@@ -0,0 +1,333 @@
+package uk.co.loonyrules.sql;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import uk.co.loonyrules.sql.StatementCache.Operation;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collapses concurrent identical reads of a {@link Database} into a single execution.
+ *
+ * The first read of a Class, operation and {@link Query} executes it, any identical read
+ * made whilst it's running waits for it and gets its own copy of the rows instead of
+ * checking out another connection. Writing to a Class starts a new generation, so a read
+ * made after a write never joins one that started before it. If the read being waited for
+ * is cancelled, everyone waiting for it executes the read again rather than failing.
+ */
+public class ReadCoalescer
+{
+
+    private final ConcurrentMap<Key, Flight> flights = Maps.newConcurrentMap();
+    private final ConcurrentMap<Class<?>, AtomicLong> generations = Maps.newConcurrentMap();
+
+    private final LongAdder
+            executions = new LongAdder(),
+            collapsed = new LongAdder();
+
+    /**
+     * Get the number of reads that were executed
+     * @return number of executions
+     */
+    public long getExecutions()
+    {
+        return this.executions.sum();
+    }
+
+    /**
+     * Get the number of reads that waited for an identical read instead of being executed
+     * @return number of collapsed reads
+     */
+    public long getCollapsed()
+    {
+        return this.collapsed.sum();
+    }
+
+    /**
+     * Get the number of reads currently being executed
+     * @return number of reads in flight
+     */
+    public int getInFlight()
+    {
+        return this.flights.size();
+    }
+
+    /**
+     * MySQL's SQLState for a statement that was interrupted, as cancelling a statement does
+     */
+    private static final String QUERY_INTERRUPTED = "70100";
+
+    /**
+     * Execute a read, or wait for an identical one that's already being executed
+     * @param clazz the read is for
+     * @param operation the read performs
+     * @param query of the read
+     * @param read to execute
+     * @param <R> type of the result, rows of a List are copied for every read that waited
+     * @return the result
+     * @throws SQLException if an error is encountered
+     */
+    <R> R execute(Class<?> clazz, Operation operation, Query query, Read<R> read) throws SQLException
+    {
+        final Key key = new Key(clazz, operation, query.copy(), getGeneration(clazz).get());
+
+        while(true)
+        {
+            final Flight flight = new Flight();
+            final Flight existing = this.flights.putIfAbsent(key, flight);
+
+            // Nothing in flight so we're executing it
+            if(existing == null)
+                return lead(key, flight, read);
+
+            // Finished before we could join, so try again
+            if(!existing.join())
+            {
+                this.flights.remove(key, existing);
+                continue;
+            }
+
+            final R result;
+
+            try {
+                result = (R) existing.future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted whilst waiting for " + operation + " of " + clazz + ".", e);
+            } catch (ExecutionException e) {
+                // Cancelled by whoever was executing it, which isn't our failure so execute it ourselves
+                if(existing.cancelled)
+                    continue;
+
+                throw e.getCause() instanceof SQLException ? (SQLException) e.getCause() : new SQLException(e.getCause());
+            }
+
+            this.collapsed.increment();
+
+            return share(result);
+        }
+    }
+
+    /**
+     * Start a new generation for a Class after it was written to
+     * @param clazz that was written to
+     */
+    void written(Class<?> clazz)
+    {
+        getGeneration(clazz).incrementAndGet();
+    }
+
+    /**
+     * Execute a read for everyone that joins it whilst it's running
+     * @param key of the read
+     * @param flight of the read
+     * @param read to execute
+     * @param <R> type of the result
+     * @return the result, copied if anyone joined
+     * @throws SQLException if an error is encountered
+     */
+    private <R> R lead(Key key, Flight flight, Read<R> read) throws SQLException
+    {
+        this.executions.increment();
+
+        final R result;
+
+        try {
+            result = read.execute();
+        } catch (SQLException | RuntimeException e) {
+            flight.close();
+            this.flights.remove(key, flight);
+            flight.cancelled = isCancellation(e);
+            flight.future.completeExceptionally(e);
+            throw e;
+        }
+
+        // Nobody can join once it's closed
+        final int joined = flight.close();
+        this.flights.remove(key, flight);
+        flight.future.complete(result);
+
+        // Everyone copies the result so nobody can modify it whilst it's being copied
+        return joined > 0 ? share(result) : result;
+    }
+
+    /**
+     * Check if a read failed because it was cancelled rather than because of the read itself
+     * @param throwable the read failed with
+     * @return whether the read was cancelled
+     */
+    private static boolean isCancellation(Throwable throwable)
+    {
+        // Interrupted by cancelling the future executing it
+        if(Thread.currentThread().isInterrupted() || throwable instanceof CancellationException)
+            return true;
+
+        // Statement cancelled
+        for(Throwable cause = throwable; cause != null; cause = cause.getCause())
+        {
+            if(cause instanceof SQLException && QUERY_INTERRUPTED.equals(((SQLException) cause).getSQLState()))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Copy the rows of a result
+     * @param result to copy
+     * @param <R> type of the result
+     * @return the copied result, or the result itself if it isn't a List of rows
+     * @throws SQLException if a row couldn't be copied
+     */
+    private static <R> R share(R result) throws SQLException
+    {
+        if(!(result instanceof List))
+            return result;
+
+        final List<?> rows = (List<?>) result;
+        final List<Object> copies = Lists.newArrayListWithCapacity(rows.size());
+
+        try {
+            for(Object row : rows)
+                copies.add(EntityCopier.copy(row));
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("Failed to copy a row shared between reads.", e);
+        }
+
+        return (R) copies;
+    }
+
+    /**
+     * Get the generation of a Class
+     * @param clazz to get the generation of
+     * @return the generation
+     */
+    private AtomicLong getGeneration(Class<?> clazz)
+    {
+        return this.generations.computeIfAbsent(clazz, type -> new AtomicLong());
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ReadCoalescer{" +
+                "executions=" + getExecutions() +
+                ", collapsed=" + getCollapsed() +
+                ", inFlight=" + getInFlight() +
+                '}';
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * A read executed by a {@link ReadCoalescer}
+     * @param <R> type of the result
+     */
+    interface Read<R>
+    {
+
+        /**
+         * Execute the read
+         * @return the result
+         * @throws SQLException if an error is encountered
+         */
+        R execute() throws SQLException;
+
+    }
+
+    /**
+     * A read being executed and the number of reads waiting for it
+     */
+    private static class Flight
+    {
+
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final AtomicInteger joined = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        /**
+         * Join this Flight
+         * @return whether we joined, false if it's already finished
+         */
+        private boolean join()
+        {
+            int count;
+
+            do {
+                count = this.joined.get();
+
+                // Closed
+                if(count < 0)
+                    return false;
+            } while(!this.joined.compareAndSet(count, count + 1));
+
+            return true;
+        }
+
+        /**
+         * Close this Flight so nobody else can join
+         * @return the number of reads that joined
+         */
+        private int close()
+        {
+            return this.joined.getAndSet(-1);
+        }
+
+    }
+
+    /**
+     * Key of a Class, operation, {@link Query} and generation
+     */
+    private static class Key
+    {
+
+        private final Class<?> type;
+        private final Operation operation;
+        private final Query query;
+        private final long generation;
+        private final int hashCode;
+
+        private Key(Class<?> type, Operation operation, Query query, long generation)
+        {
+            this.type = type;
+            this.operation = operation;
+            this.query = query;
+            this.generation = generation;
+            this.hashCode = Objects.hash(type, operation, query, generation);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+                return true;
+
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            final Key key = (Key) o;
+
+            return this.type == key.type
+                    && this.operation == key.operation
+                    && this.generation == key.generation
+                    && this.query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+
+    }
+
+}
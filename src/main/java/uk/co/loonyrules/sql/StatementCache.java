@@ -0,0 +1,151 @@
+package uk.co.loonyrules.sql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the SQL built for every @Table Class and query shape, with the
+ * @Table name placeholders already replaced, so running a query only
+ * costs binding its parameters.
+ *
+ * A query's shape is the operation, the ordered "WHERE" columns and
+ * whether it has a skip and/or limit. The values themselves are always
+ * bound as parameters so they never end up in the cached SQL.
+ *
+ * Statements are keyed by the generation of the @Table name placeholders they
+ * were built with, so a statement still being built whilst the placeholders
+ * change is never served once they have.
+ */
+class StatementCache
+{
+
+    /**
+     * The operation a statement performs
+     */
+    enum Operation
+    {
+        SELECT,
+        SELECT_IN,
+        COUNT,
+        DELETE,
+        UPSERT,
+        GENERATED_UPSERT,
+        BATCH_UPSERT,
+        UPDATE,
+        BLOB
+    }
+
+    private final Cache<Key, String> templates = CacheBuilder.newBuilder()
+            .maximumSize(1024L)
+            .build();
+
+    private final Cache<Key, Field[]> fields = CacheBuilder.newBuilder()
+            .maximumSize(1024L)
+            .build();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Get the statement for a Class and query shape, building it if it's not cached
+     * @param clazz the statement is for
+     * @param operation the statement performs
+     * @param columns in the order they appear in the statement
+     * @param shape any other part of the statement that changes its SQL
+     * @param builder to build the statement if it's not cached
+     * @return the statement
+     */
+    String get(Class<?> clazz, Operation operation, String[] columns, int shape, Callable<String> builder)
+    {
+        try {
+            // Read before building so a build racing a placeholder change is keyed by the old generation
+            return this.templates.get(new Key(clazz, operation, columns, shape, this.generation.get()), builder);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to build " + operation + " statement for " + clazz + ".", e.getCause());
+        }
+    }
+
+    /**
+     * Get the Fields of the columns bound by a statement, building them if they're not cached
+     * @param clazz the statement is for
+     * @param columns in the order they're bound
+     * @param builder to build the Fields if they're not cached
+     * @return the Field for each column
+     */
+    Field[] getFields(Class<?> clazz, String[] columns, Callable<Field[]> builder)
+    {
+        try {
+            return this.fields.get(new Key(clazz, null, columns, 0, 0), builder);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to get the Fields for " + Arrays.toString(columns) + " of " + clazz + ".", e.getCause());
+        }
+    }
+
+    /**
+     * Drop every cached statement, used when the @Table name placeholders change
+     */
+    void invalidate()
+    {
+        // Statements still being built are stored under the old generation, which is never read again
+        this.generation.incrementAndGet();
+        this.templates.invalidateAll();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Cache key of a Class and query shape
+     */
+    private static class Key
+    {
+
+        private final Class<?> type;
+        private final Operation operation;
+        private final String[] columns;
+        private final int shape;
+        private final long generation;
+        private final int hashCode;
+
+        private Key(Class<?> type, Operation operation, String[] columns, int shape, long generation)
+        {
+            this.type = type;
+            this.operation = operation;
+            this.columns = columns;
+            this.shape = shape;
+            this.generation = generation;
+            this.hashCode = 31 * (31 * (31 * (31 * type.hashCode() + Objects.hashCode(operation)) + Arrays.hashCode(columns)) + shape) + Long.hashCode(generation);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+                return true;
+
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            final Key key = (Key) o;
+
+            return this.type == key.type
+                    && this.operation == key.operation
+                    && this.shape == key.shape
+                    && this.generation == key.generation
+                    && Arrays.equals(this.columns, key.columns);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+
+    }
+
+}
@@ -0,0 +1,778 @@
+package uk.co.loonyrules.sql;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Primitives;
+import uk.co.loonyrules.sql.accessors.FieldAccessor;
+import uk.co.loonyrules.sql.annotations.Replicated;
+import uk.co.loonyrules.sql.codecs.Codec;
+import uk.co.loonyrules.sql.codecs.types.BooleanCodec;
+import uk.co.loonyrules.sql.codecs.types.ByteArrayCodec;
+import uk.co.loonyrules.sql.codecs.types.DoubleCodec;
+import uk.co.loonyrules.sql.codecs.types.EnumCodec;
+import uk.co.loonyrules.sql.codecs.types.FloatCodec;
+import uk.co.loonyrules.sql.codecs.types.IntegerCodec;
+import uk.co.loonyrules.sql.codecs.types.LongCodec;
+import uk.co.loonyrules.sql.codecs.types.StringCodec;
+import uk.co.loonyrules.sql.codecs.types.UUIDCodec;
+import uk.co.loonyrules.sql.utils.ReflectionUtil;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds every row of {@link Replicated} @Table Classes in memory and answers
+ * {@link Query}'s against them the way MySQL would.
+ *
+ * Rows are held in the order they were loaded. A hash index is built for a column the
+ * first time a Query filters by it, and thrown away with the rows whenever they change.
+ * Values are compared the way they're bound: whole numbers as longs, booleans as 1 or 0,
+ * enums and UUIDs as text and text without case under a case insensitive collation.
+ * Columns stored through any other Codec (Eg: {@code EnumCodec.Ordinal}, {@code BinaryUUIDCodec})
+ * and values of another kind than their column (Eg: a whole number for a double) are left to MySQL.
+ * Under a case insensitive collation so is text with non-ASCII characters or trailing spaces, in a
+ * Query or in a column's rows, as MySQL ignores accents and trailing spaces where we wouldn't.
+ */
+class TableReplicas
+{
+
+    /**
+     * Loads every row of an @Table Class
+     */
+    interface Loader
+    {
+
+        /**
+         * Load every row of an @Table Class
+         * @param clazz to load the rows of
+         * @return the rows in the order they were read
+         * @throws SQLException if an error is encountered
+         */
+        List<?> load(Class<?> clazz) throws SQLException;
+
+    }
+
+    private static final AtomicInteger schedulers = new AtomicInteger();
+
+    /**
+     * Codecs storing values the way {@link Replica#normalize(Object)} compares them
+     */
+    private static final Set<Class<?>> COMPARABLE_CODECS = Sets.newHashSet(
+            StringCodec.class, IntegerCodec.class, LongCodec.class, DoubleCodec.class, FloatCodec.class,
+            BooleanCodec.class, UUIDCodec.class, EnumCodec.class, ByteArrayCodec.class
+    );
+
+    /**
+     * Index of a column whose rows we can't compare the way MySQL would
+     */
+    private static final Map<Object, List<Object>> UNINDEXABLE = Collections.emptyMap();
+
+    private final ConcurrentMap<Class<?>, Optional<Replica>> replicas = Maps.newConcurrentMap();
+    private final ChangeTracker changeTracker;
+    private final Credentials credentials;
+    private final Loader loader;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Construct a new TableReplicas
+     * @param changeTracker to snapshot the copies read with
+     * @param credentials to read the collation from
+     * @param loader to load every row of a Class with
+     */
+    TableReplicas(ChangeTracker changeTracker, Credentials credentials, Loader loader)
+    {
+        this.changeTracker = changeTracker;
+        this.credentials = credentials;
+        this.loader = loader;
+    }
+
+    /**
+     * Find the rows matching a {@link Query}
+     * @param clazz the Query is for
+     * @param query to match
+     * @param <T> type of the Class
+     * @return the matching rows, or null if the Class isn't replicated or the Query can't be answered
+     */
+    <T> List<T> find(Class<T> clazz, Query query)
+    {
+        // Get the Replica of this Class
+        final Replica replica = getReplica(clazz);
+
+        // Not replicated
+        if(replica == null)
+            return null;
+
+        // Get the rows, loading them the first time
+        final State state = replica.getState();
+
+        if(state == null)
+            return null;
+
+        // Get the matching rows
+        final List<Object> matches = replica.filter(state, query);
+
+        if(matches == null)
+            return null;
+
+        final List<T> results = Lists.newArrayListWithCapacity(matches.size());
+
+        try {
+            for(Object row : limit(matches, query))
+            {
+                // The same instance is shared
+                if(!replica.replicated.copyOnRead())
+                {
+                    results.add((T) row);
+                    continue;
+                }
+
+                // Copy the row so it can be modified
+                final T copy = (T) EntityCopier.copy(row);
+
+                // Remember what we loaded
+                this.changeTracker.snapshot(copy);
+                results.add(copy);
+            }
+        } catch (ReflectiveOperationException e) {
+            e.printStackTrace();
+
+            // Fallback to the Database
+            return null;
+        }
+
+        return results;
+    }
+
+    /**
+     * Count the rows matching a {@link Query}
+     * @param clazz the Query is for
+     * @param query to match
+     * @return the number of matching rows, or null if the Class isn't replicated or the Query can't be answered
+     */
+    Long count(Class<?> clazz, Query query)
+    {
+        // Get the Replica of this Class
+        final Replica replica = getReplica(clazz);
+
+        // Not replicated
+        if(replica == null)
+            return null;
+
+        // Get the rows, loading them the first time
+        final State state = replica.getState();
+
+        if(state == null)
+            return null;
+
+        // Get the matching rows
+        final List<Object> matches = replica.filter(state, query);
+
+        if(matches == null)
+            return null;
+
+        // The skip and limit apply to the single row holding the COUNT(*)
+        return limit(Collections.singletonList(matches.size()), query).isEmpty() ? 0L : (long) matches.size();
+    }
+
+    /**
+     * Apply an Object that was saved to its replicated rows
+     * @param object that was saved
+     */
+    void saved(Object object)
+    {
+        // Get the Replica of this Class
+        final Replica replica = getReplica(object.getClass());
+
+        if(replica != null)
+            replica.upsert(object);
+    }
+
+    /**
+     * Apply a delete to the replicated rows of a Class
+     * @param clazz the rows were deleted from
+     * @param query the rows were deleted with
+     */
+    void deleted(Class<?> clazz, Query query)
+    {
+        // Get the Replica of this Class
+        final Replica replica = getReplica(clazz);
+
+        if(replica != null)
+            replica.delete(query);
+    }
+
+    /**
+     * Drop the rows of a Class, reloading them the next time they're read
+     * @param clazz to invalidate
+     */
+    void invalidate(Class<?> clazz)
+    {
+        // Get the Replica of this Class
+        final Replica replica = getReplica(clazz);
+
+        if(replica != null)
+            replica.invalidate();
+    }
+
+    /**
+     * Drop the rows of every Class, used when the @Table name placeholders change
+     */
+    void invalidateAll()
+    {
+        this.replicas.values().forEach(optional -> optional.ifPresent(Replica::invalidate));
+    }
+
+    /**
+     * Stop refreshing, used when the {@link Database} disconnects. Rows are reloaded the next time they're read.
+     */
+    void shutdown()
+    {
+        final ScheduledExecutorService scheduler;
+
+        synchronized(this)
+        {
+            scheduler = this.scheduler;
+            this.scheduler = null;
+        }
+
+        // Refreshes are scheduled again once the rows are read
+        this.replicas.values().forEach(optional -> optional.ifPresent(Replica::stop));
+
+        if(scheduler != null)
+            scheduler.shutdownNow();
+    }
+
+    /**
+     * Get the scheduler refreshing the rows, starting it the first time
+     * @return the ScheduledExecutorService
+     */
+    private synchronized ScheduledExecutorService getScheduler()
+    {
+        if(this.scheduler == null)
+        {
+            final int id = schedulers.incrementAndGet();
+
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "LoonySQL-" + id + "-replica");
+
+                // Don't keep the JVM alive just to refresh
+                thread.setDaemon(true);
+
+                return thread;
+            });
+        }
+
+        return this.scheduler;
+    }
+
+    /**
+     * Get the Replica of a Class, building it the first time
+     * @param clazz to get the Replica of
+     * @return the Replica or null if the Class isn't replicated
+     */
+    private Replica getReplica(Class<?> clazz)
+    {
+        return this.replicas.computeIfAbsent(clazz, type -> Optional.ofNullable(type.getAnnotation(Replicated.class))
+                .map(replicated -> new Replica(type, replicated, this.credentials.isCaseInsensitive()))).orElse(null);
+    }
+
+    /**
+     * Apply the skip and limit of a {@link Query} to rows, mirroring {@link Query#buildTemplate()}
+     * where a skip without a limit is sent as the LIMIT
+     * @param rows to apply the skip and limit to
+     * @param query with the skip and limit
+     * @param <E> type of the rows
+     * @return the rows within the skip and limit
+     */
+    private static <E> List<E> limit(List<E> rows, Query query)
+    {
+        // No skip or limit
+        if(query.getSkip() == 0 && query.getLimit() == 0)
+            return rows;
+
+        final int offset = query.getLimit() != 0 ? query.getSkip() : 0;
+        final int count = query.getLimit() != 0 ? query.getLimit() : query.getSkip();
+
+        if(offset >= rows.size())
+            return Collections.emptyList();
+
+        return rows.subList(offset, (int) Math.min(rows.size(), (long) offset + count));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The rows of a Class at one point in time, with the indexes built over them
+     */
+    private static class State
+    {
+
+        private final List<Object> rows;
+        private final ConcurrentMap<String, Map<Object, List<Object>>> indexes = Maps.newConcurrentMap();
+
+        private State(List<Object> rows)
+        {
+            this.rows = rows;
+        }
+
+    }
+
+    /**
+     * The replicated rows of a Class
+     */
+    private class Replica
+    {
+
+        private final Class<?> type;
+        private final Replicated replicated;
+        private final boolean caseInsensitive;
+        private final Map<String, FieldAccessor> accessors = Maps.newHashMap();
+        private final Map<String, Field> fields = Maps.newHashMap();
+        private final FieldAccessor primary;
+
+        private final AtomicLong generation = new AtomicLong();
+        private volatile State state;
+        private ScheduledFuture<?> refreshTask;
+
+        private Replica(Class<?> type, Replicated replicated, boolean caseInsensitive)
+        {
+            this.type = type;
+            this.replicated = replicated;
+            this.caseInsensitive = caseInsensitive;
+
+            // Column names are matched without case like MySQL does
+            for(Field field : ReflectionUtil.getFields(type).values())
+            {
+                final String column = ReflectionUtil.getColumnName(field).toLowerCase(Locale.ROOT);
+
+                this.accessors.put(column, ReflectionUtil.getAccessor(field));
+                this.fields.put(column, field);
+            }
+
+            this.primary = ReflectionUtil.getPrimaryField(type).map(ReflectionUtil::getAccessor).orElse(null);
+        }
+
+        /**
+         * Get the current rows, loading them if they're not loaded
+         * @return the State or null if the rows couldn't be loaded
+         */
+        private State getState()
+        {
+            final State state = this.state;
+
+            if(state != null)
+                return state;
+
+            synchronized(this)
+            {
+                if(this.state != null)
+                    return this.state;
+
+                try {
+                    // Writes wait for us so there's nothing to miss
+                    this.state = new State(Lists.newArrayList(TableReplicas.this.loader.load(this.type)));
+                } catch (SQLException e) {
+                    e.printStackTrace();
+
+                    // Fallback to the Database
+                    return null;
+                }
+
+                // Keep the rows fresh
+                if(this.replicated.refreshInterval() > 0 && this.refreshTask == null)
+                    this.refreshTask = getScheduler().scheduleWithFixedDelay(this::refresh, this.replicated.refreshInterval(), this.replicated.refreshInterval(), this.replicated.unit());
+
+                return this.state;
+            }
+        }
+
+        /**
+         * Reload every row in the background
+         */
+        private void refresh()
+        {
+            // Not loaded, so they'll be loaded the next time they're read
+            if(this.state == null)
+                return;
+
+            // Taken before reading so a write whilst we're reading isn't lost
+            final long generation = this.generation.get();
+
+            try {
+                final List<Object> rows = Lists.newArrayList(TableReplicas.this.loader.load(this.type));
+
+                synchronized(this)
+                {
+                    // Invalidated or written to whilst we were reading
+                    if(this.state == null || this.generation.get() != generation)
+                        return;
+
+                    this.state = new State(rows);
+                }
+            } catch (SQLException | RuntimeException e) {
+                // Keeping the rows we have, an exception would stop the refreshes
+                e.printStackTrace();
+            }
+        }
+
+        /**
+         * Get the rows matching the "WHERE" conditions of a {@link Query}, without the skip and limit
+         * @param state to match against
+         * @param query to match
+         * @return the matching rows, or null if the Query filters by a column we don't have
+         */
+        private List<Object> filter(State state, Query query)
+        {
+            // No conditions so every row matches
+            if(query.getWheres().isEmpty())
+                return state.rows;
+
+            final int size = query.getWheres().size();
+            final FieldAccessor[] accessors = new FieldAccessor[size];
+            final Object[] values = new Object[size];
+            List<Object> candidates = null;
+            int index = 0;
+
+            for(Map.Entry<String, Object> entry : query.getWheres().entrySet())
+            {
+                final String column = entry.getKey().toLowerCase(Locale.ROOT);
+                final FieldAccessor accessor = this.accessors.get(column);
+
+                // Can't answer this Query
+                if(accessor == null)
+                    return null;
+
+                // "= NULL" never matches
+                if(entry.getValue() == null)
+                    return Collections.emptyList();
+
+                // Stored through another Codec or compared as another kind of value, so MySQL decides
+                if(!isComparable(this.fields.get(column), entry.getValue()))
+                    return null;
+
+                accessors[index] = accessor;
+                values[index++] = normalize(entry.getValue());
+
+                // Get the index of this column
+                final Map<Object, List<Object>> columnIndex = getIndex(state, column, accessor);
+
+                // A row holds text MySQL compares differently, so MySQL decides
+                if(columnIndex == UNINDEXABLE)
+                    return null;
+
+                // Narrowing down to the smallest bucket
+                final List<Object> bucket = columnIndex.getOrDefault(values[index - 1], Collections.emptyList());
+
+                if(candidates == null || bucket.size() < candidates.size())
+                    candidates = bucket;
+            }
+
+            // Only one condition so the bucket is the result
+            if(size == 1)
+                return candidates;
+
+            final List<Object> matches = Lists.newArrayList();
+
+            for(Object row : candidates)
+            {
+                if(matches(row, accessors, values))
+                    matches.add(row);
+            }
+
+            return matches;
+        }
+
+        /**
+         * Check if a row matches every condition
+         * @param row to check
+         * @param accessors of the columns
+         * @param values the columns must equal
+         * @return whether the row matches
+         */
+        private boolean matches(Object row, FieldAccessor[] accessors, Object[] values)
+        {
+            for(int i = 0; i < accessors.length; i++)
+            {
+                if(!values[i].equals(normalize(accessors[i].get(row))))
+                    return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * Get the index of a column, building it the first time
+         * @param state to index
+         * @param column to index
+         * @param accessor of the column
+         * @return the rows by their normalized value, or {@link #UNINDEXABLE} if a row can't be compared
+         */
+        private Map<Object, List<Object>> getIndex(State state, String column, FieldAccessor accessor)
+        {
+            return state.indexes.computeIfAbsent(column, key -> {
+                final Map<Object, List<Object>> index = Maps.newHashMap();
+
+                for(Object row : state.rows)
+                {
+                    final Object raw = accessor.get(row);
+
+                    // Can't answer any Query on this column
+                    if(!isFoldable(raw))
+                        return UNINDEXABLE;
+
+                    final Object value = normalize(raw);
+
+                    // NULL never equals anything
+                    if(value != null)
+                        index.computeIfAbsent(value, bucket -> Lists.newArrayListWithCapacity(1)).add(row);
+                }
+
+                return index;
+            });
+        }
+
+        /**
+         * Insert or replace the row of an Object that was saved
+         * @param object that was saved
+         */
+        private synchronized void upsert(Object object)
+        {
+            // Not loaded
+            if(this.state == null)
+                return;
+
+            // No way of telling which row it replaces
+            if(this.primary == null)
+            {
+                invalidate();
+                return;
+            }
+
+            final Object row;
+
+            try {
+                // Copy the Object so modifying it doesn't modify the rows
+                row = this.replicated.copyOnRead() ? EntityCopier.copy(object) : object;
+            } catch (ReflectiveOperationException e) {
+                e.printStackTrace();
+                invalidate();
+                return;
+            }
+
+            final Object key = normalize(this.primary.get(row));
+
+            // Not yet assigned, or we can't tell which row MySQL replaced
+            if(key == null || !isFoldable(this.primary.get(row)))
+            {
+                invalidate();
+                return;
+            }
+            final List<Object> rows = Lists.newArrayList(this.state.rows);
+            boolean replaced = false;
+
+            // Replacing the row in place
+            for(int i = 0; i < rows.size() && !replaced; i++)
+            {
+                if(key.equals(normalize(this.primary.get(rows.get(i)))))
+                {
+                    rows.set(i, row);
+                    replaced = true;
+                }
+            }
+
+            // A new row
+            if(!replaced)
+                rows.add(row);
+
+            this.generation.incrementAndGet();
+            this.state = new State(rows);
+        }
+
+        /**
+         * Remove the rows a delete matched
+         * @param query the rows were deleted with
+         */
+        private synchronized void delete(Query query)
+        {
+            // Not loaded
+            if(this.state == null)
+                return;
+
+            // Get the rows the delete matched
+            final List<Object> matches = filter(this.state, query);
+
+            // Can't tell which rows were deleted
+            if(matches == null)
+            {
+                invalidate();
+                return;
+            }
+
+            final Set<Object> deleted = Sets.newIdentityHashSet();
+            deleted.addAll(limit(matches, query));
+
+            final List<Object> rows = Lists.newArrayListWithCapacity(this.state.rows.size() - deleted.size());
+
+            for(Object row : this.state.rows)
+            {
+                if(!deleted.contains(row))
+                    rows.add(row);
+            }
+
+            this.generation.incrementAndGet();
+            this.state = new State(rows);
+        }
+
+        /**
+         * Drop the rows, reloading them the next time they're read
+         */
+        private synchronized void invalidate()
+        {
+            this.generation.incrementAndGet();
+            this.state = null;
+        }
+
+        /**
+         * Drop the rows and forget the refresh, used once the scheduler is shut down
+         */
+        private synchronized void stop()
+        {
+            invalidate();
+
+            if(this.refreshTask != null)
+                this.refreshTask.cancel(false);
+
+            this.refreshTask = null;
+        }
+
+        /**
+         * Check if a column can be compared with a value in memory, being stored by a
+         * built-in Codec and the value being the same kind as the column's
+         * @param field of the column
+         * @param value the column must equal
+         * @return whether {@link #normalize(Object)} compares them the way MySQL would
+         */
+        private boolean isComparable(Field field, Object value)
+        {
+            // Selected for this column or compressed
+            if(ReflectionUtil.getSelectedCodec(field).isPresent())
+                return false;
+
+            // Registered for the type, which may not be the built-in one
+            final Codec<?> codec = Codec.getCodec(field.getType());
+
+            if(codec == null || !COMPARABLE_CODECS.contains(codec.getClass()))
+                return false;
+
+            return normalizedType(field.getType()) == normalizedType(value.getClass()) && isFoldable(value);
+        }
+
+        /**
+         * Check if lower-casing a value compares it the way a case insensitive collation would,
+         * only true for text without non-ASCII characters (which may be compared without accents)
+         * or trailing spaces (which are ignored)
+         * @param value to check
+         * @return whether {@link #normalize(Object)} compares it the way MySQL would
+         */
+        private boolean isFoldable(Object value)
+        {
+            // Compared exactly
+            if(!this.caseInsensitive)
+                return true;
+
+            // Stored as text
+            if(value instanceof Enum)
+                value = ((Enum<?>) value).name();
+
+            if(!(value instanceof String))
+                return true;
+
+            final String text = (String) value;
+
+            // Ignored by PAD SPACE collations
+            if(!text.isEmpty() && text.charAt(text.length() - 1) == ' ')
+                return false;
+
+            for(int i = 0; i < text.length(); i++)
+            {
+                if(text.charAt(i) > 0x7F)
+                    return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * Get the type a value of a type is normalized to
+         * @param type of the value
+         * @return the normalized type
+         */
+        private Class<?> normalizedType(Class<?> type)
+        {
+            type = Primitives.wrap(type);
+
+            if(type == Integer.class || type == Short.class || type == Byte.class || type == Long.class || type == Boolean.class)
+                return Long.class;
+
+            if(type == Float.class || type == Double.class)
+                return Double.class;
+
+            if(type == byte[].class)
+                return ByteBuffer.class;
+
+            if(type.isEnum() || Enum.class.isAssignableFrom(type) || type == UUID.class)
+                return String.class;
+
+            return type;
+        }
+
+        /**
+         * Normalize a value so it compares the way MySQL would compare it
+         * @param value to normalize
+         * @return the normalized value
+         */
+        private Object normalize(Object value)
+        {
+            if(value instanceof Integer || value instanceof Short || value instanceof Byte)
+                return ((Number) value).longValue();
+
+            if(value instanceof Float)
+                return ((Float) value).doubleValue();
+
+            if(value instanceof Boolean)
+                return (Boolean) value ? 1L : 0L;
+
+            if(value instanceof byte[])
+                return ByteBuffer.wrap((byte[]) value);
+
+            // Stored as text
+            if(value instanceof Enum)
+                value = ((Enum<?>) value).name();
+            else if(value instanceof UUID)
+                value = value.toString();
+
+            if(value instanceof String && this.caseInsensitive)
+                return ((String) value).toLowerCase(Locale.ROOT);
+
+            return value;
+        }
+
+    }
+
+}
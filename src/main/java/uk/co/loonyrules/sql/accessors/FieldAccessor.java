@@ -0,0 +1,371 @@
+package uk.co.loonyrules.sql.accessors;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+
+/**
+ * Reads and writes a {@link Field} through {@link MethodHandle}'s instead of
+ * {@link Field#get(Object)} and {@link Field#set(Object, Object)}.
+ *
+ * Primitive Fields also get primitive typed handles, so an int, long, double,
+ * float or boolean Field can be read and written without being boxed.
+ */
+public class FieldAccessor
+{
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Field field;
+
+    private final MethodHandle
+            getter,
+            setter;
+
+    private final MethodHandle
+            intGetter,
+            intSetter,
+            longGetter,
+            longSetter,
+            doubleGetter,
+            doubleSetter,
+            floatGetter,
+            floatSetter,
+            booleanGetter,
+            booleanSetter;
+
+    /**
+     * Create a new FieldAccessor for a Field
+     * @param field to read and write
+     */
+    public FieldAccessor(Field field)
+    {
+        this.field = field;
+
+        // Ensuring we're allowed to access the Field
+        field.setAccessible(true);
+
+        // The raw handles for this Field
+        final MethodHandle rawGetter = unreflectGetter(field);
+        final MethodHandle rawSetter = unreflectSetter(field);
+
+        // Generic (boxing) handles
+        this.getter = adapt(rawGetter, MethodType.methodType(Object.class, Object.class));
+        this.setter = adapt(rawSetter, MethodType.methodType(void.class, Object.class, Object.class));
+
+        // Primitive handles are only created for primitive Fields
+        final boolean primitive = field.getType().isPrimitive();
+
+        this.intGetter = primitive ? adapt(rawGetter, MethodType.methodType(int.class, Object.class)) : null;
+        this.intSetter = primitive ? adapt(rawSetter, MethodType.methodType(void.class, Object.class, int.class)) : null;
+        this.longGetter = primitive ? adapt(rawGetter, MethodType.methodType(long.class, Object.class)) : null;
+        this.longSetter = primitive ? adapt(rawSetter, MethodType.methodType(void.class, Object.class, long.class)) : null;
+        this.doubleGetter = primitive ? adapt(rawGetter, MethodType.methodType(double.class, Object.class)) : null;
+        this.doubleSetter = primitive ? adapt(rawSetter, MethodType.methodType(void.class, Object.class, double.class)) : null;
+        this.floatGetter = primitive ? adapt(rawGetter, MethodType.methodType(float.class, Object.class)) : null;
+        this.floatSetter = primitive ? adapt(rawSetter, MethodType.methodType(void.class, Object.class, float.class)) : null;
+        this.booleanGetter = primitive ? adapt(rawGetter, MethodType.methodType(boolean.class, Object.class)) : null;
+        this.booleanSetter = primitive ? adapt(rawSetter, MethodType.methodType(void.class, Object.class, boolean.class)) : null;
+    }
+
+    /**
+     * Get the Field this FieldAccessor is managing
+     * @return the Field this FieldAccessor is managing
+     */
+    public Field getField()
+    {
+        return this.field;
+    }
+
+    /**
+     * Get the type of the Field
+     * @return type of the Field
+     */
+    public Class<?> getType()
+    {
+        return this.field.getType();
+    }
+
+    /**
+     * Get the value of the Field
+     * @param object instance to get the value from
+     * @return the Field's value (boxed if it's a primitive)
+     */
+    public Object get(Object object)
+    {
+        try {
+            // No handle so fallback to reflection
+            if(this.getter == null)
+                return this.field.get(object);
+
+            return (Object) this.getter.invokeExact(object);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    /**
+     * Set the value of the Field
+     * @param object instance to set the value for
+     * @param value to set
+     */
+    public void set(Object object, Object value)
+    {
+        try {
+            // No handle so fallback to reflection
+            if(this.setter == null)
+                this.field.set(object, value);
+            else this.setter.invokeExact(object, value);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    /**
+     * Get the value of the Field as an int
+     * @param object instance to get the value from
+     * @return the Field's value
+     */
+    public int getInt(Object object)
+    {
+        try {
+            // Not a primitive int compatible Field so unbox
+            if(this.intGetter == null)
+                return ((Number) get(object)).intValue();
+
+            return (int) this.intGetter.invokeExact(object);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    /**
+     * Set the value of the Field from an int
+     * @param object instance to set the value for
+     * @param value to set
+     */
+    public void setInt(Object object, int value)
+    {
+        try {
+            // Not a primitive int compatible Field so box
+            if(this.intSetter == null)
+                set(object, value);
+            else this.intSetter.invokeExact(object, value);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    /**
+     * Get the value of the Field as a long
+     * @param object instance to get the value from
+     * @return the Field's value
+     */
+    public long getLong(Object object)
+    {
+        try {
+            // Not a primitive long compatible Field so unbox
+            if(this.longGetter == null)
+                return ((Number) get(object)).longValue();
+
+            return (long) this.longGetter.invokeExact(object);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    /**
+     * Set the value of the Field from a long
+     * @param object instance to set the value for
+     * @param value to set
+     */
+    public void setLong(Object object, long value)
+    {
+        try {
+            // Not a primitive long compatible Field so box
+            if(this.longSetter == null)
+                set(object, value);
+            else this.longSetter.invokeExact(object, value);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    /**
+     * Get the value of the Field as a double
+     * @param object instance to get the value from
+     * @return the Field's value
+     */
+    public double getDouble(Object object)
+    {
+        try {
+            // Not a primitive double compatible Field so unbox
+            if(this.doubleGetter == null)
+                return ((Number) get(object)).doubleValue();
+
+            return (double) this.doubleGetter.invokeExact(object);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    /**
+     * Set the value of the Field from a double
+     * @param object instance to set the value for
+     * @param value to set
+     */
+    public void setDouble(Object object, double value)
+    {
+        try {
+            // Not a primitive double compatible Field so box
+            if(this.doubleSetter == null)
+                set(object, value);
+            else this.doubleSetter.invokeExact(object, value);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    /**
+     * Get the value of the Field as a float
+     * @param object instance to get the value from
+     * @return the Field's value
+     */
+    public float getFloat(Object object)
+    {
+        try {
+            // Not a primitive float compatible Field so unbox
+            if(this.floatGetter == null)
+                return ((Number) get(object)).floatValue();
+
+            return (float) this.floatGetter.invokeExact(object);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    /**
+     * Set the value of the Field from a float
+     * @param object instance to set the value for
+     * @param value to set
+     */
+    public void setFloat(Object object, float value)
+    {
+        try {
+            // Not a primitive float compatible Field so box
+            if(this.floatSetter == null)
+                set(object, value);
+            else this.floatSetter.invokeExact(object, value);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    /**
+     * Get the value of the Field as a boolean
+     * @param object instance to get the value from
+     * @return the Field's value
+     */
+    public boolean getBoolean(Object object)
+    {
+        try {
+            // Not a primitive boolean Field so unbox
+            if(this.booleanGetter == null)
+                return (Boolean) get(object);
+
+            return (boolean) this.booleanGetter.invokeExact(object);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    /**
+     * Set the value of the Field from a boolean
+     * @param object instance to set the value for
+     * @param value to set
+     */
+    public void setBoolean(Object object, boolean value)
+    {
+        try {
+            // Not a primitive boolean Field so box
+            if(this.booleanSetter == null)
+                set(object, value);
+            else this.booleanSetter.invokeExact(object, value);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "FieldAccessor{" +
+                "field=" + this.field +
+                '}';
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get a getter MethodHandle for a Field
+     * @param field to get the getter for
+     * @return the getter or null if not allowed
+     */
+    private static MethodHandle unreflectGetter(Field field)
+    {
+        try {
+            return LOOKUP.unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get a setter MethodHandle for a Field
+     * @param field to get the setter for
+     * @return the setter or null if not allowed (Eg: final Fields)
+     */
+    private static MethodHandle unreflectSetter(Field field)
+    {
+        try {
+            return LOOKUP.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adapt a MethodHandle to a MethodType
+     * @param handle to adapt
+     * @param type to adapt the handle to
+     * @return the adapted handle or null if the types aren't compatible
+     */
+    private static MethodHandle adapt(MethodHandle handle, MethodType type)
+    {
+        try {
+            return handle == null ? null : handle.asType(type);
+        } catch (WrongMethodTypeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Rethrow a Throwable thrown by a MethodHandle or reflection
+     * @param throwable to rethrow
+     * @return nothing, always throws
+     */
+    private static RuntimeException rethrow(Throwable throwable)
+    {
+        // Unchecked so throw as is
+        if(throwable instanceof RuntimeException)
+            throw (RuntimeException) throwable;
+
+        if(throwable instanceof Error)
+            throw (Error) throwable;
+
+        throw new IllegalStateException(throwable);
+    }
+
+}
@@ -0,0 +1,52 @@
+package uk.co.loonyrules.sql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the rows of a {@link Table} by their {@link Primary} value, so finding or reloading
+ * an Object by its @Primary {@link Column} is served from memory once it's been loaded.
+ *
+ * Saving an Object updates its entry and deleting invalidates it. Rows changed outside of
+ * the {@link uk.co.loonyrules.sql.Database} aren't seen until the entry expires or is
+ * invalidated with {@link uk.co.loonyrules.sql.Database#invalidateCache(Class)}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cached
+{
+
+    /**
+     * Maximum number of rows held, the least recently used are evicted first
+     *
+     * @return the maximum number of rows
+     */
+    long maximumSize() default 1000;
+
+    /**
+     * How long a row is held after it was loaded or saved, 0 to hold it until it's evicted by size
+     *
+     * @return the time to live in {@link #unit()}
+     */
+    long expireAfterWrite() default 0;
+
+    /**
+     * {@link TimeUnit} of {@link #expireAfterWrite()}
+     *
+     * @return the TimeUnit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * Should a copy of the cached row be returned every time? Otherwise every
+     * lookup shares the same instance, which is cheaper but must not be modified
+     * without saving it.
+     *
+     * @return whether a copy is returned on every read
+     */
+    boolean copyOnRead() default true;
+
+}
@@ -0,0 +1,53 @@
+package uk.co.loonyrules.sql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the results of finding and counting the rows of a {@link Table}, keyed by the
+ * {@link uk.co.loonyrules.sql.Query} they were found with, so running the same Query again
+ * is served from memory.
+ *
+ * Saving, deleting or updating the {@link Table} through the same
+ * {@link uk.co.loonyrules.sql.Database} invalidates every cached result. Rows changed
+ * outside of it aren't seen until the results expire or are invalidated with
+ * {@link uk.co.loonyrules.sql.Database#invalidateCache(Class)}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedQueries
+{
+
+    /**
+     * Maximum number of rows held across every cached result, a count weighs 1
+     *
+     * @return the maximum weight
+     */
+    long maximumWeight() default 10_000;
+
+    /**
+     * How long a result is held after it was found
+     *
+     * @return the time to live in {@link #unit()}
+     */
+    long expireAfterWrite() default 60;
+
+    /**
+     * {@link TimeUnit} of {@link #expireAfterWrite()}
+     *
+     * @return the TimeUnit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * Should copies of the cached rows be returned every time? Otherwise every
+     * result shares the same instances, which is cheaper but must not be modified.
+     *
+     * @return whether copies are returned on every read
+     */
+    boolean copyOnRead() default true;
+
+}
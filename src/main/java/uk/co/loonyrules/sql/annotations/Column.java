@@ -1,5 +1,7 @@
 package uk.co.loonyrules.sql.annotations;
 
+import uk.co.loonyrules.sql.codecs.Codec;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -27,4 +29,12 @@ public @interface Column
      */
     int maxLength() default 255;
 
+    /**
+     * {@link Codec} used for this {@link Column} instead of the one registered
+     * for the Field's type. Leave as {@link Codec} to use the registered one.
+     *
+     * @return the {@link Codec} class for this {@link Column}
+     */
+    Class<? extends Codec> codec() default Codec.class;
+
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package uk.co.loonyrules.sql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Compresses the value of a {@link Column} with {@link java.util.zip.Deflater}
+ * once it's larger than the threshold, storing it in a LONGBLOB.
+ *
+ * Works for byte[]'s and any Field whose {@link uk.co.loonyrules.sql.codecs.Codec}
+ * can encode it as text (Eg: String, List). See
+ * {@link uk.co.loonyrules.sql.codecs.types.CompressedCodec} for the compression ratio.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Compressed
+{
+
+    /**
+     * Size in bytes a value has to exceed to be compressed, smaller
+     * values are stored as they are
+     *
+     * @return the threshold in bytes
+     */
+    int threshold() default 512;
+
+    /**
+     * Deflater compression level, 1 (fastest) to 9 (smallest) or -1 for the default
+     *
+     * @return the compression level
+     */
+    int level() default -1;
+
+}
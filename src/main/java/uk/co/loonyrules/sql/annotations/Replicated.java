@@ -0,0 +1,46 @@
+package uk.co.loonyrules.sql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds every row of a small {@link Table} in memory, loading the whole table the first
+ * time it's read and refreshing it in the background. Finding, finding the first and
+ * counting rows is answered from memory with the same {@link uk.co.loonyrules.sql.Query}
+ * semantics, using hash indexes built on the columns Queries filter by.
+ *
+ * Saving and deleting through the same {@link uk.co.loonyrules.sql.Database} is applied to
+ * the rows in memory straight away, rows changed outside of it are seen on the next refresh
+ * or after {@link uk.co.loonyrules.sql.Database#invalidateCache(Class)}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Replicated
+{
+
+    /**
+     * How often the whole table is reloaded, 0 to only reload it once it's invalidated
+     *
+     * @return the refresh interval in {@link #unit()}
+     */
+    long refreshInterval() default 60;
+
+    /**
+     * {@link TimeUnit} of {@link #refreshInterval()}
+     *
+     * @return the TimeUnit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * Should copies of the rows be returned every time? Otherwise every
+     * read shares the same instances, which is cheaper but must not be modified.
+     *
+     * @return whether copies are returned on every read
+     */
+    boolean copyOnRead() default true;
+
+}
@@ -33,4 +33,10 @@ public @interface Table
      */
     ModifyType modifyType() default ModifyType.ADD;
 
+    /**
+     * Should we remember the values loaded for this {@link Table} so saving only writes changed columns?
+     * @return whether or not changes are tracked for this {@link Table}
+     */
+    boolean trackChanges() default false;
+
 }
\ No newline at end of file
@@ -1,14 +1,27 @@
 package uk.co.loonyrules.sql.codecs;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.primitives.Primitives;
 import uk.co.loonyrules.sql.codecs.types.*;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Codec's for encoding and decoding Objects
@@ -17,7 +30,48 @@ import java.util.Set;
 public abstract class Codec<T>
 {
 
-    private static final Map<Set<Class<?>>, Codec> codecs = Maps.newHashMap();
+    private static final ConcurrentMap<Set<Class<?>>, Codec> codecs = Maps.newConcurrentMap();
+    private static final ConcurrentMap<Class<?>, Codec> typeCodecs = Maps.newConcurrentMap();
+
+    private static final ConcurrentMap<Class<?>, Codec> detachedCodecs = Maps.newConcurrentMap();
+    private static final ThreadLocal<Boolean> detached = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Incremented whenever a Codec is registered, resolutions remember the value they were resolved at
+     */
+    private static final AtomicLong registrations = new AtomicLong();
+
+    /**
+     * Types that have been resolved, held weakly so their ClassLoaders can be unloaded
+     */
+    private static final Set<Class<?>> resolvedTypes = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * The registration a type was last invalidated by, it's resolved again if it was resolved before that
+     */
+    private static final ClassValue<AtomicLong> invalidations = new ClassValue<AtomicLong>()
+    {
+        @Override
+        protected AtomicLong computeValue(Class<?> type)
+        {
+            return new AtomicLong();
+        }
+    };
+
+    private static final ClassValue<Resolved> resolved = new ClassValue<Resolved>()
+    {
+        @Override
+        protected Resolved computeValue(Class<?> type)
+        {
+            // Known before reading the registry so a registration racing us invalidates this resolution
+            resolvedTypes.add(type);
+
+            // Read the registration first so a registration during resolution forces another
+            final long registration = registrations.get();
+
+            return new Resolved(registration, resolve(type));
+        }
+    };
 
     /**
      * Get registered Codecs
@@ -25,22 +79,40 @@ public abstract class Codec<T>
      */
     public static Map<Set<Class<?>>, Codec> getCodecs()
     {
-        return codecs;
+        return Collections.unmodifiableMap(codecs);
     }
 
     /**
-     * Get a Codec via its mapping type
+     * Get a Codec via its mapping type, falling back to the Codec of its
+     * boxed/primitive counterpart, superclasses and then interfaces
      * @param clazz to get the Codec for
      * @param <T> type that the Codec is managing
      * @return type of Codec (Eg: String.class -> StringCodec.class)
      */
     public static <T> T getCodec(Class<?> clazz)
     {
+        // Get the resolution for this type
+        Resolved result = resolved.get(clazz);
+
+        // A Codec this type may resolve to has been registered since this was resolved
+        while(result.registration < invalidations.get(clazz).get())
+        {
+            resolved.remove(clazz);
+            result = resolved.get(clazz);
+        }
+
         // Return null if not found or cast and return
-        return (T) codecs.values().stream()
-                .filter(codec -> codec.isManaging(clazz))
-                .findFirst()
-                .orElse(null);
+        return (T) result.codec;
+    }
+
+    /**
+     * Get the number of Codecs registered so far, anything resolved from the registry
+     * can be cached until this changes
+     * @return the number of registrations
+     */
+    public static long getRegistrations()
+    {
+        return registrations.get();
     }
 
     /**
@@ -50,7 +122,148 @@ public abstract class Codec<T>
      */
     public static boolean isRegistered(Class<? extends Codec> codec)
     {
-        return getCodec(codec) != null;
+        return codecs.values().stream().anyMatch(registered -> registered.getClass() == codec);
+    }
+
+    /**
+     * Register a Codec, overwriting any Codec already registered for its types. Codecs register
+     * themselves when constructed, registering one that's already registered does nothing
+     * @param codec to register
+     * @param <C> type of the Codec
+     * @return the Codec registered
+     */
+    public static <C extends Codec<?>> C register(C codec)
+    {
+        // Put into the codecs maps, unless it's already registered for every one of its types
+        if(codecs.put(codec.getTypes(), codec) == codec && codec.getTypes().stream().allMatch(type -> typeCodecs.get(type) == codec))
+            return codec;
+
+        codec.getTypes().forEach(type -> typeCodecs.put(type, codec));
+
+        // Resolutions from before this registration are stale if they could resolve to this Codec
+        final long registration = registrations.incrementAndGet();
+
+        final List<Class<?>> types;
+
+        synchronized(resolvedTypes)
+        {
+            types = Lists.newArrayList(resolvedTypes);
+        }
+
+        for(Class<?> type : types)
+        {
+            if(isAffected(type, codec.getTypes()))
+                invalidations.get(type).accumulateAndGet(registration, Math::max);
+        }
+
+        return codec;
+    }
+
+    /**
+     * Check if a type could resolve to a Codec registered for some types, being one of
+     * them, their boxed or primitive counterpart, a subclass or an implementation
+     * @param type to check
+     * @param codecTypes the Codec is registered for
+     * @return whether the type could resolve to the Codec
+     */
+    private static boolean isAffected(Class<?> type, Set<Class<?>> codecTypes)
+    {
+        final Class<?> boxed = Primitives.wrap(type);
+
+        for(Class<?> codecType : codecTypes)
+        {
+            if(codecType.isAssignableFrom(boxed) || Primitives.wrap(codecType) == boxed)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Get a shared instance of a Codec class that isn't registered for its types,
+     * used for Codecs selected per column with {@link uk.co.loonyrules.sql.annotations.Column#codec()}
+     * @param codecClass to get the instance of
+     * @param <T> type of the Codec
+     * @return the shared, unregistered instance
+     */
+    public static <T extends Codec> T getDetached(Class<T> codecClass)
+    {
+        return (T) detachedCodecs.computeIfAbsent(codecClass, type -> createDetached(() -> {
+            try {
+                final Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return (Codec) constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Codec " + type + " needs a no-args constructor to be used per column.", e);
+            }
+        }));
+    }
+
+    /**
+     * Create a Codec that isn't registered for its types
+     * @param constructor creating the Codec
+     * @param <T> type of the Codec
+     * @return the unregistered Codec
+     */
+    protected static <T extends Codec> T createDetached(Supplier<T> constructor)
+    {
+        // Constructing without registering
+        detached.set(true);
+
+        try {
+            return constructor.get();
+        } finally {
+            detached.set(false);
+        }
+    }
+
+    /**
+     * Resolve the Codec for a type
+     * @param type to resolve
+     * @return the Codec or null if there isn't one
+     */
+    private static Codec resolve(Class<?> type)
+    {
+        // Registered for this exact type
+        Codec codec = typeCodecs.get(type);
+
+        if(codec != null)
+            return codec;
+
+        // Registered for the boxed or primitive counterpart (int <-> Integer)
+        final Class<?> counterpart = type.isPrimitive() ? Primitives.wrap(type) : Primitives.unwrap(type);
+
+        if(counterpart != type && (codec = typeCodecs.get(counterpart)) != null)
+            return codec;
+
+        // Registered for a superclass, covers enum constants with bodies and Enum itself
+        for(Class<?> superclass = type.getSuperclass(); superclass != null && superclass != Object.class; superclass = superclass.getSuperclass())
+        {
+            if((codec = typeCodecs.get(superclass)) != null)
+                return codec;
+        }
+
+        // Registered for an interface, nearest first (ArrayList -> List before Collection)
+        final Set<Class<?>> visited = Sets.newHashSet();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+
+        for(Class<?> current = type; current != null; current = current.getSuperclass())
+            queue.addAll(Arrays.asList(current.getInterfaces()));
+
+        while(!queue.isEmpty())
+        {
+            final Class<?> anInterface = queue.poll();
+
+            if(!visited.add(anInterface))
+                continue;
+
+            if((codec = typeCodecs.get(anInterface)) != null)
+                return codec;
+
+            queue.addAll(Arrays.asList(anInterface.getInterfaces()));
+        }
+
+        return null;
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -64,11 +277,26 @@ public abstract class Codec<T>
         new UUIDCodec();
         new LongCodec();
         new ListCodec();
+        new EnumCodec<>(Enum.class);
+        new EnumSetCodec();
+        new BitSetCodec();
+        new InstantCodec();
+        new LocalDateTimeCodec();
+        new LocalDateCodec();
+        new DurationCodec();
+        new ByteArrayCodec();
+        new ByteBufferCodec();
+        new BlobRefCodec();
+        new IntArrayCodec();
+        new LongArrayCodec();
+        new TIntArrayListCodec();
+        new TLongArrayListCodec();
+        new TIntIntHashMapCodec();
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
-    private Set<Class<?>> types;
+    private final Set<Class<?>> types;
     private String sqlType;
     private int maxLength;
 
@@ -96,10 +324,11 @@ public abstract class Codec<T>
         // The maximum length allowed for this SQL type
         this.maxLength = maxLength;
 
-        this.types = Sets.newHashSet(types);
+        this.types = Collections.unmodifiableSet(Sets.newHashSet(types));
 
-        // Put into the codecs map
-        codecs.put(this.types, this);
+        // Register this Codec unless it's being created for a single column
+        if(!detached.get())
+            register(this);
     }
 
     /**
@@ -160,6 +389,54 @@ public abstract class Codec<T>
      */
     public abstract T decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException;
 
+    /**
+     * Get the Codec to use for a specific Field, letting a Codec specialise itself using
+     * the Field's generic type (Eg: the element type of a List)
+     * @param field the Codec is used for
+     * @return the Codec for the Field, or null if this Codec can't be used for it
+     */
+    public Codec<T> forField(Field field)
+    {
+        return this;
+    }
+
+    /**
+     * Encode the data as text, used when the data is an element of a collection
+     * @param data to encode
+     * @return the encoded text
+     */
+    public String encodeText(T data)
+    {
+        return String.valueOf(data);
+    }
+
+    /**
+     * Decode the data from text written by {@link #encodeText(Object)}
+     * @param text to decode
+     * @param type of the data
+     * @return The Object the Codec is decoding
+     */
+    public T decodeText(String text, Class<?> type)
+    {
+        throw new UnsupportedOperationException(this + " doesn't support decoding from text.");
+    }
+
+    /**
+     * Decode the data from a {@link ResultSet} column index into the Object specified for the Field.
+     * Codecs should override this to avoid the column label lookup, by default the label is looked up
+     * and {@link #decode(ResultSet, Class, String)} is used.
+     *
+     * @param resultSet our data
+     * @param type of field
+     * @param column index of the column (starting at 1)
+     * @return The Object the Codec is decoding
+     * @throws SQLException If a MySQL error occurred
+     */
+    public T decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return decode(resultSet, type, resultSet.getMetaData().getColumnLabel(column));
+    }
+
     /**
      * Encode the data into the {@link PreparedStatement}
      * @param statement the encoded data is inserted into
@@ -178,4 +455,84 @@ public abstract class Codec<T>
                 ", maxLength=" + this.maxLength +
                 '}';
     }
-}
\ No newline at end of file
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The Codec a type resolved to and the registration it was resolved at
+     */
+    private static class Resolved
+    {
+
+        private final long registration;
+        private final Codec codec;
+
+        private Resolved(long registration, Codec codec)
+        {
+            this.registration = registration;
+            this.codec = codec;
+        }
+
+    }
+
+    /**
+     * A Codec able to decode and encode a primitive int without boxing
+     */
+    public interface OfInt
+    {
+
+        int decodeInt(ResultSet resultSet, int column) throws SQLException;
+
+        void encodeInt(PreparedStatement statement, int index, int data) throws SQLException;
+
+    }
+
+    /**
+     * A Codec able to decode and encode a primitive long without boxing
+     */
+    public interface OfLong
+    {
+
+        long decodeLong(ResultSet resultSet, int column) throws SQLException;
+
+        void encodeLong(PreparedStatement statement, int index, long data) throws SQLException;
+
+    }
+
+    /**
+     * A Codec able to decode and encode a primitive double without boxing
+     */
+    public interface OfDouble
+    {
+
+        double decodeDouble(ResultSet resultSet, int column) throws SQLException;
+
+        void encodeDouble(PreparedStatement statement, int index, double data) throws SQLException;
+
+    }
+
+    /**
+     * A Codec able to decode and encode a primitive float without boxing
+     */
+    public interface OfFloat
+    {
+
+        float decodeFloat(ResultSet resultSet, int column) throws SQLException;
+
+        void encodeFloat(PreparedStatement statement, int index, float data) throws SQLException;
+
+    }
+
+    /**
+     * A Codec able to decode and encode a primitive boolean without boxing
+     */
+    public interface OfBoolean
+    {
+
+        boolean decodeBoolean(ResultSet resultSet, int column) throws SQLException;
+
+        void encodeBoolean(PreparedStatement statement, int index, boolean data) throws SQLException;
+
+    }
+
+}
@@ -0,0 +1,208 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.UUID;
+
+/**
+ * Codec for Encoding/Decoding a UUID as BINARY(16) rather than a varchar(36).
+ *
+ * Not registered by default. Select it for a single column with
+ * {@code @Column(codec = BinaryUUIDCodec.class)} or register it for every UUID with
+ * {@code new BinaryUUIDCodec()}. Existing varchar(36) columns aren't converted.
+ *
+ * {@link TimeOrdered} stores the time fields of a version 1 UUID first (the same layout
+ * as MySQL's {@code UUID_TO_BIN(uuid, 1)}) so new rows are appended to the end of the index.
+ * Random (version 4) UUIDs don't gain anything from it.
+ */
+public class BinaryUUIDCodec extends Codec<UUID>
+{
+
+    private final boolean timeOrdered;
+
+    /**
+     * Construct and register this BinaryUUIDCodec
+     */
+    public BinaryUUIDCodec()
+    {
+        this(false);
+    }
+
+    /**
+     * Construct and register this BinaryUUIDCodec
+     * @param timeOrdered whether the time fields are stored first
+     */
+    public BinaryUUIDCodec(boolean timeOrdered)
+    {
+        super("binary", 16, UUID.class);
+        this.timeOrdered = timeOrdered;
+    }
+
+    /**
+     * Check if the time fields are stored first
+     * @return whether the byte layout is time ordered
+     */
+    public boolean isTimeOrdered()
+    {
+        return this.timeOrdered;
+    }
+
+    /**
+     * Decode the data given into a UUID object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The UUID decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public UUID decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(fieldName));
+    }
+
+    /**
+     * Decode the data at a column index into a UUID object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The UUID decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public UUID decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(column));
+    }
+
+    /**
+     * Decode the text of a collection element into a UUID object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The UUID decoded
+     */
+    @Override
+    public UUID decodeText(String text, Class<?> type)
+    {
+        // Allows for returning null UUID's
+        return text.isEmpty() ? null : UUID.fromString(text);
+    }
+
+    /**
+     * Encode the UUID into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, UUID data) throws SQLException
+    {
+        // Allows for null UUID's
+        if(data == null)
+        {
+            statement.setNull(index, Types.BINARY);
+            return;
+        }
+
+        statement.setBytes(index, toBytes(data));
+    }
+
+    /**
+     * Convert a UUID into its 16 bytes
+     * @param uuid to convert
+     * @return the bytes of the UUID
+     */
+    public byte[] toBytes(UUID uuid)
+    {
+        final long most = this.timeOrdered ? toTimeOrdered(uuid.getMostSignificantBits()) : uuid.getMostSignificantBits();
+        final long least = uuid.getLeastSignificantBits();
+        final byte[] bytes = new byte[16];
+
+        // Big endian, most significant first
+        for(int i = 0; i < 8; i++)
+        {
+            bytes[i] = (byte) (most >>> (56 - (i << 3)));
+            bytes[i + 8] = (byte) (least >>> (56 - (i << 3)));
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Convert 16 bytes into a UUID
+     * @param bytes to convert
+     * @return the UUID or null if there were no bytes
+     */
+    public UUID fromBytes(byte[] bytes)
+    {
+        // Allows for returning null UUID's
+        if(bytes == null || bytes.length == 0)
+            return null;
+
+        if(bytes.length != 16)
+            throw new IllegalArgumentException("Expected 16 bytes for a UUID but got " + bytes.length + ".");
+
+        long most = 0, least = 0;
+
+        // Big endian, most significant first
+        for(int i = 0; i < 8; i++)
+        {
+            most = (most << 8) | (bytes[i] & 0xFF);
+            least = (least << 8) | (bytes[i + 8] & 0xFF);
+        }
+
+        return new UUID(this.timeOrdered ? fromTimeOrdered(most) : most, least);
+    }
+
+    /**
+     * Move time_hi and time_mid in front of time_low
+     * @param most significant bits in the standard layout
+     * @return most significant bits in the time ordered layout
+     */
+    private static long toTimeOrdered(long most)
+    {
+        return (most << 48) | ((most & 0xFFFF0000L) << 16) | (most >>> 32);
+    }
+
+    /**
+     * Move time_low back in front of time_mid and time_hi
+     * @param most significant bits in the time ordered layout
+     * @return most significant bits in the standard layout
+     */
+    private static long fromTimeOrdered(long most)
+    {
+        return (most << 32) | ((most >>> 16) & 0xFFFF0000L) | (most >>> 48);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BinaryUUIDCodec{" +
+                "timeOrdered=" + this.timeOrdered +
+                '}';
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * A {@link BinaryUUIDCodec} storing the time fields first, for {@code @Column(codec = BinaryUUIDCodec.TimeOrdered.class)}
+     */
+    public static class TimeOrdered extends BinaryUUIDCodec
+    {
+
+        /**
+         * Construct and register this time ordered BinaryUUIDCodec
+         */
+        public TimeOrdered()
+        {
+            super(true);
+        }
+
+    }
+
+}
@@ -0,0 +1,174 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.BitSet;
+
+/**
+ * Codec for Encoding/Decoding a BitSet as a bitmask in a BIGINT, so bits
+ * can be tested in SQL (Eg: {@code WHERE (`flags` & ?) != 0}). BitSets with
+ * bits above 63 need {@link Binary}.
+ */
+public class BitSetCodec extends Codec<BitSet>
+{
+
+    /**
+     * Construct and register this BitSetCodec
+     */
+    public BitSetCodec()
+    {
+        this("bigint", -1);
+    }
+
+    /**
+     * Construct and register this BitSetCodec
+     * @param sqlType SQL type we're Encoding
+     * @param maxLength the maximum length allowed for the data
+     */
+    protected BitSetCodec(String sqlType, int maxLength)
+    {
+        super(sqlType, maxLength, BitSet.class);
+    }
+
+    /**
+     * Decode the data given into a BitSet object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The BitSet decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public BitSet decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        final long mask = resultSet.getLong(fieldName);
+        return resultSet.wasNull() ? null : BitSet.valueOf(new long[] { mask });
+    }
+
+    /**
+     * Decode the data at a column index into a BitSet object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The BitSet decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public BitSet decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        final long mask = resultSet.getLong(column);
+        return resultSet.wasNull() ? null : BitSet.valueOf(new long[] { mask });
+    }
+
+    /**
+     * Encode the BitSet into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered or a bit above 63 is set
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, BitSet data) throws SQLException
+    {
+        // Allows for null BitSet's
+        if(data == null)
+        {
+            statement.setNull(index, Types.BIGINT);
+            return;
+        }
+
+        if(data.length() > Long.SIZE)
+            throw new SQLException("BitSet has bit " + (data.length() - 1) + " set which doesn't fit in a BIGINT bitmask. Use BitSetCodec.Binary for this column.");
+
+        statement.setLong(index, data.isEmpty() ? 0 : data.toLongArray()[0]);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BitSetCodec{}";
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * A BitSetCodec storing the bits in a VARBINARY, the length of the @Column
+     * in bytes. Bytes are little-endian like {@link BitSet#toByteArray()}.
+     *
+     * Select it for a single column with {@code @Column(codec = BitSetCodec.Binary.class)}.
+     */
+    public static class Binary extends BitSetCodec
+    {
+
+        /**
+         * Construct this Binary for a single column, only through {@link Codec#getDetached(Class)}
+         * as the column's length decides how many bits fit
+         */
+        protected Binary()
+        {
+            super("varbinary", 0);
+        }
+
+        /**
+         * Decode the data given into a BitSet object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param fieldName The name of this Field (the Column name)
+         * @return The BitSet decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public BitSet decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+        {
+            final byte[] bytes = resultSet.getBytes(fieldName);
+            return bytes == null ? null : BitSet.valueOf(bytes);
+        }
+
+        /**
+         * Decode the data at a column index into a BitSet object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param column The index of the column
+         * @return The BitSet decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public BitSet decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+        {
+            final byte[] bytes = resultSet.getBytes(column);
+            return bytes == null ? null : BitSet.valueOf(bytes);
+        }
+
+        /**
+         * Encode the BitSet into the PreparedStatement
+         * @param statement The PreparedStatement to modify
+         * @param index The index of this Column
+         * @param data The data to input
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public void encode(PreparedStatement statement, int index, BitSet data) throws SQLException
+        {
+            // Allows for null BitSet's
+            if(data == null)
+            {
+                statement.setNull(index, Types.VARBINARY);
+                return;
+            }
+
+            statement.setBytes(index, data.toByteArray());
+        }
+
+        @Override
+        public String toString()
+        {
+            return "BitSetCodec.Binary{}";
+        }
+
+    }
+
+}
@@ -0,0 +1,293 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import com.google.common.collect.Lists;
+import uk.co.loonyrules.sql.codecs.Codec;
+import uk.co.loonyrules.sql.storage.BlobRef;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Codec for Encoding/Decoding a {@link BlobRef} in a LONGBLOB without holding the payload on-heap.
+ *
+ * Payloads are sent with {@link PreparedStatement#setBinaryStream(int, InputStream, long)} and
+ * read with {@link ResultSet#getBinaryStream(String)}, being transferred into a temporary file
+ * through {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}. The temporary file
+ * is deleted once its BlobRef is garbage collected unless it's been moved, see {@link BlobRef}.
+ * Use {@link uk.co.loonyrules.sql.Database#transferBlob} or {@link #transfer(ResultSet, String, FileChannel)}
+ * to read into a channel of your own without spooling.
+ *
+ * The driver buffers whole rows unless results are streamed, so very large payloads should be
+ * read through a {@link uk.co.loonyrules.sql.Cursor} with a fetch size of {@code Integer.MIN_VALUE}.
+ */
+public class BlobRefCodec extends Codec<BlobRef>
+{
+
+    /**
+     * Maximum bytes asked of each transferFrom call
+     */
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+
+    /**
+     * Streams opened for each statement, closed by {@link #closeStreams(PreparedStatement)}
+     * or once the driver has read them. Held weakly in case a statement is never cleaned up
+     */
+    private static final Map<PreparedStatement, List<InputStream>> openStreams = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Close the payload streams opened for a statement, which the driver only
+     * closes if it reads them to the end. Called once the statement is closed
+     * @param statement the payloads were bound to
+     */
+    public static void closeStreams(PreparedStatement statement)
+    {
+        final List<InputStream> streams = openStreams.remove(statement);
+
+        if(streams == null)
+            return;
+
+        for(InputStream stream : streams)
+        {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Read a BLOB column into a channel
+     * @param resultSet The ResultSet to read from
+     * @param fieldName The name of the column
+     * @param target channel to write the payload to, from its current position
+     * @return the number of bytes transferred or -1 if the column is null
+     * @throws SQLException If a MySQL error is encountered
+     * @throws IOException If the target can't be written
+     */
+    public static long transfer(ResultSet resultSet, String fieldName, FileChannel target) throws SQLException, IOException
+    {
+        final InputStream inputStream = resultSet.getBinaryStream(fieldName);
+
+        if(inputStream == null)
+            return -1;
+
+        return transfer(inputStream, target);
+    }
+
+    /**
+     * Transfer a stream into a channel
+     * @param inputStream to read
+     * @param target channel to write the payload to, from its current position
+     * @return the number of bytes transferred
+     * @throws IOException If the stream can't be read or the target written
+     */
+    private static long transfer(InputStream inputStream, FileChannel target) throws IOException
+    {
+        try(ReadableByteChannel source = Channels.newChannel(inputStream))
+        {
+            final long start = target.position();
+            long position = start;
+            long transferred;
+
+            // A blocking source only transfers nothing once it's exhausted
+            while((transferred = target.transferFrom(source, position, TRANSFER_CHUNK)) > 0)
+                position += transferred;
+
+            target.position(position);
+
+            return position - start;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private final Path directory;
+
+    /**
+     * Construct and register this BlobRefCodec, spooling payloads read to the temporary directory
+     */
+    public BlobRefCodec()
+    {
+        this(Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Construct and register this BlobRefCodec
+     * @param directory to spool payloads read from the database to
+     */
+    public BlobRefCodec(Path directory)
+    {
+        super("longblob", -1, BlobRef.class);
+        this.directory = directory;
+    }
+
+    /**
+     * Get the directory payloads read from the database are spooled to
+     * @return the directory
+     */
+    public Path getDirectory()
+    {
+        return this.directory;
+    }
+
+    /**
+     * Decode the data given into a BlobRef object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The BlobRef decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public BlobRef decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        return spool(resultSet.getBinaryStream(fieldName));
+    }
+
+    /**
+     * Decode the data at a column index into a BlobRef object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The BlobRef decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public BlobRef decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return spool(resultSet.getBinaryStream(column));
+    }
+
+    /**
+     * Encode the BlobRef into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, BlobRef data) throws SQLException
+    {
+        // Allows for null BlobRef's
+        if(data == null)
+        {
+            statement.setNull(index, Types.LONGVARBINARY);
+            return;
+        }
+
+        try {
+            final long size = data.size();
+
+            // Closed once the driver has read it all or the statement is cleaned up
+            final InputStream stream = new ClosingInputStream(data.openStream(), size);
+            openStreams.computeIfAbsent(statement, key -> Lists.newArrayList()).add(stream);
+
+            statement.setBinaryStream(index, stream, size);
+        } catch (IOException e) {
+            throw new SQLException("Failed to read " + data + ".", e);
+        }
+    }
+
+    /**
+     * Spool a payload into a temporary file
+     * @param inputStream of the payload
+     * @return the BlobRef of the temporary file or null if the stream is null
+     * @throws SQLException If the payload couldn't be spooled
+     */
+    private BlobRef spool(InputStream inputStream) throws SQLException
+    {
+        if(inputStream == null)
+            return null;
+
+        Path path = null;
+
+        try {
+            path = Files.createTempFile(this.directory, "blob", ".tmp");
+
+            try(FileChannel target = FileChannel.open(path, StandardOpenOption.WRITE))
+            {
+                transfer(inputStream, target);
+            }
+
+            return BlobRef.temporary(path);
+        } catch (IOException e) {
+            // Not leaving half written files behind
+            if(path != null)
+                path.toFile().delete();
+
+            throw new SQLException("Failed to spool BLOB to " + this.directory + ".", e);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BlobRefCodec{" +
+                "directory=" + this.directory +
+                '}';
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Closes the stream as soon as the driver has read the whole payload, rather than
+     * waiting for {@link #closeStreams(PreparedStatement)} once the statement is closed
+     */
+    private static class ClosingInputStream extends FilterInputStream
+    {
+
+        private long remaining;
+
+        ClosingInputStream(InputStream inputStream, long length)
+        {
+            super(inputStream);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            final int read = super.read();
+            consumed(read == -1 ? -1 : 1);
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException
+        {
+            final int read = super.read(buffer, offset, length);
+            consumed(read);
+            return read;
+        }
+
+        /**
+         * Count bytes read, closing the stream at the end of the payload
+         * @param read number of bytes read or -1 at the end of the stream
+         * @throws IOException if the stream couldn't be closed
+         */
+        private void consumed(int read) throws IOException
+        {
+            if(read == -1 || (this.remaining -= read) <= 0)
+                close();
+        }
+
+    }
+
+}
@@ -9,7 +9,7 @@ import java.sql.SQLException;
 /**
  * Codec for Encoding/Decoding a boolean
  */
-public class BooleanCodec extends Codec<Boolean>
+public class BooleanCodec extends Codec<Boolean> implements Codec.OfBoolean
 {
 
     /**
@@ -34,6 +34,45 @@ public class BooleanCodec extends Codec<Boolean>
         return resultSet.getBoolean(fieldName);
     }
 
+    /**
+     * Decode the data at a column index into a Boolean object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The Boolean decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Boolean decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return resultSet.getBoolean(column);
+    }
+
+    /**
+     * Decode the data at a column index into a boolean without boxing
+     * @param resultSet The ResultSet to get our data from
+     * @param column The index of the column
+     * @return The boolean decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public boolean decodeBoolean(ResultSet resultSet, int column) throws SQLException
+    {
+        return resultSet.getBoolean(column);
+    }
+
+    /**
+     * Decode the text of a collection element into a Boolean object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The Boolean decoded
+     */
+    @Override
+    public Boolean decodeText(String text, Class<?> type)
+    {
+        return Boolean.parseBoolean(text);
+    }
+
     /**
      * Encode the Boolean into the PreparedStatement
      * @param statement The PreparedStatement to modify
@@ -47,6 +86,19 @@ public class BooleanCodec extends Codec<Boolean>
         statement.setBoolean(index, data);
     }
 
+    /**
+     * Encode a boolean into the PreparedStatement without boxing
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encodeBoolean(PreparedStatement statement, int index, boolean data) throws SQLException
+    {
+        statement.setBoolean(index, data);
+    }
+
     @Override
     public String toString()
     {
@@ -0,0 +1,78 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Codec for Encoding/Decoding a byte[] in a LONGBLOB, byte for byte
+ */
+public class ByteArrayCodec extends Codec<byte[]>
+{
+
+    /**
+     * Construct and register this ByteArrayCodec
+     */
+    public ByteArrayCodec()
+    {
+        super("longblob", -1, byte[].class);
+    }
+
+    /**
+     * Decode the data given into a byte[] object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The byte[] decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public byte[] decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        return resultSet.getBytes(fieldName);
+    }
+
+    /**
+     * Decode the data at a column index into a byte[] object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The byte[] decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public byte[] decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return resultSet.getBytes(column);
+    }
+
+    /**
+     * Encode the byte[] into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, byte[] data) throws SQLException
+    {
+        // Allows for null arrays
+        if(data == null)
+        {
+            statement.setNull(index, Types.LONGVARBINARY);
+            return;
+        }
+
+        statement.setBytes(index, data);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ByteArrayCodec{}";
+    }
+
+}
@@ -0,0 +1,134 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Codec for Encoding/Decoding a ByteBuffer in a LONGBLOB, storing the bytes between
+ * its position and limit. Buffers aren't copied when encoded, direct buffers are
+ * streamed to the driver. The buffer's position isn't changed.
+ */
+public class ByteBufferCodec extends Codec<ByteBuffer>
+{
+
+    /**
+     * Construct and register this ByteBufferCodec
+     */
+    public ByteBufferCodec()
+    {
+        super("longblob", -1, ByteBuffer.class);
+    }
+
+    /**
+     * Decode the data given into a ByteBuffer object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The ByteBuffer decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public ByteBuffer decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        final byte[] bytes = resultSet.getBytes(fieldName);
+        return bytes == null ? null : ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Decode the data at a column index into a ByteBuffer object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The ByteBuffer decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public ByteBuffer decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        final byte[] bytes = resultSet.getBytes(column);
+        return bytes == null ? null : ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Encode the ByteBuffer into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, ByteBuffer data) throws SQLException
+    {
+        // Allows for null ByteBuffer's
+        if(data == null)
+        {
+            statement.setNull(index, Types.LONGVARBINARY);
+            return;
+        }
+
+        // The whole backing array can be handed over as is
+        if(data.hasArray() && data.arrayOffset() == 0 && data.position() == 0 && data.remaining() == data.array().length)
+        {
+            statement.setBytes(index, data.array());
+            return;
+        }
+
+        statement.setBinaryStream(index, new ByteBufferInputStream(data.duplicate()), data.remaining());
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ByteBufferCodec{}";
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Reads the remaining bytes of a ByteBuffer
+     */
+    private static class ByteBufferInputStream extends InputStream
+    {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer)
+        {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read()
+        {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length)
+        {
+            if(length == 0)
+                return 0;
+
+            if(!this.buffer.hasRemaining())
+                return -1;
+
+            final int read = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available()
+        {
+            return this.buffer.remaining();
+        }
+
+    }
+
+}
@@ -0,0 +1,465 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import com.google.common.base.Preconditions;
+import uk.co.loonyrules.sql.annotations.Compressed;
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Wraps the Codec of a {@link Compressed} Field, storing its value in a LONGBLOB
+ * compressed with {@link Deflater} once it's larger than the threshold.
+ *
+ * Every value starts with a three byte header: the magic {@code 0xC0 0x5A} then {@code 0}
+ * followed by the value as is, or {@code 1} followed by the uncompressed length and the
+ * deflated value. Values that don't shrink are stored as is. As UTF-8 text never starts
+ * with {@code 0xC0}, text without the header (written before the Field was
+ * {@link Compressed}) is read as it is. Any bytes could start with the magic so byte[]
+ * Fields have no such fallback and must be rewritten once they're {@link Compressed}.
+ *
+ * Deflaters, Inflaters and the buffers text is inflated into are pooled per Thread.
+ */
+public class CompressedCodec extends Codec<Object>
+{
+
+    private static final byte
+            MAGIC = (byte) 0xC0,
+            MAGIC_SECOND = 0x5A,
+            STORED = 0,
+            DEFLATED = 1;
+
+    /**
+     * Length of the magic and mode, followed by the uncompressed length when deflated
+     */
+    private static final int
+            HEADER = 3,
+            DEFLATED_HEADER = HEADER + 4;
+
+    /**
+     * Largest buffer kept in a Thread's pool, larger values get their own
+     */
+    private static final int MAX_POOLED_BUFFER = 1024 * 1024;
+
+    private static final ThreadLocal<Pool> pools = ThreadLocal.withInitial(Pool::new);
+
+    private static final LongAdder
+            totalUncompressedBytes = new LongAdder(),
+            totalStoredBytes = new LongAdder();
+
+    /**
+     * Wrap the Codec of a {@link Compressed} Field
+     * @param codec of the Field
+     * @param field that's {@link Compressed}
+     * @return the CompressedCodec for the Field
+     */
+    public static CompressedCodec wrap(Codec<?> codec, Field field)
+    {
+        final Compressed compressed = field.getAnnotation(Compressed.class);
+
+        Preconditions.checkArgument(compressed != null, field + " isn't @Compressed.");
+        Preconditions.checkArgument(compressed.level() >= -1 && compressed.level() <= 9, "Compression level of " + field + " must be between -1 and 9.");
+
+        return createDetached(() -> new CompressedCodec(codec, field.getType() == byte[].class, compressed.threshold(), compressed.level()));
+    }
+
+    /**
+     * Get the size of every value written by a CompressedCodec divided by their uncompressed size
+     * @return the compression ratio, 1 if nothing's been written
+     */
+    public static double getTotalRatio()
+    {
+        final long uncompressedBytes = totalUncompressedBytes.sum();
+        return uncompressedBytes == 0 ? 1 : (double) totalStoredBytes.sum() / uncompressedBytes;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private final Codec codec;
+    private final boolean binary;
+    private final int
+            threshold,
+            level;
+
+    private final LongAdder
+            uncompressedBytes = new LongAdder(),
+            storedBytes = new LongAdder(),
+            deflatedValues = new LongAdder(),
+            storedValues = new LongAdder();
+
+    /**
+     * Construct a new CompressedCodec
+     * @param codec wrapped
+     * @param binary whether the values are byte[]'s rather than encoded as text
+     * @param threshold size in bytes a value has to exceed to be compressed
+     * @param level Deflater compression level
+     */
+    private CompressedCodec(Codec<?> codec, boolean binary, int threshold, int level)
+    {
+        super("longblob", -1, codec.getTypes().toArray(new Class<?>[0]));
+
+        this.codec = codec;
+        this.binary = binary;
+        this.threshold = threshold;
+        this.level = level;
+    }
+
+    /**
+     * Get the Codec being wrapped
+     * @return the wrapped Codec
+     */
+    public Codec getCodec()
+    {
+        return this.codec;
+    }
+
+    /**
+     * Get the size of the values written divided by their uncompressed size
+     * @return the compression ratio, 1 if nothing's been written
+     */
+    public double getRatio()
+    {
+        final long uncompressedBytes = this.uncompressedBytes.sum();
+        return uncompressedBytes == 0 ? 1 : (double) this.storedBytes.sum() / uncompressedBytes;
+    }
+
+    /**
+     * Get the number of values written compressed
+     * @return the number of deflated values
+     */
+    public long getDeflatedValues()
+    {
+        return this.deflatedValues.sum();
+    }
+
+    /**
+     * Get the number of values written as they are, being under the threshold or not shrinking
+     * @return the number of stored values
+     */
+    public long getStoredValues()
+    {
+        return this.storedValues.sum();
+    }
+
+    /**
+     * Decode the data given into the wrapped Codec's type
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The value decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Object decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(fieldName), type);
+    }
+
+    /**
+     * Decode the data at a column index into the wrapped Codec's type
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The value decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Object decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(column), type);
+    }
+
+    /**
+     * Encode the value, compressed if it's over the threshold, into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, Object data) throws SQLException
+    {
+        // Allows for null values
+        if(data == null)
+        {
+            statement.setNull(index, Types.LONGVARBINARY);
+            return;
+        }
+
+        final byte[] bytes = this.binary ? (byte[]) data : this.codec.encodeText(data).getBytes(StandardCharsets.UTF_8);
+
+        statement.setBytes(index, compress(bytes));
+    }
+
+    /**
+     * Compress a value if it's over the threshold and shrinks
+     * @param bytes of the value
+     * @return the value with its header
+     */
+    public byte[] compress(byte[] bytes)
+    {
+        byte[] result = null;
+
+        if(bytes.length > this.threshold)
+        {
+            final Pool pool = pools.get();
+            final Deflater deflater = pool.getDeflater(this.level);
+
+            deflater.reset();
+            deflater.setInput(bytes);
+            deflater.finish();
+
+            // Deflating at most as many bytes as we started with
+            final byte[] buffer = pool.getBuffer(bytes.length);
+            int length = 0;
+
+            while(!deflater.finished() && length < bytes.length)
+                length += deflater.deflate(buffer, length, bytes.length - length);
+
+            // Only worth storing deflated if it shrunk
+            if(deflater.finished() && length + DEFLATED_HEADER < bytes.length + HEADER)
+            {
+                result = header(length + DEFLATED_HEADER, DEFLATED);
+                writeInt(result, HEADER, bytes.length);
+                System.arraycopy(buffer, 0, result, DEFLATED_HEADER, length);
+            }
+        }
+
+        // Stored as is
+        if(result == null)
+        {
+            result = header(bytes.length + HEADER, STORED);
+            System.arraycopy(bytes, 0, result, HEADER, bytes.length);
+            this.storedValues.increment();
+        }
+        else
+        {
+            this.deflatedValues.increment();
+        }
+
+        // Recording our compression ratio
+        this.uncompressedBytes.add(bytes.length);
+        this.storedBytes.add(result.length);
+        totalUncompressedBytes.add(bytes.length);
+        totalStoredBytes.add(result.length);
+
+        return result;
+    }
+
+    /**
+     * Decode a stored value
+     * @param bytes stored
+     * @param type The type of Field this is
+     * @return the value or null if the bytes are null
+     * @throws SQLException If the value is corrupt or can't be decoded by the wrapped Codec
+     */
+    private Object fromBytes(byte[] bytes, Class<?> type) throws SQLException
+    {
+        if(bytes == null)
+            return null;
+
+        if(this.binary)
+            return decompress(bytes);
+
+        final String text;
+
+        // Written before the Field was compressed
+        if(!hasHeader(bytes))
+            text = new String(bytes, StandardCharsets.UTF_8);
+        else if(bytes[2] == STORED)
+            text = new String(bytes, HEADER, bytes.length - HEADER, StandardCharsets.UTF_8);
+        else
+        {
+            // Inflating into our pooled buffer to skip a copy
+            final int length = readInt(bytes, HEADER);
+            final byte[] buffer = pools.get().getBuffer(length);
+
+            inflate(bytes, buffer, length);
+            text = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+
+        try {
+            return this.codec.decodeText(text, type);
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            throw new SQLException(this.codec + " can't decode compressed values of " + type + ".", e);
+        }
+    }
+
+    /**
+     * Decompress a stored value
+     * @param bytes stored
+     * @return the decompressed bytes
+     * @throws SQLException If the value is corrupt
+     */
+    public byte[] decompress(byte[] bytes) throws SQLException
+    {
+        // Can't tell bytes written before the Field was compressed from our own
+        if(!hasHeader(bytes))
+            throw new SQLException("Value wasn't written by a CompressedCodec, rewrite values stored before the Field was @Compressed.");
+
+        if(bytes[2] == STORED)
+            return Arrays.copyOfRange(bytes, HEADER, bytes.length);
+
+        final int length = readInt(bytes, HEADER);
+        final byte[] result = new byte[length];
+
+        inflate(bytes, result, length);
+
+        return result;
+    }
+
+    /**
+     * Inflate a deflated value
+     * @param bytes stored, including the header
+     * @param target to inflate into
+     * @param length uncompressed length
+     * @throws SQLException If the value is corrupt
+     */
+    private void inflate(byte[] bytes, byte[] target, int length) throws SQLException
+    {
+        final Inflater inflater = pools.get().inflater;
+
+        inflater.reset();
+        inflater.setInput(bytes, DEFLATED_HEADER, bytes.length - DEFLATED_HEADER);
+
+        try {
+            int inflated = 0;
+
+            while(inflated < length && !inflater.finished())
+            {
+                final int read = inflater.inflate(target, inflated, length - inflated);
+
+                // No progress means the input is truncated
+                if(read == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    break;
+
+                inflated += read;
+            }
+
+            if(inflated != length)
+                throw new SQLException("Compressed value is truncated, inflated " + inflated + " of " + length + " bytes.");
+        } catch (DataFormatException e) {
+            throw new SQLException("Compressed value is corrupt.", e);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "CompressedCodec{" +
+                "codec=" + this.codec +
+                ", threshold=" + this.threshold +
+                ", level=" + this.level +
+                '}';
+    }
+
+    /**
+     * Create a value starting with its header
+     * @param length of the value including the header
+     * @param mode {@link #STORED} or {@link #DEFLATED}
+     * @return the value with its header written
+     */
+    private static byte[] header(int length, byte mode)
+    {
+        final byte[] bytes = new byte[length];
+        bytes[0] = MAGIC;
+        bytes[1] = MAGIC_SECOND;
+        bytes[2] = mode;
+        return bytes;
+    }
+
+    /**
+     * Check if a stored value starts with our header
+     * @param bytes stored
+     * @return whether the value has the magic and a known mode
+     */
+    private static boolean hasHeader(byte[] bytes)
+    {
+        return bytes.length >= HEADER && bytes[0] == MAGIC && bytes[1] == MAGIC_SECOND && (bytes[2] == STORED || bytes[2] == DEFLATED);
+    }
+
+    /**
+     * Write a big-endian int
+     * @param bytes to write to
+     * @param offset to write at
+     * @param value to write
+     */
+    private static void writeInt(byte[] bytes, int offset, int value)
+    {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Read a big-endian int
+     * @param bytes to read from
+     * @param offset to read at
+     * @return the value read
+     * @throws SQLException if the header is truncated
+     */
+    private static int readInt(byte[] bytes, int offset) throws SQLException
+    {
+        if(bytes.length < offset + 4)
+            throw new SQLException("Compressed value is missing its length.");
+
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8 | (bytes[offset + 3] & 0xFF);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * A Thread's Deflaters, Inflater and buffer
+     */
+    private static class Pool
+    {
+
+        private final Deflater[] deflaters = new Deflater[11];
+        private final Inflater inflater = new Inflater();
+        private byte[] buffer = new byte[8192];
+
+        /**
+         * Get the Deflater for a compression level, each level has its own as
+         * changing the level of a Deflater only applies after its next deflate
+         * @param level of compression
+         * @return the Deflater
+         */
+        Deflater getDeflater(int level)
+        {
+            Deflater deflater = this.deflaters[level + 1];
+
+            if(deflater == null)
+                deflater = this.deflaters[level + 1] = new Deflater(level);
+
+            return deflater;
+        }
+
+        /**
+         * Get a buffer of at least a size, only pooling it if it's not too large
+         * @param size needed
+         * @return the buffer
+         */
+        byte[] getBuffer(int size)
+        {
+            if(size <= this.buffer.length)
+                return this.buffer;
+
+            if(size > MAX_POOLED_BUFFER)
+                return new byte[size];
+
+            return this.buffer = new byte[Math.min(MAX_POOLED_BUFFER, Math.max(size, this.buffer.length * 2))];
+        }
+
+    }
+
+}
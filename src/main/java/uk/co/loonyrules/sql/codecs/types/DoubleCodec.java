@@ -9,7 +9,7 @@ import java.sql.SQLException;
 /**
  * Codec for Encoding/Decoding a Double
  */
-public class DoubleCodec extends Codec<Double>
+public class DoubleCodec extends Codec<Double> implements Codec.OfDouble
 {
 
     /**
@@ -34,6 +34,45 @@ public class DoubleCodec extends Codec<Double>
         return resultSet.getDouble(fieldName);
     }
 
+    /**
+     * Decode the data at a column index into a Double object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The Double decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Double decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return resultSet.getDouble(column);
+    }
+
+    /**
+     * Decode the data at a column index into a double without boxing
+     * @param resultSet The ResultSet to get our data from
+     * @param column The index of the column
+     * @return The double decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public double decodeDouble(ResultSet resultSet, int column) throws SQLException
+    {
+        return resultSet.getDouble(column);
+    }
+
+    /**
+     * Decode the text of a collection element into a Double object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The Double decoded
+     */
+    @Override
+    public Double decodeText(String text, Class<?> type)
+    {
+        return Double.parseDouble(text);
+    }
+
     /**
      * Encode the Double into the PreparedStatement
      * @param statement The PreparedStatement to modify
@@ -47,6 +86,19 @@ public class DoubleCodec extends Codec<Double>
         statement.setDouble(index, data);
     }
 
+    /**
+     * Encode a double into the PreparedStatement without boxing
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encodeDouble(PreparedStatement statement, int index, double data) throws SQLException
+    {
+        statement.setDouble(index, data);
+    }
+
     @Override
     public String toString()
     {
@@ -0,0 +1,94 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+
+/**
+ * Codec for Encoding/Decoding a Duration as milliseconds in a BIGINT,
+ * sub-millisecond precision is dropped. MySQL's TIME only covers 838 hours.
+ */
+public class DurationCodec extends Codec<Duration>
+{
+
+    /**
+     * Construct and register this DurationCodec
+     */
+    public DurationCodec()
+    {
+        super("bigint", -1, Duration.class);
+    }
+
+    /**
+     * Decode the data given into a Duration object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The Duration decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Duration decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        final long millis = resultSet.getLong(fieldName);
+        return resultSet.wasNull() ? null : Duration.ofMillis(millis);
+    }
+
+    /**
+     * Decode the data at a column index into a Duration object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The Duration decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Duration decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        final long millis = resultSet.getLong(column);
+        return resultSet.wasNull() ? null : Duration.ofMillis(millis);
+    }
+
+    /**
+     * Decode the text of a collection element into a Duration object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The Duration decoded
+     */
+    @Override
+    public Duration decodeText(String text, Class<?> type)
+    {
+        return Duration.parse(text);
+    }
+
+    /**
+     * Encode the Duration into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, Duration data) throws SQLException
+    {
+        // Allows for null Duration's
+        if(data == null)
+        {
+            statement.setNull(index, Types.BIGINT);
+            return;
+        }
+
+        statement.setLong(index, data.toMillis());
+    }
+
+    @Override
+    public String toString()
+    {
+        return "DurationCodec{}";
+    }
+
+}
@@ -1,26 +1,94 @@
 package uk.co.loonyrules.sql.codecs.types;
 
+import com.google.common.collect.Maps;
 import uk.co.loonyrules.sql.codecs.Codec;
-import uk.co.loonyrules.sql.utils.ReflectionUtil;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Map;
 
 /**
- * A base Codec for Encoding/Decoding an Enum
+ * A base Codec for Encoding/Decoding an Enum by its name.
+ *
+ * Registered for {@code Enum.class} by default so every enum is handled without a
+ * subclass, constants are looked up from a map built once per enum type. Subclass it
+ * (Eg: {@code RankCodec}) to register for a single enum, or use {@link Ordinal} to
+ * store a small integer code instead of the name.
  */
 public class EnumCodec<T> extends Codec<T>
 {
 
+    private static final ClassValue<Map<String, Enum<?>>> names = new ClassValue<Map<String, Enum<?>>>()
+    {
+        @Override
+        protected Map<String, Enum<?>> computeValue(Class<?> type)
+        {
+            final Enum<?>[] constants = (Enum<?>[]) type.getEnumConstants();
+            final Map<String, Enum<?>> names = Maps.newHashMapWithExpectedSize(constants.length);
+
+            for(Enum<?> constant : constants)
+                names.put(constant.name(), constant);
+
+            return names;
+        }
+    };
+
+    private static final ClassValue<Enum<?>[]> codes = new ClassValue<Enum<?>[]>()
+    {
+        @Override
+        protected Enum<?>[] computeValue(Class<?> type)
+        {
+            final Enum<?>[] constants = (Enum<?>[]) type.getEnumConstants();
+
+            // Find the highest code to size our lookup
+            int maxCode = -1;
+
+            for(Enum<?> constant : constants)
+                maxCode = Math.max(maxCode, codeOf(constant));
+
+            if(maxCode > Short.MAX_VALUE)
+                throw new IllegalArgumentException(type + " has the code " + maxCode + ", codes can be at most " + Short.MAX_VALUE + ".");
+
+            final Enum<?>[] codes = new Enum<?>[maxCode + 1];
+
+            for(Enum<?> constant : constants)
+            {
+                final int code = codeOf(constant);
+
+                if(code < 0)
+                    throw new IllegalArgumentException(constant + " of " + type + " has the negative code " + code + ".");
+
+                if(codes[code] != null)
+                    throw new IllegalArgumentException(constant + " and " + codes[code] + " of " + type + " share the code " + code + ".");
+
+                codes[code] = constant;
+            }
+
+            return codes;
+        }
+    };
+
     /**
      * Construct and register this EnumCodec
+     * @param clazz Enum type this EnumCodec is registered for
      */
     public EnumCodec(Class<?> clazz)
     {
         super("varchar", 255, clazz);
     }
 
+    /**
+     * Construct and register this EnumCodec with another SQL type, created without a length
+     * @param sqlType SQL type we're Encoding
+     * @param clazz Enum type this EnumCodec is registered for
+     */
+    protected EnumCodec(String sqlType, Class<?> clazz)
+    {
+        super(sqlType, -1, clazz);
+    }
+
     /**
      * Decode the data given into an Enum object
      * @param resultSet The ResultSet to get our data from
@@ -32,7 +100,44 @@ public class EnumCodec<T> extends Codec<T>
     @Override
     public T decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
     {
-        return ReflectionUtil.toEnum((Class<T>) type, resultSet.getString(fieldName));
+        return fromName(type, resultSet.getString(fieldName));
+    }
+
+    /**
+     * Decode the data at a column index into a Enum object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The Enum decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public T decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return fromName(type, resultSet.getString(column));
+    }
+
+    /**
+     * Decode the text of a collection element into a Enum object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The Enum decoded
+     */
+    @Override
+    public T decodeText(String text, Class<?> type)
+    {
+        return fromName(type, text);
+    }
+
+    /**
+     * Encode a collection element as the Enum's name
+     * @param data The Enum to encode
+     * @return The name of the Enum
+     */
+    @Override
+    public String encodeText(T data)
+    {
+        return ((Enum<?>) data).name();
     }
 
     /**
@@ -45,7 +150,25 @@ public class EnumCodec<T> extends Codec<T>
     @Override
     public void encode(PreparedStatement statement, int index, T data) throws SQLException
     {
-        statement.setString(index, data.toString());
+        // Allows for null Enum's
+        if(data == null)
+        {
+            statement.setNull(index, Types.VARCHAR);
+            return;
+        }
+
+        statement.setString(index, ((Enum<?>) data).name());
+    }
+
+    /**
+     * Get the constant of an Enum by its name
+     * @param type of the Enum
+     * @param name of the constant
+     * @return the constant or null if there isn't one with this name
+     */
+    public T fromName(Class<?> type, String name)
+    {
+        return name == null ? null : (T) names.get(getEnumType(type)).get(name);
     }
 
     @Override
@@ -54,4 +177,217 @@ public class EnumCodec<T> extends Codec<T>
         return "EnumCodec{}";
     }
 
-}
\ No newline at end of file
+    /**
+     * Get the code stored for a constant
+     * @param constant to get the code of
+     * @return the {@link Coded#getCode()} or ordinal of the constant
+     */
+    static int codeOf(Enum<?> constant)
+    {
+        return constant instanceof Coded ? ((Coded) constant).getCode() : constant.ordinal();
+    }
+
+    /**
+     * Get the constants of an enum indexed by their code
+     * @param type of the enum
+     * @return the constants, with gaps for unused codes
+     */
+    static Enum<?>[] getConstantsByCode(Class<?> type)
+    {
+        return codes.get(getEnumType(type));
+    }
+
+    /**
+     * Get the enum declaring a type, as constants with bodies are subclasses of it
+     * @param type of the Field or constant
+     * @return the enum type
+     */
+    static Class<?> getEnumType(Class<?> type)
+    {
+        Class<?> enumType = type;
+
+        while(enumType != null && !enumType.isEnum())
+            enumType = enumType.getSuperclass();
+
+        if(enumType == null)
+            throw new IllegalArgumentException(type + " is not an enum.");
+
+        return enumType;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Implemented by enums that have a stable code for {@link Ordinal} to store,
+     * so constants can be reordered or added without changing stored rows
+     */
+    public interface Coded
+    {
+
+        /**
+         * Get the code stored for this constant
+         * @return the code, between 0 and the Ordinal's maximum code
+         */
+        int getCode();
+
+    }
+
+    /**
+     * An EnumCodec storing the {@link Coded#getCode()} of a constant, or its ordinal
+     * if the enum isn't {@link Coded}, in a {@code TINYINT} (codes up to 127).
+     *
+     * Select it for a single column with {@code @Column(codec = EnumCodec.Ordinal.class)}
+     * or register it for an enum with {@code new EnumCodec.Ordinal(Rank.class)}.
+     * Ordinals change when constants are reordered, implement {@link Coded} for stable codes.
+     */
+    public static class Ordinal<T> extends EnumCodec<T>
+    {
+
+        private final int maxCode;
+        private final int nullType;
+
+        /**
+         * Construct this Ordinal for a single column, only through {@link Codec#getDetached(Class)}
+         * as it covers every enum and mustn't be registered
+         */
+        protected Ordinal()
+        {
+            this(Enum.class);
+        }
+
+        /**
+         * Construct and register this Ordinal
+         * @param clazz Enum type this Ordinal is registered for
+         */
+        public Ordinal(Class<?> clazz)
+        {
+            this("tinyint", Byte.MAX_VALUE, Types.TINYINT, clazz);
+        }
+
+        /**
+         * Construct and register this Ordinal with another SQL type
+         * @param sqlType SQL type we're Encoding
+         * @param maxCode the highest code the SQL type can store
+         * @param nullType the {@link Types} code used when storing null
+         * @param clazz Enum type this Ordinal is registered for
+         */
+        protected Ordinal(String sqlType, int maxCode, int nullType, Class<?> clazz)
+        {
+            super(sqlType, clazz);
+            this.maxCode = maxCode;
+            this.nullType = nullType;
+        }
+
+        /**
+         * Get the highest code this Ordinal can store
+         * @return the highest code
+         */
+        public int getMaxCode()
+        {
+            return this.maxCode;
+        }
+
+        /**
+         * Decode the data given into an Enum object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param fieldName The name of this Field (the Column name)
+         * @return The Enum decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public T decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+        {
+            final int code = resultSet.getInt(fieldName);
+            return resultSet.wasNull() ? null : fromCode(type, code);
+        }
+
+        /**
+         * Decode the data at a column index into a Enum object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param column The index of the column
+         * @return The Enum decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public T decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+        {
+            final int code = resultSet.getInt(column);
+            return resultSet.wasNull() ? null : fromCode(type, code);
+        }
+
+        /**
+         * Encode the Enum's code into the PreparedStatement
+         * @param statement The PreparedStatement to modify
+         * @param index The index of this Column
+         * @param data The data to input
+         * @throws SQLException If a MySQL error is encountered or the code doesn't fit the column
+         */
+        @Override
+        public void encode(PreparedStatement statement, int index, T data) throws SQLException
+        {
+            // Allows for null Enum's
+            if(data == null)
+            {
+                statement.setNull(index, this.nullType);
+                return;
+            }
+
+            final int code = codeOf((Enum<?>) data);
+
+            if(code < 0 || code > this.maxCode)
+                throw new SQLException(data + " has the code " + code + " which doesn't fit in a " + getSQLType() + ".");
+
+            statement.setInt(index, code);
+        }
+
+        /**
+         * Get the constant of an Enum by its code
+         * @param type of the Enum
+         * @param code of the constant
+         * @return the constant or null if there isn't one with this code
+         */
+        public T fromCode(Class<?> type, int code)
+        {
+            final Enum<?>[] constants = getConstantsByCode(type);
+            return code < 0 || code >= constants.length ? null : (T) constants[code];
+        }
+
+        @Override
+        public String toString()
+        {
+            return "EnumCodec.Ordinal{" +
+                    "maxCode=" + this.maxCode +
+                    '}';
+        }
+
+    }
+
+    /**
+     * An {@link Ordinal} storing codes up to 32767 in a {@code SMALLINT}
+     */
+    public static class WideOrdinal<T> extends Ordinal<T>
+    {
+
+        /**
+         * Construct this WideOrdinal for a single column, only through {@link Codec#getDetached(Class)}
+         * as it covers every enum and mustn't be registered
+         */
+        protected WideOrdinal()
+        {
+            this(Enum.class);
+        }
+
+        /**
+         * Construct and register this WideOrdinal
+         * @param clazz Enum type this WideOrdinal is registered for
+         */
+        public WideOrdinal(Class<?> clazz)
+        {
+            super("smallint", Short.MAX_VALUE, Types.SMALLINT, clazz);
+        }
+
+    }
+
+}
@@ -0,0 +1,366 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import com.google.common.collect.Maps;
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Codec for Encoding/Decoding an EnumSet as a bitmask in a BIGINT, bit n being set
+ * when the constant with the code n (its {@link EnumCodec.Coded#getCode()} or ordinal)
+ * is in the set. Enums with codes above 63 need {@link Binary}.
+ *
+ * Bits can be tested in SQL with a mask from {@link #mask(Enum[])}, Eg:
+ * {@code WHERE (`permissions` & ?) = ?} to check every permission is set.
+ */
+public class EnumSetCodec extends Codec<EnumSet>
+{
+
+    /**
+     * Get the bitmask of some constants, for testing their bits in SQL
+     * @param constants to get the bitmask of
+     * @return the bitmask
+     * @throws IllegalArgumentException if a constant's code is above 63
+     */
+    public static long mask(Enum<?>... constants)
+    {
+        long mask = 0;
+
+        for(Enum<?> constant : constants)
+            mask |= bit(constant);
+
+        return mask;
+    }
+
+    /**
+     * Get the bitmask of some constants, for testing their bits in SQL
+     * @param constants to get the bitmask of
+     * @return the bitmask
+     * @throws IllegalArgumentException if a constant's code is above 63
+     */
+    public static long mask(Collection<? extends Enum<?>> constants)
+    {
+        long mask = 0;
+
+        for(Enum<?> constant : constants)
+            mask |= bit(constant);
+
+        return mask;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private final ConcurrentMap<Class<?>, EnumSetCodec> elementCodecs = Maps.newConcurrentMap();
+    private final Class<?> elementType;
+
+    /**
+     * Construct and register this EnumSetCodec
+     */
+    public EnumSetCodec()
+    {
+        this("bigint", -1, null);
+    }
+
+    /**
+     * Construct this EnumSetCodec
+     * @param sqlType SQL type we're Encoding
+     * @param maxLength the maximum length allowed for the data
+     * @param elementType type of the elements or null if not known
+     */
+    protected EnumSetCodec(String sqlType, int maxLength, Class<?> elementType)
+    {
+        super(sqlType, maxLength, EnumSet.class);
+        this.elementType = elementType;
+    }
+
+    /**
+     * Get the type of the elements this EnumSetCodec decodes
+     * @return the element type or null if not known
+     */
+    public Class<?> getElementType()
+    {
+        return this.elementType;
+    }
+
+    /**
+     * Get an EnumSetCodec decoding the element type of a Field
+     * @param field the Codec is used for
+     * @return the EnumSetCodec for the Field's element type
+     */
+    @Override
+    public Codec<EnumSet> forField(Field field)
+    {
+        final Type genericType = field.getGenericType();
+
+        // Raw EnumSet, we can't know what to decode
+        if(!(genericType instanceof ParameterizedType))
+            return this;
+
+        final Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+
+        if(!(argument instanceof Class) || argument == this.elementType)
+            return this;
+
+        return this.elementCodecs.computeIfAbsent((Class<?>) argument, type -> createDetached(() -> withElementType(type)));
+    }
+
+    /**
+     * Decode the data given into an EnumSet object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The EnumSet decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public EnumSet decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        final long mask = resultSet.getLong(fieldName);
+        return resultSet.wasNull() ? null : fromMask(mask);
+    }
+
+    /**
+     * Decode the data at a column index into an EnumSet object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The EnumSet decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public EnumSet decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        final long mask = resultSet.getLong(column);
+        return resultSet.wasNull() ? null : fromMask(mask);
+    }
+
+    /**
+     * Encode the EnumSet into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, EnumSet data) throws SQLException
+    {
+        // Allows for null EnumSet's
+        if(data == null)
+        {
+            statement.setNull(index, Types.BIGINT);
+            return;
+        }
+
+        try {
+            statement.setLong(index, mask((Collection<? extends Enum<?>>) data));
+        } catch (IllegalArgumentException e) {
+            throw new SQLException(e.getMessage() + " Use EnumSetCodec.Binary for this column.", e);
+        }
+    }
+
+    /**
+     * Decode a bitmask into an EnumSet of our element type
+     * @param mask to decode
+     * @return the EnumSet
+     * @throws SQLException if the element type isn't known
+     */
+    public EnumSet fromMask(long mask) throws SQLException
+    {
+        final EnumSet set = newSet();
+        final Enum<?>[] constants = EnumCodec.getConstantsByCode(this.elementType);
+
+        // Adding the constant of every set bit
+        for(long remaining = mask; remaining != 0; remaining &= remaining - 1)
+        {
+            final int code = Long.numberOfTrailingZeros(remaining);
+
+            // Ignoring bits of constants that no longer exist
+            if(code < constants.length && constants[code] != null)
+                set.add(constants[code]);
+        }
+
+        return set;
+    }
+
+    /**
+     * Create an EnumSetCodec of the same kind for an element type
+     * @param elementType type of the elements
+     * @return the EnumSetCodec
+     */
+    protected EnumSetCodec withElementType(Class<?> elementType)
+    {
+        return new EnumSetCodec("bigint", -1, elementType);
+    }
+
+    /**
+     * Create an empty EnumSet of our element type
+     * @return the empty EnumSet
+     * @throws SQLException if the element type isn't known
+     */
+    protected EnumSet newSet() throws SQLException
+    {
+        if(this.elementType == null || !this.elementType.isEnum())
+            throw new SQLException("Unable to decode an EnumSet without knowing its enum, declare the Field as EnumSet<YourEnum>.");
+
+        return EnumSet.noneOf((Class) this.elementType);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "EnumSetCodec{" +
+                "elementType=" + this.elementType +
+                '}';
+    }
+
+    /**
+     * Get the bit of a constant
+     * @param constant to get the bit of
+     * @return the bit
+     * @throws IllegalArgumentException if the constant's code is above 63
+     */
+    private static long bit(Enum<?> constant)
+    {
+        final int code = EnumCodec.codeOf(constant);
+
+        if(code < 0 || code >= Long.SIZE)
+            throw new IllegalArgumentException(constant + " has the code " + code + " which doesn't fit in a BIGINT bitmask.");
+
+        return 1L << code;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * An EnumSetCodec storing the bits in a VARBINARY, the length of the @Column
+     * in bytes, for enums with codes above 63. Bytes are little-endian like {@link BitSet#toByteArray()}.
+     *
+     * Select it for a single column with {@code @Column(codec = EnumSetCodec.Binary.class)}.
+     */
+    public static class Binary extends EnumSetCodec
+    {
+
+        /**
+         * Construct this Binary for a single column, only through {@link Codec#getDetached(Class)}
+         * as the column's length decides how many bits fit
+         */
+        protected Binary()
+        {
+            this(null);
+        }
+
+        /**
+         * Construct this Binary
+         * @param elementType type of the elements or null if not known
+         */
+        private Binary(Class<?> elementType)
+        {
+            super("varbinary", 0, elementType);
+        }
+
+        /**
+         * Decode the data given into an EnumSet object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param fieldName The name of this Field (the Column name)
+         * @return The EnumSet decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public EnumSet decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+        {
+            return fromBytes(resultSet.getBytes(fieldName));
+        }
+
+        /**
+         * Decode the data at a column index into an EnumSet object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param column The index of the column
+         * @return The EnumSet decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public EnumSet decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+        {
+            return fromBytes(resultSet.getBytes(column));
+        }
+
+        /**
+         * Encode the EnumSet into the PreparedStatement
+         * @param statement The PreparedStatement to modify
+         * @param index The index of this Column
+         * @param data The data to input
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public void encode(PreparedStatement statement, int index, EnumSet data) throws SQLException
+        {
+            // Allows for null EnumSet's
+            if(data == null)
+            {
+                statement.setNull(index, Types.VARBINARY);
+                return;
+            }
+
+            // Setting the bit of every constant
+            final BitSet bits = new BitSet();
+
+            for(Object constant : data)
+                bits.set(EnumCodec.codeOf((Enum<?>) constant));
+
+            statement.setBytes(index, bits.toByteArray());
+        }
+
+        /**
+         * Decode little-endian bytes into an EnumSet of our element type
+         * @param bytes to decode
+         * @return the EnumSet or null if the bytes are null
+         * @throws SQLException if the element type isn't known
+         */
+        public EnumSet fromBytes(byte[] bytes) throws SQLException
+        {
+            if(bytes == null)
+                return null;
+
+            final EnumSet set = newSet();
+            final Enum<?>[] constants = EnumCodec.getConstantsByCode(getElementType());
+            final BitSet bits = BitSet.valueOf(bytes);
+
+            // Adding the constant of every set bit, ignoring constants that no longer exist
+            for(int code = bits.nextSetBit(0); code >= 0 && code < constants.length; code = bits.nextSetBit(code + 1))
+            {
+                if(constants[code] != null)
+                    set.add(constants[code]);
+            }
+
+            return set;
+        }
+
+        @Override
+        protected EnumSetCodec withElementType(Class<?> elementType)
+        {
+            return new Binary(elementType);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "EnumSetCodec.Binary{" +
+                    "elementType=" + getElementType() +
+                    '}';
+        }
+
+    }
+
+}
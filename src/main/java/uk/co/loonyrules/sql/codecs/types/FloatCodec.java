@@ -9,7 +9,7 @@ import java.sql.SQLException;
 /**
  * Codec for Encoding/Decoding a Float
  */
-public class FloatCodec extends Codec<Float>
+public class FloatCodec extends Codec<Float> implements Codec.OfFloat
 {
 
     /**
@@ -34,6 +34,45 @@ public class FloatCodec extends Codec<Float>
         return resultSet.getFloat(fieldName);
     }
 
+    /**
+     * Decode the data at a column index into a Float object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The Float decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Float decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return resultSet.getFloat(column);
+    }
+
+    /**
+     * Decode the data at a column index into a float without boxing
+     * @param resultSet The ResultSet to get our data from
+     * @param column The index of the column
+     * @return The float decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public float decodeFloat(ResultSet resultSet, int column) throws SQLException
+    {
+        return resultSet.getFloat(column);
+    }
+
+    /**
+     * Decode the text of a collection element into a Float object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The Float decoded
+     */
+    @Override
+    public Float decodeText(String text, Class<?> type)
+    {
+        return Float.parseFloat(text);
+    }
+
     /**
      * Encode the Float into the PreparedStatement
      * @param statement The PreparedStatement to modify
@@ -47,6 +86,19 @@ public class FloatCodec extends Codec<Float>
         statement.setFloat(index, data);
     }
 
+    /**
+     * Encode a float into the PreparedStatement without boxing
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encodeFloat(PreparedStatement statement, int index, float data) throws SQLException
+    {
+        statement.setFloat(index, data);
+    }
+
     @Override
     public String toString()
     {
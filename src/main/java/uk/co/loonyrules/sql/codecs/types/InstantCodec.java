@@ -0,0 +1,183 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Codec for Encoding/Decoding an Instant as its UTC time in a DATETIME(6),
+ * or as epoch milliseconds in a BIGINT with {@link EpochMillis}
+ */
+public class InstantCodec extends Codec<Instant>
+{
+
+    /**
+     * Construct and register this InstantCodec
+     */
+    public InstantCodec()
+    {
+        super("datetime", 6, Instant.class);
+    }
+
+    /**
+     * Construct and register this InstantCodec with another SQL type
+     * @param sqlType SQL type we're Encoding
+     * @param maxLength the maximum length allowed for the data
+     */
+    protected InstantCodec(String sqlType, int maxLength)
+    {
+        super(sqlType, maxLength, Instant.class);
+    }
+
+    /**
+     * Decode the data given into an Instant object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The Instant decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Instant decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        final LocalDateTime dateTime = TemporalText.parseDateTime(resultSet.getString(fieldName));
+        return dateTime == null ? null : dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Decode the data at a column index into an Instant object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The Instant decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Instant decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        final LocalDateTime dateTime = TemporalText.parseDateTime(resultSet.getString(column));
+        return dateTime == null ? null : dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Decode the text of a collection element into an Instant object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The Instant decoded
+     */
+    @Override
+    public Instant decodeText(String text, Class<?> type)
+    {
+        return Instant.parse(text);
+    }
+
+    /**
+     * Encode the Instant into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, Instant data) throws SQLException
+    {
+        // Allows for null Instant's
+        if(data == null)
+        {
+            statement.setNull(index, Types.TIMESTAMP);
+            return;
+        }
+
+        statement.setString(index, TemporalText.formatDateTime(LocalDateTime.ofEpochSecond(data.getEpochSecond(), data.getNano(), ZoneOffset.UTC)));
+    }
+
+    @Override
+    public String toString()
+    {
+        return "InstantCodec{}";
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * An InstantCodec storing epoch milliseconds in a BIGINT, sub-millisecond precision is dropped.
+     *
+     * Select it for a single column with {@code @Column(codec = InstantCodec.EpochMillis.class)}
+     * or register it for every Instant with {@code new InstantCodec.EpochMillis()}.
+     */
+    public static class EpochMillis extends InstantCodec
+    {
+
+        /**
+         * Construct and register this epoch milliseconds InstantCodec
+         */
+        public EpochMillis()
+        {
+            super("bigint", -1);
+        }
+
+        /**
+         * Decode the data given into an Instant object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param fieldName The name of this Field (the Column name)
+         * @return The Instant decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public Instant decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+        {
+            final long millis = resultSet.getLong(fieldName);
+            return resultSet.wasNull() ? null : Instant.ofEpochMilli(millis);
+        }
+
+        /**
+         * Decode the data at a column index into an Instant object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param column The index of the column
+         * @return The Instant decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public Instant decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+        {
+            final long millis = resultSet.getLong(column);
+            return resultSet.wasNull() ? null : Instant.ofEpochMilli(millis);
+        }
+
+        /**
+         * Encode the Instant into the PreparedStatement
+         * @param statement The PreparedStatement to modify
+         * @param index The index of this Column
+         * @param data The data to input
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public void encode(PreparedStatement statement, int index, Instant data) throws SQLException
+        {
+            // Allows for null Instant's
+            if(data == null)
+            {
+                statement.setNull(index, Types.BIGINT);
+                return;
+            }
+
+            statement.setLong(index, data.toEpochMilli());
+        }
+
+        @Override
+        public String toString()
+        {
+            return "InstantCodec.EpochMillis{}";
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Codec for Encoding/Decoding an int[] as packed little-endian ints in a LONGBLOB
+ */
+public class IntArrayCodec extends Codec<int[]>
+{
+
+    /**
+     * Construct and register this IntArrayCodec
+     */
+    public IntArrayCodec()
+    {
+        super("longblob", -1, int[].class);
+    }
+
+    /**
+     * Decode the data given into an int[]
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The int[] decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public int[] decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(fieldName));
+    }
+
+    /**
+     * Decode the data at a column index into an int[]
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The int[] decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public int[] decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(column));
+    }
+
+    /**
+     * Encode the int[] into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, int[] data) throws SQLException
+    {
+        // Allows for null arrays
+        if(data == null)
+        {
+            statement.setNull(index, Types.BLOB);
+            return;
+        }
+
+        statement.setBytes(index, toBytes(data));
+    }
+
+    /**
+     * Pack an int[] into little-endian bytes
+     * @param data to pack
+     * @return the packed bytes
+     */
+    public byte[] toBytes(int[] data)
+    {
+        return PackedArrays.pack(data);
+    }
+
+    /**
+     * Unpack little-endian bytes into an int[]
+     * @param bytes to unpack
+     * @return the int[] or null if the bytes are null
+     * @throws SQLException if the bytes are malformed
+     */
+    public int[] fromBytes(byte[] bytes) throws SQLException
+    {
+        return PackedArrays.unpackInts(bytes);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "IntArrayCodec{}";
+    }
+
+}
@@ -9,7 +9,7 @@ import java.sql.SQLException;
 /**
  * Codec for Encoding/Decoding an int
  */
-public class IntegerCodec extends Codec<Integer>
+public class IntegerCodec extends Codec<Integer> implements Codec.OfInt
 {
 
     /**
@@ -34,6 +34,45 @@ public class IntegerCodec extends Codec<Integer>
         return resultSet.getInt(fieldName);
     }
 
+    /**
+     * Decode the data at a column index into a Integer object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The Integer decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Integer decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return resultSet.getInt(column);
+    }
+
+    /**
+     * Decode the data at a column index into a int without boxing
+     * @param resultSet The ResultSet to get our data from
+     * @param column The index of the column
+     * @return The int decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public int decodeInt(ResultSet resultSet, int column) throws SQLException
+    {
+        return resultSet.getInt(column);
+    }
+
+    /**
+     * Decode the text of a collection element into a Integer object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The Integer decoded
+     */
+    @Override
+    public Integer decodeText(String text, Class<?> type)
+    {
+        return Integer.parseInt(text);
+    }
+
     /**
      * Encode the Integer into the PreparedStatement
      * @param statement The PreparedStatement to modify
@@ -47,6 +86,19 @@ public class IntegerCodec extends Codec<Integer>
         statement.setInt(index, data);
     }
 
+    /**
+     * Encode a int into the PreparedStatement without boxing
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encodeInt(PreparedStatement statement, int index, int data) throws SQLException
+    {
+        statement.setInt(index, data);
+    }
+
     @Override
     public String toString()
     {
@@ -1,112 +1,453 @@
 package uk.co.loonyrules.sql.codecs.types;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import uk.co.loonyrules.sql.codecs.Codec;
+import uk.co.loonyrules.sql.utils.ReflectionUtil;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 /**
- * Codec for Encoding/Decoding a List<String> object
+ * Codec for Encoding/Decoding a List or Set, with its elements encoded through
+ * the Codec registered for the element type (Eg: List&lt;Integer&gt;, Set&lt;UUID&gt;).
  *
- * TODO: Make a better system to support a Generic Type that's not a String
+ * Collections are stored as length-prefixed text: the number of elements, then
+ * each element as its length and text ({@code 2:5:hello3:a,b}) with {@code ~} for
+ * a null element, so any element text is stored unambiguously. Values stored in
+ * the old {@code [a, b]} format are still decoded.
+ *
+ * Collections are decoded into the declared type of the Field: interfaces get an
+ * ArrayList, LinkedHashSet, TreeSet or LinkedList and other types are created with
+ * their public no-args constructor. Fields of any other type aren't supported.
  */
-public class ListCodec extends Codec<List<String>>
+public class ListCodec extends Codec<Collection<Object>>
 {
 
+    private static final ConcurrentMap<Class<?>, ListCodec> elementCodecs = Maps.newConcurrentMap();
+
+    private static final ClassValue<Supplier<Collection<Object>>> factories = new ClassValue<Supplier<Collection<Object>>>()
+    {
+
+        @Override
+        protected Supplier<Collection<Object>> computeValue(Class<?> type)
+        {
+            return getFactory(type);
+        }
+
+    };
+
+    private final Class<?> elementType;
+
     /**
      * Construct and register this ListCodec
      */
     public ListCodec()
     {
-        super("longtext", -1, List.class, ArrayList.class);
+        this(null);
+    }
+
+    /**
+     * Construct a ListCodec for an element type
+     * @param elementType type of the elements, null to decode them as Strings
+     */
+    private ListCodec(Class<?> elementType)
+    {
+        super("longtext", -1, List.class, ArrayList.class, Collection.class, Set.class, HashSet.class, LinkedHashSet.class);
+        this.elementType = elementType;
+    }
+
+    /**
+     * Get the type of the elements this ListCodec decodes
+     * @return the element type or null if they're decoded as Strings
+     */
+    public Class<?> getElementType()
+    {
+        return this.elementType;
+    }
+
+    /**
+     * Get a ListCodec decoding the element type of a Field
+     * @param field the Codec is used for
+     * @return the ListCodec for the Field's element type, or null if we can't create the Field's type
+     */
+    @Override
+    public Codec<Collection<Object>> forField(Field field)
+    {
+        // Not a collection we're able to decode into
+        if(factories.get(field.getType()) == null)
+            return null;
+
+        // Get the element type from the Field's generic type
+        final Class<?> elementType = getElementType(field.getGenericType());
+
+        // Unknown or a String, which we decode as is
+        if(elementType == null || elementType == String.class || elementType == this.elementType)
+            return this;
+
+        return elementCodecs.computeIfAbsent(elementType, type -> createDetached(() -> new ListCodec(type)));
     }
 
     /**
-     * Decode the data given into a List object
+     * Decode the data given into a List or Set object
      *
      * @param resultSet The ResultSet to get our data from
      * @param type      The type of Field this is
      * @param fieldName The name of this Field (the Column name)
-     * @return The Boolean decoded
+     * @return The List or Set decoded
      * @throws SQLException If a MySQL error is encountered
      */
     @Override
-    public List<String> decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    public Collection<Object> decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
     {
-        // Creating the list we're returning
-        final List<String> list = Lists.newArrayList();
+        return parse(resultSet.getString(fieldName), type);
+    }
 
-        // Getting the List encoded data
-        final String parsedList = resultSet.getString(fieldName);
+    /**
+     * Decode the data at a column index into a List or Set object
+     *
+     * @param resultSet The ResultSet to get our data from
+     * @param type      The type of Field this is
+     * @param column    The index of the column
+     * @return The List or Set decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Collection<Object> decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return parse(resultSet.getString(column), type);
+    }
+
+    /**
+     * Encode the List or Set into the PreparedStatement
+     *
+     * @param statement The PreparedStatement to modify
+     * @param index     The index of this Column
+     * @param data      The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, Collection<Object> data) throws SQLException
+    {
+        // Inserting our built collection as a string
+        statement.setString(index, encodeText(data));
+    }
 
-        // Parsed list isn't null and isn't empty
-        if(parsedList != null && !parsedList.isEmpty())
+    /**
+     * Encode the List or Set as length-prefixed text
+     *
+     * @param data The data to encode
+     * @return The encoded collection
+     */
+    @Override
+    public String encodeText(Collection<Object> data)
+    {
+        // Generating a StringBuilder, starting with the number of elements
+        final StringBuilder stringBuilder = new StringBuilder().append(data.size()).append(':');
+
+        // Iterating through
+        for(Object element : data)
         {
-            // Iterating through all entries to add (TODO: Escape support via quotes and commas. Passing a string that has a comma will BREAK this!)
-            for(String parseEntry : parsedList.replaceAll("\\[", "").replace("]", "").split(", "))
+            // Null elements are just a marker
+            if(element == null)
             {
-                // Add to the list of final String entries
-                list.add(parseEntry);
+                stringBuilder.append('~');
+                continue;
             }
+
+            // Encoding the element
+            final String text = encodeElement(element);
+
+            // Appending the length then the text
+            stringBuilder.append(text.length()).append(':').append(text);
         }
 
-        // Return our final List
-        return list;
+        return stringBuilder.toString();
     }
 
     /**
-     * Encode the List into the PreparedStatement
+     * Decode length-prefixed text into a List or Set object
      *
-     * @param statement The PreparedStatement to modify
-     * @param index     The index of this Column
-     * @param data      The data to input
-     * @throws SQLException If a MySQL error is encountered
+     * @param text The text to decode
+     * @param type The type of Field this is
+     * @return The List or Set decoded
      */
     @Override
-    public void encode(PreparedStatement statement, int index, List<String> data) throws SQLException
+    public Collection<Object> decodeText(String text, Class<?> type)
+    {
+        try {
+            return parse(text, type);
+        } catch (SQLException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Encode an element with the Codec registered for its type
+     *
+     * @param element to encode
+     * @return the encoded text
+     */
+    private String encodeElement(Object element)
+    {
+        // Get the Codec for this element
+        final Codec codec = Codec.getCodec(element.getClass());
+
+        // Enums without a Codec are stored by name like the EnumCodec
+        return codec == null ? element.toString() : codec.encodeText(element);
+    }
+
+    /**
+     * Decode an element with the Codec registered for the element type
+     *
+     * @param text to decode
+     * @return the decoded element
+     * @throws SQLException If the element type can't be decoded
+     */
+    private Object decodeElement(String text) throws SQLException
+    {
+        // Decoded as is
+        if(this.elementType == null || this.elementType == String.class)
+            return text;
+
+        // Get the Codec for our element type
+        final Codec codec = Codec.getCodec(this.elementType);
+
+        try {
+            if(codec != null)
+                return codec.decodeText(text, this.elementType);
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            throw new SQLException("Failed to decode " + this.elementType + " element '" + text + "'.", e);
+        }
+
+        // Enums without a Codec are stored by name
+        if(this.elementType.isEnum())
+            return ReflectionUtil.toEnum(this.elementType, text);
+
+        throw new SQLException("No Codec registered for " + this.elementType + " elements.");
+    }
+
+    /**
+     * Parse an encoded List or Set in a single pass
+     *
+     * @param encoded the encoded collection
+     * @param type    The type of Field this is
+     * @return The List or Set decoded
+     * @throws SQLException If the data is malformed
+     */
+    private Collection<Object> parse(String encoded, Class<?> type) throws SQLException
+    {
+        // Get how we create the type we're decoding
+        final Supplier<Collection<Object>> factory = factories.get(type);
+
+        // Not a collection we're able to decode into
+        if(factory == null)
+            throw new SQLException("Unable to create a " + type + " to decode into.");
+
+        // Creating the collection we're returning
+        final Collection<Object> collection = factory.get();
+
+        // Nothing stored
+        if(encoded == null || encoded.isEmpty())
+            return collection;
+
+        // Stored in the old format
+        if(encoded.charAt(0) == '[')
+            return parseLegacy(encoded, collection);
+
+        try {
+            // Reading the number of elements
+            int separator = encoded.indexOf(':');
+            final int count = parseNumber(encoded, 0, separator);
+            int index = separator + 1;
+
+            for(int i = 0; i < count; i++)
+            {
+                // Null element
+                if(encoded.charAt(index) == '~')
+                {
+                    collection.add(null);
+                    index++;
+                    continue;
+                }
+
+                // Reading the length of this element
+                separator = encoded.indexOf(':', index);
+                final int length = parseNumber(encoded, index, separator);
+
+                // Reading the element itself
+                index = separator + 1;
+                collection.add(decodeElement(encoded.substring(index, index + length)));
+                index += length;
+            }
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            throw new SQLException("Malformed collection '" + encoded + "'.", e);
+        }
+
+        // Return our final collection
+        return collection;
+    }
+
+    /**
+     * Parse a non-negative decimal number in place, without creating a substring
+     *
+     * @param encoded the encoded collection
+     * @param start   index of the first digit
+     * @param end     index after the last digit
+     * @return the number
+     * @throws NumberFormatException If there are no digits, a non digit or the number overflows
+     */
+    private static int parseNumber(String encoded, int start, int end)
     {
-        // Get the Iterator for our List<String>
-        final Iterator<String> iterator = data.iterator();
+        if(start >= end)
+            throw new NumberFormatException("Expected a number at " + start + ".");
 
-        // No entry so return empty
-        if (!iterator.hasNext())
+        int number = 0;
+
+        for(int i = start; i < end; i++)
         {
-            // Inserting an empty list as a string
-            statement.setString(index, "[]");
+            final int digit = encoded.charAt(i) - '0';
+
+            if(digit < 0 || digit > 9)
+                throw new NumberFormatException("Expected a digit at " + i + ".");
 
-            // Return so nothing else is executed
-            return;
+            // Overflowing an int
+            if(number > (Integer.MAX_VALUE - digit) / 10)
+                throw new NumberFormatException("Number at " + start + " is too large.");
+
+            number = number * 10 + digit;
         }
 
-        // Generating a StringBuilder
-        final StringBuilder stringBuilder = new StringBuilder("[");
+        return number;
+    }
 
-        // Iterating through
-        while (iterator.hasNext())
+    /**
+     * Parse a collection stored in the old {@code [a, b]} format
+     *
+     * @param encoded    the encoded collection
+     * @param collection to add the elements to
+     * @return The collection decoded
+     * @throws SQLException If an element can't be decoded
+     */
+    private Collection<Object> parseLegacy(String encoded, Collection<Object> collection) throws SQLException
+    {
+        // Without the surrounding brackets
+        final int end = encoded.endsWith("]") ? encoded.length() - 1 : encoded.length();
+
+        // Empty
+        if(end <= 1)
+            return collection;
+
+        // Iterating through every ", " separated entry
+        int start = 1;
+
+        while (true)
         {
-            // Appending to the StringBuilder
-            stringBuilder.append(iterator.next()).append(", ");
+            final int separator = encoded.indexOf(", ", start);
+
+            if(separator == -1 || separator >= end)
+            {
+                collection.add(decodeElement(encoded.substring(start, end)));
+                return collection;
+            }
+
+            collection.add(decodeElement(encoded.substring(start, separator)));
+            start = separator + 2;
         }
+    }
+
+    /**
+     * Get how we create a collection of a type
+     *
+     * @param type of the collection
+     * @return the Supplier creating the collection, or null if it's not a collection we can create
+     */
+    private static Supplier<Collection<Object>> getFactory(Class<?> type)
+    {
+        // Not a collection
+        if(!Collection.class.isAssignableFrom(type))
+            return null;
+
+        // The implementations we use for the common types and their interfaces
+        if(type.isAssignableFrom(ArrayList.class))
+            return ArrayList::new;
+
+        if(type.isAssignableFrom(LinkedHashSet.class))
+            return LinkedHashSet::new;
+
+        if(type.isAssignableFrom(TreeSet.class))
+            return TreeSet::new;
+
+        if(type.isAssignableFrom(LinkedList.class))
+            return LinkedList::new;
+
+        // Nothing we know how to create
+        if(type.isInterface() || Modifier.isAbstract(type.getModifiers()))
+            return null;
+
+        try {
+            // Get the public no-args constructor
+            final Constructor<?> constructor = type.getConstructor();
+
+            return () -> {
+                try {
+                    return (Collection<Object>) constructor.newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Failed to create " + type + ".", e);
+                }
+            };
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the element type of a collection's generic type
+     *
+     * @param genericType of the Field
+     * @return the element Class or null if unknown
+     */
+    private static Class<?> getElementType(Type genericType)
+    {
+        // Raw collection
+        if(!(genericType instanceof ParameterizedType))
+            return null;
+
+        Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
 
-        // Removing trailing comma
-        stringBuilder.setLength(stringBuilder.length() - 2);
+        // ? extends Element
+        if(argument instanceof WildcardType)
+            argument = ((WildcardType) argument).getUpperBounds()[0];
 
-        // Ending the builder
-        stringBuilder.append("]");
+        // Element<?>
+        if(argument instanceof ParameterizedType)
+            argument = ((ParameterizedType) argument).getRawType();
 
-        // Inserting our built List as a string
-        statement.setString(index, stringBuilder.toString());
+        return argument instanceof Class ? (Class<?>) argument : null;
     }
 
     @Override
     public String toString()
     {
-        return "ListCodec{}";
+        return "ListCodec{" +
+                "elementType=" + this.elementType +
+                '}';
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,181 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+
+/**
+ * Codec for Encoding/Decoding a LocalDate in a DATE, or as epoch
+ * milliseconds of its start in a BIGINT with {@link EpochMillis} (treating it as UTC)
+ */
+public class LocalDateCodec extends Codec<LocalDate>
+{
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * Construct and register this LocalDateCodec
+     */
+    public LocalDateCodec()
+    {
+        super("date", -1, LocalDate.class);
+    }
+
+    /**
+     * Construct and register this LocalDateCodec with another SQL type
+     * @param sqlType SQL type we're Encoding
+     * @param maxLength the maximum length allowed for the data
+     */
+    protected LocalDateCodec(String sqlType, int maxLength)
+    {
+        super(sqlType, maxLength, LocalDate.class);
+    }
+
+    /**
+     * Decode the data given into a LocalDate object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The LocalDate decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public LocalDate decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        return TemporalText.parseDate(resultSet.getString(fieldName));
+    }
+
+    /**
+     * Decode the data at a column index into a LocalDate object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The LocalDate decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public LocalDate decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return TemporalText.parseDate(resultSet.getString(column));
+    }
+
+    /**
+     * Decode the text of a collection element into a LocalDate object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The LocalDate decoded
+     */
+    @Override
+    public LocalDate decodeText(String text, Class<?> type)
+    {
+        return LocalDate.parse(text);
+    }
+
+    /**
+     * Encode the LocalDate into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, LocalDate data) throws SQLException
+    {
+        // Allows for null LocalDate's
+        if(data == null)
+        {
+            statement.setNull(index, Types.DATE);
+            return;
+        }
+
+        statement.setString(index, TemporalText.formatDate(data));
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LocalDateCodec{}";
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * A LocalDateCodec storing the epoch milliseconds of the start of the day (UTC) in a BIGINT.
+     *
+     * Select it for a single column with {@code @Column(codec = LocalDateCodec.EpochMillis.class)}
+     * or register it for every LocalDate with {@code new LocalDateCodec.EpochMillis()}.
+     */
+    public static class EpochMillis extends LocalDateCodec
+    {
+
+        /**
+         * Construct and register this epoch milliseconds LocalDateCodec
+         */
+        public EpochMillis()
+        {
+            super("bigint", -1);
+        }
+
+        /**
+         * Decode the data given into a LocalDate object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param fieldName The name of this Field (the Column name)
+         * @return The LocalDate decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public LocalDate decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+        {
+            final long millis = resultSet.getLong(fieldName);
+            return resultSet.wasNull() ? null : LocalDate.ofEpochDay(Math.floorDiv(millis, MILLIS_PER_DAY));
+        }
+
+        /**
+         * Decode the data at a column index into a LocalDate object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param column The index of the column
+         * @return The LocalDate decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public LocalDate decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+        {
+            final long millis = resultSet.getLong(column);
+            return resultSet.wasNull() ? null : LocalDate.ofEpochDay(Math.floorDiv(millis, MILLIS_PER_DAY));
+        }
+
+        /**
+         * Encode the LocalDate into the PreparedStatement
+         * @param statement The PreparedStatement to modify
+         * @param index The index of this Column
+         * @param data The data to input
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public void encode(PreparedStatement statement, int index, LocalDate data) throws SQLException
+        {
+            // Allows for null LocalDate's
+            if(data == null)
+            {
+                statement.setNull(index, Types.BIGINT);
+                return;
+            }
+
+            statement.setLong(index, data.toEpochDay() * MILLIS_PER_DAY);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "LocalDateCodec.EpochMillis{}";
+        }
+
+    }
+
+}
@@ -0,0 +1,180 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Codec for Encoding/Decoding a LocalDateTime in a DATETIME(6), or as
+ * epoch milliseconds in a BIGINT with {@link EpochMillis} (treating it as UTC)
+ */
+public class LocalDateTimeCodec extends Codec<LocalDateTime>
+{
+
+    /**
+     * Construct and register this LocalDateTimeCodec
+     */
+    public LocalDateTimeCodec()
+    {
+        super("datetime", 6, LocalDateTime.class);
+    }
+
+    /**
+     * Construct and register this LocalDateTimeCodec with another SQL type
+     * @param sqlType SQL type we're Encoding
+     * @param maxLength the maximum length allowed for the data
+     */
+    protected LocalDateTimeCodec(String sqlType, int maxLength)
+    {
+        super(sqlType, maxLength, LocalDateTime.class);
+    }
+
+    /**
+     * Decode the data given into a LocalDateTime object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The LocalDateTime decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public LocalDateTime decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        return TemporalText.parseDateTime(resultSet.getString(fieldName));
+    }
+
+    /**
+     * Decode the data at a column index into a LocalDateTime object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The LocalDateTime decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public LocalDateTime decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return TemporalText.parseDateTime(resultSet.getString(column));
+    }
+
+    /**
+     * Decode the text of a collection element into a LocalDateTime object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The LocalDateTime decoded
+     */
+    @Override
+    public LocalDateTime decodeText(String text, Class<?> type)
+    {
+        return LocalDateTime.parse(text);
+    }
+
+    /**
+     * Encode the LocalDateTime into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, LocalDateTime data) throws SQLException
+    {
+        // Allows for null LocalDateTime's
+        if(data == null)
+        {
+            statement.setNull(index, Types.TIMESTAMP);
+            return;
+        }
+
+        statement.setString(index, TemporalText.formatDateTime(data));
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LocalDateTimeCodec{}";
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * A LocalDateTimeCodec storing epoch milliseconds in a BIGINT, sub-millisecond precision is dropped.
+     *
+     * Select it for a single column with {@code @Column(codec = LocalDateTimeCodec.EpochMillis.class)}
+     * or register it for every LocalDateTime with {@code new LocalDateTimeCodec.EpochMillis()}.
+     */
+    public static class EpochMillis extends LocalDateTimeCodec
+    {
+
+        /**
+         * Construct and register this epoch milliseconds LocalDateTimeCodec
+         */
+        public EpochMillis()
+        {
+            super("bigint", -1);
+        }
+
+        /**
+         * Decode the data given into a LocalDateTime object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param fieldName The name of this Field (the Column name)
+         * @return The LocalDateTime decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public LocalDateTime decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+        {
+            final long millis = resultSet.getLong(fieldName);
+            return resultSet.wasNull() ? null : LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+        }
+
+        /**
+         * Decode the data at a column index into a LocalDateTime object
+         * @param resultSet The ResultSet to get our data from
+         * @param type The type of Field this is
+         * @param column The index of the column
+         * @return The LocalDateTime decoded
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public LocalDateTime decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+        {
+            final long millis = resultSet.getLong(column);
+            return resultSet.wasNull() ? null : LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+        }
+
+        /**
+         * Encode the LocalDateTime into the PreparedStatement
+         * @param statement The PreparedStatement to modify
+         * @param index The index of this Column
+         * @param data The data to input
+         * @throws SQLException If a MySQL error is encountered
+         */
+        @Override
+        public void encode(PreparedStatement statement, int index, LocalDateTime data) throws SQLException
+        {
+            // Allows for null LocalDateTime's
+            if(data == null)
+            {
+                statement.setNull(index, Types.BIGINT);
+                return;
+            }
+
+            statement.setLong(index, data.toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+
+        @Override
+        public String toString()
+        {
+            return "LocalDateTimeCodec.EpochMillis{}";
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Codec for Encoding/Decoding a long[] as packed little-endian longs in a LONGBLOB
+ */
+public class LongArrayCodec extends Codec<long[]>
+{
+
+    /**
+     * Construct and register this LongArrayCodec
+     */
+    public LongArrayCodec()
+    {
+        super("longblob", -1, long[].class);
+    }
+
+    /**
+     * Decode the data given into a long[]
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The long[] decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public long[] decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(fieldName));
+    }
+
+    /**
+     * Decode the data at a column index into a long[]
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The long[] decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public long[] decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(column));
+    }
+
+    /**
+     * Encode the long[] into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, long[] data) throws SQLException
+    {
+        // Allows for null arrays
+        if(data == null)
+        {
+            statement.setNull(index, Types.BLOB);
+            return;
+        }
+
+        statement.setBytes(index, toBytes(data));
+    }
+
+    /**
+     * Pack a long[] into little-endian bytes
+     * @param data to pack
+     * @return the packed bytes
+     */
+    public byte[] toBytes(long[] data)
+    {
+        return PackedArrays.pack(data);
+    }
+
+    /**
+     * Unpack little-endian bytes into a long[]
+     * @param bytes to unpack
+     * @return the long[] or null if the bytes are null
+     * @throws SQLException if the bytes are malformed
+     */
+    public long[] fromBytes(byte[] bytes) throws SQLException
+    {
+        return PackedArrays.unpackLongs(bytes);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LongArrayCodec{}";
+    }
+
+}
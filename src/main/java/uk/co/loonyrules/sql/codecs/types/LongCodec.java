@@ -9,7 +9,7 @@ import java.sql.SQLException;
 /**
  * Codec for Encoding/Decoding an long
  */
-public class LongCodec extends Codec<Long>
+public class LongCodec extends Codec<Long> implements Codec.OfLong
 {
 
     /**
@@ -34,6 +34,45 @@ public class LongCodec extends Codec<Long>
         return resultSet.getLong(fieldName);
     }
 
+    /**
+     * Decode the data at a column index into a Long object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The Long decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public Long decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return resultSet.getLong(column);
+    }
+
+    /**
+     * Decode the data at a column index into a long without boxing
+     * @param resultSet The ResultSet to get our data from
+     * @param column The index of the column
+     * @return The long decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public long decodeLong(ResultSet resultSet, int column) throws SQLException
+    {
+        return resultSet.getLong(column);
+    }
+
+    /**
+     * Decode the text of a collection element into a Long object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The Long decoded
+     */
+    @Override
+    public Long decodeText(String text, Class<?> type)
+    {
+        return Long.parseLong(text);
+    }
+
     /**
      * Encode the Long into the PreparedStatement
      * @param statement The PreparedStatement to modify
@@ -47,6 +86,19 @@ public class LongCodec extends Codec<Long>
         statement.setLong(index, data);
     }
 
+    /**
+     * Encode a long into the PreparedStatement without boxing
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encodeLong(PreparedStatement statement, int index, long data) throws SQLException
+    {
+        statement.setLong(index, data);
+    }
+
     @Override
     public String toString()
     {
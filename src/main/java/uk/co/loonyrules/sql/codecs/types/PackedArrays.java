@@ -0,0 +1,80 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.SQLException;
+
+/**
+ * Packs primitive arrays into little-endian bytes for the BLOB Codecs
+ * and unpacks them again without boxing
+ */
+final class PackedArrays
+{
+
+    private PackedArrays()
+    {
+    }
+
+    /**
+     * Pack ints into little-endian bytes
+     * @param values to pack
+     * @return the packed bytes
+     */
+    static byte[] pack(int[] values)
+    {
+        final byte[] bytes = new byte[values.length * Integer.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(values);
+        return bytes;
+    }
+
+    /**
+     * Pack longs into little-endian bytes
+     * @param values to pack
+     * @return the packed bytes
+     */
+    static byte[] pack(long[] values)
+    {
+        final byte[] bytes = new byte[values.length * Long.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().put(values);
+        return bytes;
+    }
+
+    /**
+     * Unpack little-endian bytes into ints
+     * @param bytes to unpack
+     * @return the unpacked ints or null if the bytes are null
+     * @throws SQLException if the bytes aren't a whole number of ints
+     */
+    static int[] unpackInts(byte[] bytes) throws SQLException
+    {
+        if(bytes == null)
+            return null;
+
+        if(bytes.length % Integer.BYTES != 0)
+            throw new SQLException("Packed int array has " + bytes.length + " bytes, expected a multiple of " + Integer.BYTES + ".");
+
+        final int[] values = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * Unpack little-endian bytes into longs
+     * @param bytes to unpack
+     * @return the unpacked longs or null if the bytes are null
+     * @throws SQLException if the bytes aren't a whole number of longs
+     */
+    static long[] unpackLongs(byte[] bytes) throws SQLException
+    {
+        if(bytes == null)
+            return null;
+
+        if(bytes.length % Long.BYTES != 0)
+            throw new SQLException("Packed long array has " + bytes.length + " bytes, expected a multiple of " + Long.BYTES + ".");
+
+        final long[] values = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(values);
+        return values;
+    }
+
+}
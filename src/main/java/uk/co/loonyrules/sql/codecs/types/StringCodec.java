@@ -34,6 +34,32 @@ public class StringCodec extends Codec<String>
         return resultSet.getString(fieldName);
     }
 
+    /**
+     * Decode the data at a column index into a String object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The String decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public String decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return resultSet.getString(column);
+    }
+
+    /**
+     * Decode the text of a collection element into a String object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The String decoded
+     */
+    @Override
+    public String decodeText(String text, Class<?> type)
+    {
+        return text;
+    }
+
     /**
      * Encode the String into the PreparedStatement
      * @param statement The PreparedStatement to modify
@@ -0,0 +1,103 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import gnu.trove.list.array.TIntArrayList;
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Codec for Encoding/Decoding a Trove TIntArrayList as packed little-endian ints in a LONGBLOB
+ */
+public class TIntArrayListCodec extends Codec<TIntArrayList>
+{
+
+    /**
+     * Construct and register this TIntArrayListCodec
+     */
+    public TIntArrayListCodec()
+    {
+        super("longblob", -1, TIntArrayList.class);
+    }
+
+    /**
+     * Decode the data given into a TIntArrayList
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The TIntArrayList decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public TIntArrayList decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(fieldName));
+    }
+
+    /**
+     * Decode the data at a column index into a TIntArrayList
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The TIntArrayList decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public TIntArrayList decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(column));
+    }
+
+    /**
+     * Encode the TIntArrayList into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, TIntArrayList data) throws SQLException
+    {
+        // Allows for null lists
+        if(data == null)
+        {
+            statement.setNull(index, Types.BLOB);
+            return;
+        }
+
+        statement.setBytes(index, toBytes(data));
+    }
+
+    /**
+     * Pack a TIntArrayList into little-endian bytes
+     * @param data to pack
+     * @return the packed bytes
+     */
+    public byte[] toBytes(TIntArrayList data)
+    {
+        return PackedArrays.pack(data.toArray());
+    }
+
+    /**
+     * Unpack little-endian bytes into a TIntArrayList
+     * @param bytes to unpack
+     * @return the TIntArrayList or null if the bytes are null
+     * @throws SQLException if the bytes are malformed
+     */
+    public TIntArrayList fromBytes(byte[] bytes) throws SQLException
+    {
+        final int[] values = PackedArrays.unpackInts(bytes);
+
+        // Wrapping rather than copying the unpacked ints
+        return values == null ? null : TIntArrayList.wrap(values);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TIntArrayListCodec{}";
+    }
+
+}
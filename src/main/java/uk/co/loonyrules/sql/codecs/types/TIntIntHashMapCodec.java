@@ -0,0 +1,126 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import gnu.trove.iterator.TIntIntIterator;
+import gnu.trove.map.hash.TIntIntHashMap;
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Codec for Encoding/Decoding a Trove TIntIntHashMap as packed little-endian key, value int pairs in a LONGBLOB
+ */
+public class TIntIntHashMapCodec extends Codec<TIntIntHashMap>
+{
+
+    /**
+     * Construct and register this TIntIntHashMapCodec
+     */
+    public TIntIntHashMapCodec()
+    {
+        super("longblob", -1, TIntIntHashMap.class);
+    }
+
+    /**
+     * Decode the data given into a TIntIntHashMap
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The TIntIntHashMap decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public TIntIntHashMap decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(fieldName));
+    }
+
+    /**
+     * Decode the data at a column index into a TIntIntHashMap
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The TIntIntHashMap decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public TIntIntHashMap decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(column));
+    }
+
+    /**
+     * Encode the TIntIntHashMap into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, TIntIntHashMap data) throws SQLException
+    {
+        // Allows for null maps
+        if(data == null)
+        {
+            statement.setNull(index, Types.BLOB);
+            return;
+        }
+
+        statement.setBytes(index, toBytes(data));
+    }
+
+    /**
+     * Pack a TIntIntHashMap into little-endian bytes
+     * @param data to pack
+     * @return the packed bytes
+     */
+    public byte[] toBytes(TIntIntHashMap data)
+    {
+        // Interleaving the keys and values
+        final int[] values = new int[data.size() * 2];
+        final TIntIntIterator iterator = data.iterator();
+
+        for(int i = 0; iterator.hasNext(); i += 2)
+        {
+            iterator.advance();
+            values[i] = iterator.key();
+            values[i + 1] = iterator.value();
+        }
+
+        return PackedArrays.pack(values);
+    }
+
+    /**
+     * Unpack little-endian bytes into a TIntIntHashMap
+     * @param bytes to unpack
+     * @return the TIntIntHashMap or null if the bytes are null
+     * @throws SQLException if the bytes are malformed
+     */
+    public TIntIntHashMap fromBytes(byte[] bytes) throws SQLException
+    {
+        final int[] values = PackedArrays.unpackInts(bytes);
+
+        if(values == null)
+            return null;
+
+        if(values.length % 2 != 0)
+            throw new SQLException("Packed TIntIntHashMap has an unpaired key.");
+
+        // Putting every key, value pair back
+        final TIntIntHashMap map = new TIntIntHashMap(values.length / 2);
+
+        for(int i = 0; i < values.length; i += 2)
+            map.put(values[i], values[i + 1]);
+
+        return map;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TIntIntHashMapCodec{}";
+    }
+
+}
@@ -0,0 +1,103 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import gnu.trove.list.array.TLongArrayList;
+import uk.co.loonyrules.sql.codecs.Codec;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Codec for Encoding/Decoding a Trove TLongArrayList as packed little-endian longs in a LONGBLOB
+ */
+public class TLongArrayListCodec extends Codec<TLongArrayList>
+{
+
+    /**
+     * Construct and register this TLongArrayListCodec
+     */
+    public TLongArrayListCodec()
+    {
+        super("longblob", -1, TLongArrayList.class);
+    }
+
+    /**
+     * Decode the data given into a TLongArrayList
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param fieldName The name of this Field (the Column name)
+     * @return The TLongArrayList decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public TLongArrayList decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(fieldName));
+    }
+
+    /**
+     * Decode the data at a column index into a TLongArrayList
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The TLongArrayList decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public TLongArrayList decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        return fromBytes(resultSet.getBytes(column));
+    }
+
+    /**
+     * Encode the TLongArrayList into the PreparedStatement
+     * @param statement The PreparedStatement to modify
+     * @param index The index of this Column
+     * @param data The data to input
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public void encode(PreparedStatement statement, int index, TLongArrayList data) throws SQLException
+    {
+        // Allows for null lists
+        if(data == null)
+        {
+            statement.setNull(index, Types.BLOB);
+            return;
+        }
+
+        statement.setBytes(index, toBytes(data));
+    }
+
+    /**
+     * Pack a TLongArrayList into little-endian bytes
+     * @param data to pack
+     * @return the packed bytes
+     */
+    public byte[] toBytes(TLongArrayList data)
+    {
+        return PackedArrays.pack(data.toArray());
+    }
+
+    /**
+     * Unpack little-endian bytes into a TLongArrayList
+     * @param bytes to unpack
+     * @return the TLongArrayList or null if the bytes are null
+     * @throws SQLException if the bytes are malformed
+     */
+    public TLongArrayList fromBytes(byte[] bytes) throws SQLException
+    {
+        final long[] values = PackedArrays.unpackLongs(bytes);
+
+        // Wrapping rather than copying the unpacked longs
+        return values == null ? null : TLongArrayList.wrap(values);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TLongArrayListCodec{}";
+    }
+
+}
@@ -0,0 +1,175 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import java.sql.SQLException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Parses and formats MySQL's DATE and DATETIME text by position, avoiding the
+ * Calendar and Timestamp the driver would otherwise create for every value
+ */
+final class TemporalText
+{
+
+    private static final int[] NANO_SCALES = { 1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1 };
+
+    private TemporalText()
+    {
+    }
+
+    /**
+     * Parse a DATETIME, {@code yyyy-MM-dd HH:mm:ss[.fraction]}
+     * @param text to parse
+     * @return the LocalDateTime or null if the text is null or a zero date
+     * @throws SQLException if the text is malformed
+     */
+    static LocalDateTime parseDateTime(String text) throws SQLException
+    {
+        if(text == null)
+            return null;
+
+        try {
+            final int year = digits(text, 0, 4);
+            final int month = digits(text, 5, 7);
+            final int day = digits(text, 8, 10);
+
+            // MySQL's zero date
+            if(month == 0 || day == 0)
+                return null;
+
+            // Just a date
+            if(text.length() == 10)
+                return LocalDateTime.of(year, month, day, 0, 0);
+
+            final int hour = digits(text, 11, 13);
+            final int minute = digits(text, 14, 16);
+            final int second = digits(text, 17, 19);
+
+            // Fractional seconds of up to 9 digits
+            int nano = 0;
+
+            if(text.length() > 20)
+            {
+                final int end = Math.min(text.length(), 29);
+                nano = digits(text, 20, end) * NANO_SCALES[end - 20];
+            }
+
+            return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        } catch (DateTimeException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new SQLException("Malformed DATETIME '" + text + "'.", e);
+        }
+    }
+
+    /**
+     * Parse a DATE, {@code yyyy-MM-dd}
+     * @param text to parse
+     * @return the LocalDate or null if the text is null or a zero date
+     * @throws SQLException if the text is malformed
+     */
+    static LocalDate parseDate(String text) throws SQLException
+    {
+        if(text == null)
+            return null;
+
+        try {
+            final int year = digits(text, 0, 4);
+            final int month = digits(text, 5, 7);
+            final int day = digits(text, 8, 10);
+
+            // MySQL's zero date
+            return month == 0 || day == 0 ? null : LocalDate.of(year, month, day);
+        } catch (DateTimeException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new SQLException("Malformed DATE '" + text + "'.", e);
+        }
+    }
+
+    /**
+     * Format a DATETIME with microseconds, the most MySQL stores
+     * @param dateTime to format
+     * @return the formatted DATETIME
+     */
+    static String formatDateTime(LocalDateTime dateTime)
+    {
+        final StringBuilder stringBuilder = new StringBuilder(26);
+
+        appendDate(stringBuilder, dateTime.toLocalDate());
+        stringBuilder.append(' ');
+        pad(stringBuilder, dateTime.getHour(), 2).append(':');
+        pad(stringBuilder, dateTime.getMinute(), 2).append(':');
+        pad(stringBuilder, dateTime.getSecond(), 2);
+
+        // Only writing the fraction when there is one
+        if(dateTime.getNano() != 0)
+            pad(stringBuilder.append('.'), dateTime.getNano() / 1_000, 6);
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Format a DATE
+     * @param date to format
+     * @return the formatted DATE
+     */
+    static String formatDate(LocalDate date)
+    {
+        return appendDate(new StringBuilder(10), date).toString();
+    }
+
+    /**
+     * Append a date as {@code yyyy-MM-dd}
+     * @param stringBuilder to append to
+     * @param date to append
+     * @return the StringBuilder for chaining
+     */
+    private static StringBuilder appendDate(StringBuilder stringBuilder, LocalDate date)
+    {
+        pad(stringBuilder, date.getYear(), 4).append('-');
+        pad(stringBuilder, date.getMonthValue(), 2).append('-');
+        return pad(stringBuilder, date.getDayOfMonth(), 2);
+    }
+
+    /**
+     * Append a number padded with leading zeros
+     * @param stringBuilder to append to
+     * @param value to append
+     * @param width to pad to
+     * @return the StringBuilder for chaining
+     */
+    private static StringBuilder pad(StringBuilder stringBuilder, int value, int width)
+    {
+        for(int limit = 10, digits = 1; digits < width; limit *= 10, digits++)
+        {
+            if(value < limit)
+                stringBuilder.append('0');
+        }
+
+        return stringBuilder.append(value);
+    }
+
+    /**
+     * Read the decimal digits between two positions
+     * @param text to read
+     * @param start position, inclusive
+     * @param end position, exclusive
+     * @return the number read
+     * @throws IllegalArgumentException if a character isn't a digit
+     */
+    private static int digits(String text, int start, int end)
+    {
+        int value = 0;
+
+        for(int i = start; i < end; i++)
+        {
+            final char character = text.charAt(i);
+
+            if(character < '0' || character > '9')
+                throw new IllegalArgumentException("Expected a digit at " + i + ".");
+
+            value = value * 10 + (character - '0');
+        }
+
+        return value;
+    }
+
+}
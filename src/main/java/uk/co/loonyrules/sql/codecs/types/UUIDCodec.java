@@ -41,6 +41,37 @@ public class UUIDCodec extends Codec<UUID>
         return string == null || string.isEmpty() ? null : UUID.fromString(string);
     }
 
+    /**
+     * Decode the data at a column index into a UUID object
+     * @param resultSet The ResultSet to get our data from
+     * @param type The type of Field this is
+     * @param column The index of the column
+     * @return The UUID decoded
+     * @throws SQLException If a MySQL error is encountered
+     */
+    @Override
+    public UUID decode(ResultSet resultSet, Class<?> type, int column) throws SQLException
+    {
+        // Get the string to decode
+        final String string = resultSet.getString(column);
+
+        // Allows for returning null UUID's
+        return string == null || string.isEmpty() ? null : UUID.fromString(string);
+    }
+
+    /**
+     * Decode the text of a collection element into a UUID object
+     * @param text The text to decode
+     * @param type The type of the element
+     * @return The UUID decoded
+     */
+    @Override
+    public UUID decodeText(String text, Class<?> type)
+    {
+        // Allows for returning null UUID's
+        return text.isEmpty() ? null : UUID.fromString(text);
+    }
+
     /**
      * Encode the UUID into the PreparedStatement
      * @param statement The PreparedStatement to modify
@@ -0,0 +1,26 @@
+package uk.co.loonyrules.sql.enums;
+
+/**
+ * What the {@link uk.co.loonyrules.sql.QueryExecutor} does with an asynchronous
+ * query once its queue is full.
+ */
+public enum RejectionPolicy
+{
+
+    /**
+     * Reject the query with a {@link java.util.concurrent.RejectedExecutionException}, the default
+     */
+    ABORT,
+
+    /**
+     * Run the query on the Thread that submitted it
+     */
+    CALLER_RUNS,
+
+    /**
+     * Block the Thread that submitted the query until there's room in the queue,
+     * so the asynchronous methods may block their caller
+     */
+    BLOCK
+
+}
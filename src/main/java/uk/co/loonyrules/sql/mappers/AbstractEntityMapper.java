@@ -0,0 +1,295 @@
+package uk.co.loonyrules.sql.mappers;
+
+import uk.co.loonyrules.sql.accessors.FieldAccessor;
+import uk.co.loonyrules.sql.codecs.Codec;
+import uk.co.loonyrules.sql.utils.ReflectionUtil;
+
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Base class for the {@link EntityMapper}'s generated by the
+ * {@link uk.co.loonyrules.sql.processor.TableProcessor}.
+ *
+ * @param <T> type this EntityMapper manages
+ */
+public abstract class AbstractEntityMapper<T> implements EntityMapper<T>
+{
+
+    /**
+     * Get a {@link FieldAccessor} for a Field that can't be accessed directly
+     * @param clazz declaring the Field
+     * @param name of the Field
+     * @return the FieldAccessor for the Field
+     */
+    protected static FieldAccessor accessor(Class<?> clazz, String name)
+    {
+        try {
+            return ReflectionUtil.getAccessor(clazz.getDeclaredField(name));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Generated mapper is out of date, " + clazz + " has no Field " + name + ".", e);
+        }
+    }
+
+    /**
+     * Decode a column through its registered {@link Codec}
+     * @param resultSet to decode from
+     * @param type of the Field
+     * @param label of the column
+     * @return the decoded value
+     * @throws SQLException if a MySQL error occurred
+     */
+    protected static Object decode(ResultSet resultSet, Class<?> type, String label) throws SQLException
+    {
+        // Get the Codec for this type
+        final Codec codec = Codec.getCodec(type);
+
+        // No Codec known
+        if(codec == null)
+            throw new SQLException("No Codec registered for " + type + " when decoding " + label + ".");
+
+        return codec.decode(resultSet, type, label);
+    }
+
+    /**
+     * Check if the {@link Codec} registered for a type is still the built-in one, in which
+     * case the column can be read directly without going through the Codec
+     * @param type of the Field
+     * @param builtIn class of the built-in Codec for the type
+     * @return whether the registered Codec is the built-in one
+     */
+    protected static boolean isBuiltIn(Class<?> type, Class<? extends Codec> builtIn)
+    {
+        // Get the Codec for this type
+        final Codec codec = Codec.getCodec(type);
+
+        return codec != null && codec.getClass() == builtIn;
+    }
+
+    /**
+     * Get a Field whose {@link Codec} depends on the Field itself, such as one
+     * selected with {@link uk.co.loonyrules.sql.annotations.Column#codec()}
+     * @param clazz declaring the Field
+     * @param name of the Field
+     * @return the Field
+     */
+    protected static Field field(Class<?> clazz, String name)
+    {
+        try {
+            return clazz.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Generated mapper is out of date, " + clazz + " has no Field " + name + ".", e);
+        }
+    }
+
+    /**
+     * Get the {@link Codec} for a Field whose Codec depends on the Field itself, cached
+     * until another Codec is registered
+     * @param field to get the Codec for
+     * @return the Codec for the Field
+     * @throws IllegalStateException if there's no Codec able to decode the Field
+     */
+    protected static Codec columnCodec(Field field)
+    {
+        final Codec codec = ReflectionUtil.getColumnCodec(field);
+
+        if(codec == null)
+            throw new IllegalStateException("No Codec able to decode " + field + ".");
+
+        return codec;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private final Class<T> type;
+    private final String tableName;
+    private final List<String>
+            columns,
+            fieldNames;
+    private final String
+            primaryColumn,
+            createStatement,
+            upsertStatement,
+            upsertStatementWithoutPrimary;
+    private final Class<?>[] directTypes;
+    private final Class<? extends Codec>[] directCodecs;
+
+    private volatile BuiltIns builtIns;
+
+    /**
+     * Construct a new EntityMapper
+     * @param type this EntityMapper manages
+     * @param tableName of the @Table
+     * @param columns @Column names in declaration order
+     * @param fieldNames Field names in the same order as the columns
+     * @param primaryColumn @Primary @Column name or null
+     * @param createStatement CREATE TABLE statement or null
+     * @param upsertStatement upsert statement including the @Primary column
+     * @param upsertStatementWithoutPrimary upsert statement excluding the @Primary column
+     */
+    protected AbstractEntityMapper(Class<T> type, String tableName, String[] columns, String[] fieldNames, String primaryColumn,
+                                   String createStatement, String upsertStatement, String upsertStatementWithoutPrimary)
+    {
+        this(type, tableName, columns, fieldNames, primaryColumn, createStatement, upsertStatement, upsertStatementWithoutPrimary,
+                new Class<?>[columns.length], new Class[columns.length]);
+    }
+
+    /**
+     * Construct a new EntityMapper reading some columns directly whilst their built-in {@link Codec} is registered
+     * @param type this EntityMapper manages
+     * @param tableName of the @Table
+     * @param columns @Column names in declaration order
+     * @param fieldNames Field names in the same order as the columns
+     * @param primaryColumn @Primary @Column name or null
+     * @param createStatement CREATE TABLE statement or null
+     * @param upsertStatement upsert statement including the @Primary column
+     * @param upsertStatementWithoutPrimary upsert statement excluding the @Primary column
+     * @param directTypes Field type of every column read directly, null for the others
+     * @param directCodecs built-in Codec of every column read directly, null for the others
+     */
+    protected AbstractEntityMapper(Class<T> type, String tableName, String[] columns, String[] fieldNames, String primaryColumn,
+                                   String createStatement, String upsertStatement, String upsertStatementWithoutPrimary,
+                                   Class<?>[] directTypes, Class<? extends Codec>[] directCodecs)
+    {
+        this.type = type;
+        this.tableName = tableName;
+        this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+        this.fieldNames = Collections.unmodifiableList(Arrays.asList(fieldNames));
+        this.primaryColumn = primaryColumn;
+        this.createStatement = createStatement;
+        this.upsertStatement = upsertStatement;
+        this.upsertStatementWithoutPrimary = upsertStatementWithoutPrimary;
+        this.directTypes = directTypes;
+        this.directCodecs = directCodecs;
+    }
+
+    /**
+     * Check which columns can still be read directly, resolved once and again only after a {@link Codec} is registered
+     * @return for every column whether its built-in Codec is still registered for the Field's type
+     */
+    protected final boolean[] builtIns()
+    {
+        // Read first so a registration racing the resolution is picked up by the next call
+        final long registrations = Codec.getRegistrations();
+
+        BuiltIns builtIns = this.builtIns;
+
+        if(builtIns == null || builtIns.registrations != registrations)
+        {
+            final boolean[] resolved = new boolean[this.directTypes.length];
+
+            for(int i = 0; i < resolved.length; i++)
+                resolved[i] = this.directTypes[i] != null && isBuiltIn(this.directTypes[i], this.directCodecs[i]);
+
+            this.builtIns = builtIns = new BuiltIns(registrations, resolved);
+        }
+
+        return builtIns.resolved;
+    }
+
+    @Override
+    public Class<T> getType()
+    {
+        return this.type;
+    }
+
+    @Override
+    public String getTableName()
+    {
+        return this.tableName;
+    }
+
+    @Override
+    public List<String> getColumns()
+    {
+        return this.columns;
+    }
+
+    @Override
+    public List<String> getFieldNames()
+    {
+        return this.fieldNames;
+    }
+
+    @Override
+    public String getPrimaryColumn()
+    {
+        return this.primaryColumn;
+    }
+
+    @Override
+    public Object getPrimaryValue(T object)
+    {
+        return null;
+    }
+
+    @Override
+    public boolean isPrimaryUnassigned(T object)
+    {
+        return false;
+    }
+
+    @Override
+    public String getCreateStatement()
+    {
+        if(this.createStatement == null)
+            return null;
+
+        // Built with the column types of the built-in Codecs, another Codec's have to be used at runtime
+        final boolean[] builtIns = builtIns();
+
+        for(int i = 0; i < builtIns.length; i++)
+        {
+            if(this.directTypes[i] != null && !builtIns[i])
+                return null;
+        }
+
+        return this.createStatement;
+    }
+
+    @Override
+    public String getUpsertStatement(boolean includePrimary)
+    {
+        return includePrimary ? this.upsertStatement : this.upsertStatementWithoutPrimary;
+    }
+
+    @Override
+    public T newInstance() throws ReflectiveOperationException
+    {
+        return this.type.newInstance();
+    }
+
+    @Override
+    public String toString()
+    {
+        return getClass().getSimpleName() + "{" +
+                "type=" + this.type +
+                ", tableName='" + this.tableName + '\'' +
+                ", columns=" + this.columns +
+                '}';
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Which columns can be read directly as of a number of {@link Codec} registrations
+     */
+    private static class BuiltIns
+    {
+
+        private final long registrations;
+        private final boolean[] resolved;
+
+        private BuiltIns(long registrations, boolean[] resolved)
+        {
+            this.registrations = registrations;
+            this.resolved = resolved;
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package uk.co.loonyrules.sql.mappers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Pre-built metadata, SQL and binding logic for an @Table Class.
+ *
+ * EntityMappers are generated at compile time by the
+ * {@link uk.co.loonyrules.sql.processor.TableProcessor} and are preferred
+ * by the {@link uk.co.loonyrules.sql.Database} over Reflection when found.
+ *
+ * @param <T> type this EntityMapper manages
+ */
+public interface EntityMapper<T>
+{
+
+    /**
+     * Get the type this EntityMapper manages
+     * @return type this EntityMapper manages
+     */
+    Class<T> getType();
+
+    /**
+     * Get the @Table name (placeholders not yet replaced)
+     * @return the @Table name
+     */
+    String getTableName();
+
+    /**
+     * Get the @Column names in declaration order
+     * @return all @Column names
+     */
+    List<String> getColumns();
+
+    /**
+     * Get the Field names, in the same order as {@link #getColumns()}
+     * @return all @Column Field names
+     */
+    List<String> getFieldNames();
+
+    /**
+     * Get the @Primary @Column name
+     * @return the @Primary @Column name or null if there isn't one
+     */
+    String getPrimaryColumn();
+
+    /**
+     * Get the value of the @Primary Field
+     * @param object to get the value from
+     * @return the @Primary value or null if there isn't one
+     */
+    Object getPrimaryValue(T object);
+
+    /**
+     * Check if the @Primary Field is auto incremented and not yet assigned
+     * @param object to check
+     * @return whether the @Primary value still has to be generated
+     */
+    boolean isPrimaryUnassigned(T object);
+
+    /**
+     * Get the CREATE TABLE statement (placeholders not yet replaced)
+     * @return the CREATE TABLE statement or null if it has to be built at runtime
+     */
+    String getCreateStatement();
+
+    /**
+     * Get the INSERT [...] ON DUPLICATE KEY UPDATE [...] statement (placeholders not yet replaced)
+     * @param includePrimary whether the @Primary column is being inserted
+     * @return the upsert statement
+     */
+    String getUpsertStatement(boolean includePrimary);
+
+    /**
+     * Get the values to bind to the upsert statement, in column order
+     * @param object to get the values from
+     * @param includePrimary whether the @Primary column is being inserted
+     * @return the values to bind once for the INSERT and once for the UPDATE
+     */
+    Object[] bind(T object, boolean includePrimary);
+
+    /**
+     * Create a new instance of the type this EntityMapper manages
+     * @return the new instance
+     * @throws ReflectiveOperationException if the type couldn't be instantiated
+     */
+    T newInstance() throws ReflectiveOperationException;
+
+    /**
+     * Populate an Object with the current row of a {@link ResultSet}
+     * @param object to populate
+     * @param resultSet positioned at the row to map
+     * @param labels the {@link ResultSet} column label for each of {@link #getColumns()}, null if not selected
+     * @throws SQLException if a MySQL error occurred
+     */
+    void populate(T object, ResultSet resultSet, String[] labels) throws SQLException;
+
+}
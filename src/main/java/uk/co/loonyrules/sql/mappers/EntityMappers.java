@@ -0,0 +1,91 @@
+package uk.co.loonyrules.sql.mappers;
+
+import com.google.common.collect.Maps;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of {@link EntityMapper}'s, either registered manually or
+ * found by the naming convention used by the {@link uk.co.loonyrules.sql.processor.TableProcessor}.
+ */
+public class EntityMappers
+{
+
+    /**
+     * Suffix appended to the generated EntityMapper class names
+     */
+    public static final String SUFFIX = "_Mapper";
+
+    private static final ConcurrentMap<Class<?>, Optional<EntityMapper<?>>> mappers = Maps.newConcurrentMap();
+
+    /**
+     * Get the EntityMapper for a Class
+     * @param clazz to get the EntityMapper for
+     * @param <T> type the EntityMapper manages
+     * @return the EntityMapper or null if there isn't one
+     */
+    public static <T> EntityMapper<T> get(Class<T> clazz)
+    {
+        return (EntityMapper<T>) mappers.computeIfAbsent(clazz, EntityMappers::find).orElse(null);
+    }
+
+    /**
+     * Register an EntityMapper, overwriting the generated one if found
+     * @param entityMapper to register
+     */
+    public static void register(EntityMapper<?> entityMapper)
+    {
+        mappers.put(entityMapper.getType(), Optional.of(entityMapper));
+    }
+
+    /**
+     * Unregister the EntityMapper for a Class, falling back to Reflection
+     * @param clazz to unregister the EntityMapper for
+     */
+    public static void unregister(Class<?> clazz)
+    {
+        mappers.put(clazz, Optional.empty());
+    }
+
+    /**
+     * Get the name of the generated EntityMapper for a Class
+     * @param clazz to get the generated name for
+     * @return fully qualified name of the generated EntityMapper
+     */
+    public static String getGeneratedName(Class<?> clazz)
+    {
+        // The package this Class is in
+        final String packageName = clazz.getPackage() == null ? "" : clazz.getPackage().getName();
+
+        // Flattening nested classes (Outer$Inner -> Outer_Inner)
+        final String simpleName = (packageName.isEmpty() ? clazz.getName() : clazz.getName().substring(packageName.length() + 1)).replace('$', '_');
+
+        return (packageName.isEmpty() ? "" : packageName + ".") + simpleName + SUFFIX;
+    }
+
+    /**
+     * Find the generated EntityMapper for a Class
+     * @param clazz to find the EntityMapper for
+     * @return the EntityMapper wrapped in an Optional
+     */
+    private static Optional<EntityMapper<?>> find(Class<?> clazz)
+    {
+        try {
+            // Load the generated class using the same ClassLoader as the @Table Class
+            final Class<?> mapperClass = Class.forName(getGeneratedName(clazz), true, clazz.getClassLoader());
+
+            // Not an EntityMapper so ignore it
+            if(!EntityMapper.class.isAssignableFrom(mapperClass))
+                return Optional.empty();
+
+            return Optional.of((EntityMapper<?>) mapperClass.newInstance());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException e) {
+            e.printStackTrace();
+            return Optional.empty();
+        }
+    }
+
+}
@@ -0,0 +1,400 @@
+package uk.co.loonyrules.sql.mappers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import uk.co.loonyrules.sql.accessors.FieldAccessor;
+import uk.co.loonyrules.sql.codecs.Codec;
+import uk.co.loonyrules.sql.utils.ReflectionUtil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maps rows of a {@link ResultSet} onto instances of an @Table Class.
+ *
+ * A RowMapper is built once for every Class and {@link ResultSet} column
+ * layout, resolving the Field, {@link Codec} and column index for every
+ * column up-front so mapping a row only costs the decode and the Field
+ * write. Primitive Fields with a primitive Codec (eg {@link Codec.OfInt})
+ * are decoded and written without boxing. When a generated
+ * {@link EntityMapper} exists for the Class it is used instead.
+ *
+ * @param <T> type this RowMapper populates
+ */
+public class RowMapper<T>
+{
+
+    /**
+     * How a bound column is decoded and written
+     */
+    private static final byte
+            OBJECT = 0,
+            INT = 1,
+            LONG = 2,
+            DOUBLE = 3,
+            FLOAT = 4,
+            BOOLEAN = 5;
+
+    private static final Cache<Key, RowMapper<?>> mapperCache = CacheBuilder.newBuilder()
+            .maximumSize(256L)
+            .build();
+
+    /**
+     * Get the RowMapper for a Class and the column layout of a {@link ResultSet}
+     * @param clazz to map rows onto
+     * @param resultSet to read the column layout from
+     * @param <T> type the RowMapper populates
+     * @return the cached or newly built RowMapper
+     * @throws SQLException if the {@link ResultSetMetaData} couldn't be read
+     */
+    public static <T> RowMapper<T> of(Class<T> clazz, ResultSet resultSet) throws SQLException
+    {
+        // Get the ResultSetMetaData for this ResultSet
+        final ResultSetMetaData metaData = resultSet.getMetaData();
+
+        // Reading the column labels (column index starts at 1)
+        final String[] labels = new String[metaData.getColumnCount()];
+        for(int i = 0; i < labels.length; i++)
+            labels[i] = metaData.getColumnLabel(i + 1);
+
+        // The key for this Class and column layout
+        final Key key = new Key(clazz, labels);
+
+        // Get the cached RowMapper
+        RowMapper<T> rowMapper = (RowMapper<T>) mapperCache.getIfPresent(key);
+
+        // Not cached, or built before another Codec was registered, so build and cache it
+        if(rowMapper == null || rowMapper.registrations != Codec.getRegistrations())
+            mapperCache.put(key, rowMapper = new RowMapper<>(clazz, labels));
+
+        return rowMapper;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private final Class<T> type;
+    private final Constructor<T> constructor;
+    private final long registrations;
+
+    private final String[] columns;
+    private final int[] indexes;
+    private final byte[] kinds;
+    private final FieldAccessor[] accessors;
+    private final Codec[] codecs;
+
+    private final EntityMapper<T> entityMapper;
+    private final String[] entityMapperLabels;
+
+    /**
+     * Build a new RowMapper for a Class and column layout
+     * @param type to map rows onto
+     * @param labels column labels of the {@link ResultSet} in index order
+     */
+    private RowMapper(Class<T> type, String[] labels)
+    {
+        this.type = type;
+        this.entityMapper = EntityMappers.get(type);
+
+        // Read before resolving the Codecs so a registration racing us rebuilds this RowMapper
+        this.registrations = Codec.getRegistrations();
+
+        // Prefer the generated EntityMapper over Reflection
+        if(this.entityMapper != null)
+        {
+            this.constructor = null;
+            this.columns = new String[0];
+            this.indexes = new int[0];
+            this.kinds = new byte[0];
+            this.accessors = new FieldAccessor[0];
+            this.codecs = new Codec[0];
+            this.entityMapperLabels = bindEntityMapper(this.entityMapper, labels);
+            return;
+        }
+
+        this.constructor = findConstructor(type);
+        this.entityMapperLabels = null;
+
+        // Getting the Fields for this Class
+        final Map<String, Field> fieldMap = ReflectionUtil.getFields(type);
+
+        // Our bindings for each column
+        final String[] columns = new String[labels.length];
+        final int[] indexes = new int[labels.length];
+        final byte[] kinds = new byte[labels.length];
+        final FieldAccessor[] accessors = new FieldAccessor[labels.length];
+        final Codec[] codecs = new Codec[labels.length];
+
+        // Number of columns we're able to map
+        int bound = 0;
+
+        // Iterate through every column in the layout
+        for(int index = 0; index < labels.length; index++)
+        {
+            // The label of this column
+            final String label = labels[index];
+
+            // Get the Field associated with the Column name
+            final Optional<Field> fieldOptional = ReflectionUtil.getColumnField(fieldMap, label);
+
+            // No Field found for this Column name
+            if(!fieldOptional.isPresent())
+                continue;
+
+            // Get the Codec for this type
+            final Codec codec = ReflectionUtil.getColumnCodec(fieldOptional.get());
+
+            // No Codec
+            if(codec == null)
+                continue;
+
+            // Binding the column
+            columns[bound] = label;
+            indexes[bound] = index + 1;
+            kinds[bound] = kindOf(fieldOptional.get().getType(), codec);
+            accessors[bound] = ReflectionUtil.getAccessor(fieldOptional.get());
+            codecs[bound] = codec;
+            bound++;
+        }
+
+        // Trimming to the columns we've bound
+        this.columns = Arrays.copyOf(columns, bound);
+        this.indexes = Arrays.copyOf(indexes, bound);
+        this.kinds = Arrays.copyOf(kinds, bound);
+        this.accessors = Arrays.copyOf(accessors, bound);
+        this.codecs = Arrays.copyOf(codecs, bound);
+    }
+
+    /**
+     * Get the type this RowMapper populates
+     * @return type this RowMapper populates
+     */
+    public Class<T> getType()
+    {
+        return this.type;
+    }
+
+    /**
+     * Create a new instance of the type this RowMapper populates
+     * @return the new instance
+     * @throws ReflectiveOperationException if the type couldn't be instantiated
+     */
+    public T newInstance() throws ReflectiveOperationException
+    {
+        // Generated EntityMapper knows how to create the instance
+        if(this.entityMapper != null)
+            return this.entityMapper.newInstance();
+
+        // No usable constructor so fallback to the Class
+        if(this.constructor == null)
+            return this.type.newInstance();
+
+        return this.constructor.newInstance();
+    }
+
+    /**
+     * Create a new instance and populate it with the current row of a {@link ResultSet}
+     * @param resultSet positioned at the row to map
+     * @return the populated instance
+     * @throws ReflectiveOperationException if the type couldn't be instantiated
+     */
+    public T map(ResultSet resultSet) throws ReflectiveOperationException
+    {
+        // Create a new instance for this class
+        final T instance = newInstance();
+
+        // Populate it with the current row
+        populate(instance, resultSet);
+
+        return instance;
+    }
+
+    /**
+     * Populate an Object with the current row of a {@link ResultSet}
+     * @param object to populate the data into
+     * @param resultSet positioned at the row to map
+     */
+    public void populate(Object object, ResultSet resultSet)
+    {
+        // Let the generated EntityMapper decode the row
+        if(this.entityMapper != null)
+        {
+            try {
+                this.entityMapper.populate((T) object, resultSet, this.entityMapperLabels);
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+
+            return;
+        }
+
+        // Iterate through our bound columns
+        for(int i = 0; i < this.accessors.length; i++)
+        {
+            // The FieldAccessor for this data
+            final FieldAccessor accessor = this.accessors[i];
+
+            // The Codec and column index for this data
+            final Codec codec = this.codecs[i];
+            final int column = this.indexes[i];
+
+            // Assigning the field's value with the decoded data
+            try {
+                switch (this.kinds[i])
+                {
+                    case INT:
+                        accessor.setInt(object, ((Codec.OfInt) codec).decodeInt(resultSet, column));
+                        break;
+                    case LONG:
+                        accessor.setLong(object, ((Codec.OfLong) codec).decodeLong(resultSet, column));
+                        break;
+                    case DOUBLE:
+                        accessor.setDouble(object, ((Codec.OfDouble) codec).decodeDouble(resultSet, column));
+                        break;
+                    case FLOAT:
+                        accessor.setFloat(object, ((Codec.OfFloat) codec).decodeFloat(resultSet, column));
+                        break;
+                    case BOOLEAN:
+                        accessor.setBoolean(object, ((Codec.OfBoolean) codec).decodeBoolean(resultSet, column));
+                        break;
+                    default:
+                        accessor.set(object, codec.decode(resultSet, accessor.getType(), column));
+                        break;
+                }
+            } catch (IllegalStateException | SQLException e) {
+                // TODO: LoggerFactory
+                System.out.println("Error occurred when decoding " + accessor.getField());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Bind the {@link ResultSet} column labels to the columns of an {@link EntityMapper}
+     * @param entityMapper to bind the labels for
+     * @param labels column labels of the {@link ResultSet} in index order
+     * @return the label for each of the EntityMapper's columns, null if not selected
+     */
+    private static String[] bindEntityMapper(EntityMapper<?> entityMapper, String[] labels)
+    {
+        final List<String> columns = entityMapper.getColumns();
+        final List<String> fieldNames = entityMapper.getFieldNames();
+        final String[] bound = new String[columns.size()];
+
+        // Iterate through every column in the layout
+        for(String label : labels)
+        {
+            for(int i = 0; i < bound.length; i++)
+            {
+                // Matching by Field name or @Column name like Reflection does
+                if(fieldNames.get(i).equals(label) || columns.get(i).equals(label))
+                    bound[i] = label;
+            }
+        }
+
+        return bound;
+    }
+
+    /**
+     * Get how a column is decoded and written for a Field type and its Codec
+     * @param type of the Field
+     * @param codec for the Field
+     * @return the primitive kind or {@link #OBJECT} if it has to be boxed
+     */
+    private static byte kindOf(Class<?> type, Codec codec)
+    {
+        if(type == int.class && codec instanceof Codec.OfInt)
+            return INT;
+
+        if(type == long.class && codec instanceof Codec.OfLong)
+            return LONG;
+
+        if(type == double.class && codec instanceof Codec.OfDouble)
+            return DOUBLE;
+
+        if(type == float.class && codec instanceof Codec.OfFloat)
+            return FLOAT;
+
+        if(type == boolean.class && codec instanceof Codec.OfBoolean)
+            return BOOLEAN;
+
+        return OBJECT;
+    }
+
+    /**
+     * Find the no-args constructor for a Class
+     * @param type to find the constructor for
+     * @return the accessible constructor or null if not found
+     */
+    private static <T> Constructor<T> findConstructor(Class<T> type)
+    {
+        try {
+            // Get the no-args constructor
+            final Constructor<T> constructor = type.getDeclaredConstructor();
+
+            // Allow access if it's not public
+            constructor.setAccessible(true);
+
+            return constructor;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "RowMapper{" +
+                "type=" + this.type +
+                ", columns=" + Arrays.toString(this.columns) +
+                '}';
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Cache key of a Class and its {@link ResultSet} column layout
+     */
+    private static class Key
+    {
+
+        private final Class<?> type;
+        private final String[] labels;
+        private final int hashCode;
+
+        private Key(Class<?> type, String[] labels)
+        {
+            this.type = type;
+            this.labels = labels;
+            this.hashCode = 31 * type.hashCode() + Arrays.hashCode(labels);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+                return true;
+
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            final Key key = (Key) o;
+
+            return this.type == key.type && Arrays.equals(this.labels, key.labels);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+
+    }
+
+}
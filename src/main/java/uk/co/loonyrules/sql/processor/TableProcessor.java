@@ -0,0 +1,779 @@
+package uk.co.loonyrules.sql.processor;
+
+import com.google.common.collect.Lists;
+import uk.co.loonyrules.sql.annotations.Column;
+import uk.co.loonyrules.sql.annotations.Compressed;
+import uk.co.loonyrules.sql.annotations.Primary;
+import uk.co.loonyrules.sql.annotations.Table;
+import uk.co.loonyrules.sql.codecs.Codec;
+import uk.co.loonyrules.sql.mappers.EntityMappers;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates an {@link uk.co.loonyrules.sql.mappers.EntityMapper}
+ * for every @Table Class, so the {@link uk.co.loonyrules.sql.Database} doesn't have to
+ * discover the @Column Fields and build the SQL through Reflection at runtime.
+ *
+ * This processor is optional and isn't registered as a service, enable it with
+ * {@code -processor uk.co.loonyrules.sql.processor.TableProcessor}.
+ */
+@SupportedAnnotationTypes("uk.co.loonyrules.sql.annotations.Table")
+public class TableProcessor extends AbstractProcessor
+{
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment)
+    {
+        // Iterate through every @Table Class in this round
+        for(TypeElement typeElement : ElementFilter.typesIn(roundEnvironment.getElementsAnnotatedWith(Table.class)))
+        {
+            try {
+                generate(typeElement);
+            } catch (IOException e) {
+                error(typeElement, "Failed to generate the mapper for " + typeElement + ": " + e.getMessage());
+            }
+        }
+
+        // Other processors may be interested in @Table too
+        return false;
+    }
+
+    /**
+     * Generate the EntityMapper for an @Table Class
+     * @param typeElement the @Table Class
+     * @throws IOException if the source file couldn't be written
+     */
+    private void generate(TypeElement typeElement) throws IOException
+    {
+        // The generated code has to be able to reference the @Table Class
+        if(!isAccessible(typeElement))
+        {
+            warning(typeElement, "Skipping mapper generation for " + typeElement + ", it's not accessible from its package.");
+            return;
+        }
+
+        // Naming data for the generated Class
+        final String packageName = getPackage(typeElement).getQualifiedName().toString();
+        final String typeName = typeElement.getQualifiedName().toString();
+        final String mapperName = getFlatName(typeElement) + EntityMappers.SUFFIX;
+
+        // Collect every @Column Field (including inherited Fields)
+        final List<VariableElement> fields = findColumnFields(typeElement);
+
+        // Our column data
+        final List<String>
+                columns = Lists.newArrayList(),
+                fieldNames = Lists.newArrayList();
+
+        VariableElement primaryField = null;
+
+        for(VariableElement field : fields)
+        {
+            columns.add(getColumnName(field));
+            fieldNames.add(field.getSimpleName().toString());
+
+            // Not the @Primary Field
+            if(field.getAnnotation(Primary.class) == null)
+                continue;
+
+            // Ensuring there's not a double Primary annotation
+            if(primaryField != null)
+            {
+                error(field, "Found 2 @Primary annotations in " + typeElement);
+                return;
+            }
+
+            primaryField = field;
+        }
+
+        // The data for the SQL statements
+        final Table table = typeElement.getAnnotation(Table.class);
+        final String primaryColumn = primaryField == null ? null : getColumnName(primaryField);
+        final boolean autoIncrement = primaryField != null && primaryField.getAnnotation(Primary.class).autoIncrement();
+
+        // Our Source to write
+        final StringBuilder source = new StringBuilder();
+
+        if(!packageName.isEmpty())
+            source.append("package ").append(packageName).append(";\n\n");
+
+        source
+                .append("import uk.co.loonyrules.sql.accessors.FieldAccessor;\n")
+                .append("import uk.co.loonyrules.sql.mappers.AbstractEntityMapper;\n\n")
+                .append("import java.lang.reflect.Field;\n")
+                .append("import java.sql.ResultSet;\n")
+                .append("import java.sql.SQLException;\n\n")
+                .append("/**\n")
+                .append(" * Generated by the TableProcessor for {@link ").append(typeName).append("}, do not edit.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public class ").append(mapperName).append(" extends AbstractEntityMapper<").append(typeName).append(">\n")
+                .append("{\n\n");
+
+        // FieldAccessors for the Fields we can't access directly
+        for(int i = 0; i < fields.size(); i++)
+        {
+            final VariableElement field = fields.get(i);
+
+            if(isDirectlyAccessible(field, packageName))
+                continue;
+
+            source
+                    .append("    private static final FieldAccessor ACCESSOR_").append(i).append(" = accessor(")
+                    .append(getTypeName(field.getEnclosingElement().asType())).append(".class, \"")
+                    .append(field.getSimpleName()).append("\");\n");
+        }
+
+        // Fields decoded through a Codec chosen per Field
+        for(int i = 0; i < fields.size(); i++)
+        {
+            final VariableElement field = fields.get(i);
+
+            if(!hasFieldCodec(field))
+                continue;
+
+            source
+                    .append("    private static final Field FIELD_").append(i).append(" = field(")
+                    .append(getTypeName(field.getEnclosingElement().asType())).append(".class, \"")
+                    .append(field.getSimpleName()).append("\");\n");
+        }
+
+        // Types read directly whilst their built-in Codec is registered
+        final List<String>
+                directTypes = Lists.newArrayList(),
+                directCodecs = Lists.newArrayList();
+
+        for(VariableElement field : fields)
+        {
+            final String builtInCodec = getDirectCodec(field);
+
+            directTypes.add(builtInCodec == null ? "null" : getTypeName(field.asType()) + ".class");
+            directCodecs.add(builtInCodec == null ? "null" : "uk.co.loonyrules.sql.codecs.types." + builtInCodec + ".class");
+        }
+
+        final boolean directReads = directCodecs.stream().anyMatch(codec -> !codec.equals("null"));
+
+        if(directReads)
+        {
+            source
+                    .append("    private static final Class[] DIRECT_TYPES = ").append(classArray(directTypes)).append(";\n")
+                    .append("    private static final Class[] DIRECT_CODECS = ").append(classArray(directCodecs)).append(";\n");
+        }
+
+        // Constructor holding our metadata and SQL
+        source
+                .append("\n    public ").append(mapperName).append("()\n")
+                .append("    {\n")
+                .append("        super(\n")
+                .append("                ").append(typeName).append(".class,\n")
+                .append("                ").append(literal(table.name())).append(",\n")
+                .append("                ").append(literalArray(columns)).append(",\n")
+                .append("                ").append(literalArray(fieldNames)).append(",\n")
+                .append("                ").append(literal(primaryColumn)).append(",\n")
+                .append("                ").append(literal(buildCreateStatement(table, fields, primaryField))).append(",\n")
+                .append("                ").append(literal(buildUpsertStatement(table, columns, null))).append(",\n")
+                .append("                ").append(literal(buildUpsertStatement(table, columns, autoIncrement ? primaryColumn : null)));
+
+        if(directReads)
+            source.append(",\n                DIRECT_TYPES,\n                DIRECT_CODECS");
+
+        source
+                .append("\n")
+                .append("        );\n")
+                .append("    }\n");
+
+        // newInstance() when we're able to call the constructor directly
+        if(hasAccessibleConstructor(typeElement))
+        {
+            source
+                    .append("\n    @Override\n")
+                    .append("    public ").append(typeName).append(" newInstance()\n")
+                    .append("    {\n")
+                    .append("        return new ").append(typeName).append("();\n")
+                    .append("    }\n");
+        }
+
+        // @Primary value and auto increment state
+        if(primaryField != null)
+        {
+            final int index = fields.indexOf(primaryField);
+
+            source
+                    .append("\n    @Override\n")
+                    .append("    public Object getPrimaryValue(").append(typeName).append(" object)\n")
+                    .append("    {\n")
+                    .append("        return ").append(read(primaryField, index, packageName)).append(";\n")
+                    .append("    }\n");
+
+            if(autoIncrement)
+            {
+                source
+                        .append("\n    @Override\n")
+                        .append("    public boolean isPrimaryUnassigned(").append(typeName).append(" object)\n")
+                        .append("    {\n")
+                        .append("        return ((Number) ").append(read(primaryField, index, packageName)).append(").longValue() == 0;\n")
+                        .append("    }\n");
+            }
+        }
+
+        // Binding the values for our upsert statement
+        source
+                .append("\n    @Override\n")
+                .append("    public Object[] bind(").append(typeName).append(" object, boolean includePrimary)\n")
+                .append("    {\n")
+                .append("        return includePrimary ? new Object[] {");
+
+        appendReads(source, fields, null, packageName);
+        source.append("} : new Object[] {");
+        appendReads(source, fields, autoIncrement ? primaryField : null, packageName);
+
+        source
+                .append("};\n")
+                .append("    }\n");
+
+        // Decoding a row
+        source
+                .append("\n    @Override\n")
+                .append("    public void populate(").append(typeName).append(" object, ResultSet resultSet, String[] labels) throws SQLException\n")
+                .append("    {\n");
+
+        // Whether each built-in Codec is still registered, resolved once per mapper
+        if(directReads)
+            source.append("        final boolean[] builtIn = builtIns();\n\n");
+
+        for(int i = 0; i < fields.size(); i++)
+        {
+            final VariableElement field = fields.get(i);
+
+            source
+                    .append("        if(labels[").append(i).append("] != null)\n")
+                    .append("            ").append(write(field, i, packageName, decodeExpression(field, i))).append(";\n");
+        }
+
+        source
+                .append("    }\n\n")
+                .append("}\n");
+
+        // Writing our Source
+        final JavaFileObject javaFileObject = processingEnv.getFiler().createSourceFile((packageName.isEmpty() ? "" : packageName + ".") + mapperName, typeElement);
+
+        try (Writer writer = javaFileObject.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Find all @Column Fields for a Class and its super classes
+     * @param typeElement to find the Fields for
+     * @return all @Column Fields in declaration order
+     */
+    private List<VariableElement> findColumnFields(TypeElement typeElement)
+    {
+        final List<VariableElement> fields = Lists.newArrayList();
+
+        // Starting at the Class given
+        TypeElement target = typeElement;
+
+        // Looping through all Parent Classes
+        while (target != null)
+        {
+            for(VariableElement field : ElementFilter.fieldsIn(target.getEnclosedElements()))
+            {
+                // Ensuring it has the Column annotation and isn't static
+                if(field.getAnnotation(Column.class) != null && !field.getModifiers().contains(Modifier.STATIC))
+                    fields.add(field);
+            }
+
+            // Getting the next super class
+            final TypeMirror superclass = target.getSuperclass();
+            target = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+
+        return fields;
+    }
+
+    /**
+     * Build the CREATE TABLE statement, mirroring the runtime Reflection output
+     * @param table annotation of the Class
+     * @param fields all @Column Fields
+     * @param primaryField the @Primary Field or null
+     * @return the CREATE TABLE statement or null if a Field's Codec isn't known at compile time
+     */
+    private String buildCreateStatement(Table table, List<VariableElement> fields, VariableElement primaryField)
+    {
+        final StringBuilder query = new StringBuilder();
+
+        for(VariableElement field : fields)
+        {
+            // Codec selected or compressing this column is only known at runtime
+            if(getSelectedCodecName(field) != null || field.getAnnotation(Compressed.class) != null)
+                return null;
+
+            // Get the column type of the built-in Codec for this Field
+            final String columnType = getColumnType(field.asType().getKind(), field.getAnnotation(Column.class).maxLength());
+
+            // Codec is resolved at runtime so we can't build the statement
+            if(columnType == null)
+                return null;
+
+            query
+                    .append("`")
+                    .append(getColumnName(field))
+                    .append("` ")
+                    .append(columnType);
+
+            if(field == primaryField && primaryField.getAnnotation(Primary.class).autoIncrement())
+                query.append(" AUTO_INCREMENT");
+
+            query.append(", ");
+        }
+
+        // There was a Primary Field so append some more data
+        if(primaryField == null)
+            query.setLength(Math.max(0, query.length() - 2));
+        else query.append("PRIMARY KEY (`").append(getColumnName(primaryField)).append("`)");
+
+        return String.format("CREATE TABLE IF NOT EXISTS `%s` (%s) ENGINE=InnoDB DEFAULT CHARSET=utf8", table.name(), query.toString());
+    }
+
+    /**
+     * Build the INSERT [...] ON DUPLICATE KEY UPDATE [...] statement
+     * @param table annotation of the Class
+     * @param columns all @Column names
+     * @param excluded column to exclude or null
+     * @return the upsert statement
+     */
+    private String buildUpsertStatement(Table table, List<String> columns, String excluded)
+    {
+        final StringBuilder
+                names = new StringBuilder(),
+                placeholders = new StringBuilder(),
+                updates = new StringBuilder();
+
+        for(String column : columns)
+        {
+            if(column.equals(excluded))
+                continue;
+
+            if(names.length() != 0)
+            {
+                names.append(", ");
+                placeholders.append(", ");
+                updates.append(", ");
+            }
+
+            names.append("`").append(column).append("`");
+            placeholders.append("?");
+            updates.append(column).append("=?");
+        }
+
+        return String.format("INSERT INTO `%s` (%s) VALUES (%s) ON DUPLICATE KEY UPDATE %s", table.name(), names, placeholders, updates);
+    }
+
+    /**
+     * Get the column type the built-in Codec of a primitive creates, any other type (UUID, Instant, ...)
+     * is left to the Codec registered at runtime. The generated mapper drops the statement if one of
+     * these primitives has had another Codec registered.
+     * @param kind of the Field's type
+     * @param maxLength of the @Column
+     * @return the column type (Eg: int(255)) or null if not known
+     */
+    private static String getColumnType(TypeKind kind, int maxLength)
+    {
+        // The SQL type and maximum length of the built-in Codec, 0 being unlimited and -1 having no length
+        final String sqlType;
+        final int codecMaxLength;
+
+        switch (kind)
+        {
+            case INT: sqlType = "int"; codecMaxLength = 0; break;
+            case LONG: sqlType = "bigint"; codecMaxLength = 0; break;
+            case DOUBLE: sqlType = "double"; codecMaxLength = -1; break;
+            case FLOAT: sqlType = "float"; codecMaxLength = 0; break;
+            case BOOLEAN: sqlType = "tinyint"; codecMaxLength = 1; break;
+            default: return null;
+        }
+
+        // Same as Codec#calculateMaxLength
+        final int length = codecMaxLength == -1 ? -1 : codecMaxLength == 0 ? maxLength : Math.min(maxLength, codecMaxLength);
+
+        return length == -1 ? sqlType : sqlType + "(" + length + ")";
+    }
+
+    /**
+     * Get the built-in Codec whose column a Field can be read directly from
+     * @param field to check
+     * @return the simple name of the built-in Codec or null if it's always decoded through a Codec
+     */
+    private String getDirectCodec(VariableElement field)
+    {
+        // Codec chosen for this Field at runtime
+        if(hasFieldCodec(field))
+            return null;
+
+        switch (getTypeName(field.asType()))
+        {
+            case "int":
+            case "java.lang.Integer":
+                return "IntegerCodec";
+            case "long":
+            case "java.lang.Long":
+                return "LongCodec";
+            case "double":
+            case "java.lang.Double":
+                return "DoubleCodec";
+            case "float":
+            case "java.lang.Float":
+                return "FloatCodec";
+            case "boolean":
+            case "java.lang.Boolean":
+                return "BooleanCodec";
+            case "java.lang.String":
+                return "StringCodec";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Get the decode expression for a Field
+     * @param field to decode
+     * @param index of the Field in the column list
+     * @return the Java expression decoding the column
+     */
+    private String decodeExpression(VariableElement field, int index)
+    {
+        final String label = "labels[" + index + "]";
+
+        // Codec chosen for this Field at runtime
+        if(hasFieldCodec(field))
+            return "(" + getTypeName(field.asType()) + ") columnCodec(FIELD_" + index + ").decode(resultSet, " + getTypeName(field.asType()) + ".class, " + label + ")";
+
+        final String typeName = getTypeName(field.asType());
+        final String codecDecode = "(" + typeName + ") decode(resultSet, " + typeName + ".class, " + label + ")";
+        final String builtInCodec = getDirectCodec(field);
+
+        // Always decoded through the registered Codec
+        if(builtInCodec == null)
+            return codecDecode;
+
+        final String directRead;
+
+        switch (builtInCodec)
+        {
+            case "IntegerCodec": directRead = "resultSet.getInt(" + label + ")"; break;
+            case "LongCodec": directRead = "resultSet.getLong(" + label + ")"; break;
+            case "DoubleCodec": directRead = "resultSet.getDouble(" + label + ")"; break;
+            case "FloatCodec": directRead = "resultSet.getFloat(" + label + ")"; break;
+            case "BooleanCodec": directRead = "resultSet.getBoolean(" + label + ")"; break;
+            default: directRead = "resultSet.getString(" + label + ")"; break;
+        }
+
+        // Read directly while the built-in Codec is registered, so a Codec registered for the type is still honoured.
+        // Both branches are cast to the Field's type so a boxed Field isn't unboxed by the conditional
+        return "(builtIn[" + index + "] ? (" + typeName + ") " + directRead + " : " + codecDecode + ")";
+    }
+
+    /**
+     * Append the read expressions for a list of Fields
+     * @param source to append to
+     * @param fields to read
+     * @param excluded Field to exclude or null
+     * @param packageName of the generated Class
+     */
+    private void appendReads(StringBuilder source, List<VariableElement> fields, VariableElement excluded, String packageName)
+    {
+        boolean first = true;
+
+        for(int i = 0; i < fields.size(); i++)
+        {
+            if(fields.get(i) == excluded)
+                continue;
+
+            source.append(first ? " " : ", ").append(read(fields.get(i), i, packageName));
+            first = false;
+        }
+
+        source.append(" ");
+    }
+
+    /**
+     * Get the read expression for a Field
+     * @param field to read
+     * @param index of the Field in the column list
+     * @param packageName of the generated Class
+     * @return the Java expression reading the Field
+     */
+    private String read(VariableElement field, int index, String packageName)
+    {
+        return isDirectlyAccessible(field, packageName) ? "object." + field.getSimpleName() : "ACCESSOR_" + index + ".get(object)";
+    }
+
+    /**
+     * Get the write statement for a Field
+     * @param field to write
+     * @param index of the Field in the column list
+     * @param packageName of the generated Class
+     * @param value expression to write
+     * @return the Java statement writing the Field
+     */
+    private String write(VariableElement field, int index, String packageName, String value)
+    {
+        if(isDirectlyAccessible(field, packageName))
+            return "object." + field.getSimpleName() + " = " + value;
+
+        // Using the primitive setters to avoid boxing
+        switch (field.asType().getKind())
+        {
+            case INT:
+                return "ACCESSOR_" + index + ".setInt(object, " + value + ")";
+            case LONG:
+                return "ACCESSOR_" + index + ".setLong(object, " + value + ")";
+            case DOUBLE:
+                return "ACCESSOR_" + index + ".setDouble(object, " + value + ")";
+            case FLOAT:
+                return "ACCESSOR_" + index + ".setFloat(object, " + value + ")";
+            case BOOLEAN:
+                return "ACCESSOR_" + index + ".setBoolean(object, " + value + ")";
+            default:
+                return "ACCESSOR_" + index + ".set(object, " + value + ")";
+        }
+    }
+
+    /**
+     * Check if a Field can be read and written directly from the generated Class
+     * @param field to check
+     * @param packageName of the generated Class
+     * @return whether the Field is accessible
+     */
+    private boolean isDirectlyAccessible(VariableElement field, String packageName)
+    {
+        final Set<Modifier> modifiers = field.getModifiers();
+
+        if(modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL))
+            return false;
+
+        return modifiers.contains(Modifier.PUBLIC) && isAccessible((TypeElement) field.getEnclosingElement())
+                || getPackage(field).getQualifiedName().contentEquals(packageName);
+    }
+
+    /**
+     * Check if a Class can be referenced from its own package
+     * @param typeElement to check
+     * @return whether the Class is accessible
+     */
+    private boolean isAccessible(TypeElement typeElement)
+    {
+        Element element = typeElement;
+
+        while (element instanceof TypeElement)
+        {
+            if(element.getModifiers().contains(Modifier.PRIVATE))
+                return false;
+
+            // Inner (non-static) classes can't be created without an outer instance
+            if(element.getEnclosingElement() instanceof TypeElement && !element.getModifiers().contains(Modifier.STATIC))
+                return false;
+
+            element = element.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    /**
+     * Check if a Class has a no-args constructor the generated Class can call
+     * @param typeElement to check
+     * @return whether the constructor can be called
+     */
+    private boolean hasAccessibleConstructor(TypeElement typeElement)
+    {
+        if(typeElement.getModifiers().contains(Modifier.ABSTRACT))
+            return false;
+
+        for(ExecutableElement constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements()))
+        {
+            if(constructor.getParameters().isEmpty())
+                return !constructor.getModifiers().contains(Modifier.PRIVATE);
+        }
+
+        return false;
+    }
+
+    /**
+     * Get the @Column name for a Field
+     * @param field to get the name for
+     * @return the @Column name, defaulting to the Field name
+     */
+    private String getColumnName(VariableElement field)
+    {
+        final Column column = field.getAnnotation(Column.class);
+
+        return column == null || column.name().isEmpty() ? field.getSimpleName().toString() : column.name();
+    }
+
+    /**
+     * Check whether a Field's Codec depends on the Field itself, either being selected
+     * with {@link Column#codec()}, {@link Compressed} or depending on the Field's type arguments (Eg: List&lt;Integer&gt;)
+     * @param field to check
+     * @return true if the Codec has to be resolved for the Field at runtime
+     */
+    private boolean hasFieldCodec(VariableElement field)
+    {
+        if(getSelectedCodecName(field) != null || field.getAnnotation(Compressed.class) != null)
+            return true;
+
+        final TypeMirror type = field.asType();
+
+        return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    /**
+     * Get the name of the Codec selected with {@link Column#codec()} for a Field
+     * @param field to get the Codec for
+     * @return the source name of the Codec or null if the registered one is used
+     */
+    private String getSelectedCodecName(VariableElement field)
+    {
+        final Column column = field.getAnnotation(Column.class);
+
+        // Classes can't be read from an annotation at compile time so the type is thrown
+        TypeMirror codecType;
+
+        try {
+            codecType = processingEnv.getElementUtils().getTypeElement(column.codec().getCanonicalName()).asType();
+        } catch (MirroredTypeException e) {
+            codecType = e.getTypeMirror();
+        }
+
+        final String codecName = getTypeName(codecType);
+
+        return codecName.equals(Codec.class.getCanonicalName()) ? null : codecName;
+    }
+
+    /**
+     * Get the source name of a type's erasure
+     * @param type to get the name for
+     * @return the source name (Eg: java.util.List)
+     */
+    private String getTypeName(TypeMirror type)
+    {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    /**
+     * Get the name of a Class with nested classes flattened (Outer.Inner -> Outer_Inner)
+     * @param typeElement to get the name for
+     * @return the flattened name
+     */
+    private String getFlatName(TypeElement typeElement)
+    {
+        final Element enclosing = typeElement.getEnclosingElement();
+
+        return enclosing.getKind() == ElementKind.PACKAGE ? typeElement.getSimpleName().toString() : getFlatName((TypeElement) enclosing) + "_" + typeElement.getSimpleName();
+    }
+
+    /**
+     * Get the package an Element is in
+     * @param element to get the package for
+     * @return the package
+     */
+    private PackageElement getPackage(Element element)
+    {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    /**
+     * Convert a String to a Java literal
+     * @param value to convert
+     * @return the Java literal
+     */
+    private static String literal(String value)
+    {
+        if(value == null)
+            return "null";
+
+        final StringBuilder literal = new StringBuilder("\"");
+
+        for(char c : value.toCharArray())
+        {
+            switch (c)
+            {
+                case '"': literal.append("\\\""); break;
+                case '\\': literal.append("\\\\"); break;
+                case '\n': literal.append("\\n"); break;
+                case '\r': literal.append("\\r"); break;
+                case '\t': literal.append("\\t"); break;
+                default: literal.append(c);
+            }
+        }
+
+        return literal.append("\"").toString();
+    }
+
+    /**
+     * Convert class literals to a Java array literal
+     * @param values to convert (Eg: int.class or null)
+     * @return the Java array literal
+     */
+    private static String classArray(List<String> values)
+    {
+        return "{ " + String.join(", ", values) + " }";
+    }
+
+    /**
+     * Convert Strings to a Java array literal
+     * @param values to convert
+     * @return the Java array literal
+     */
+    private static String literalArray(List<String> values)
+    {
+        final StringBuilder literal = new StringBuilder("new String[] {");
+
+        for(int i = 0; i < values.size(); i++)
+            literal.append(i == 0 ? " " : ", ").append(literal(values.get(i)));
+
+        return literal.append(" }").toString();
+    }
+
+    private void error(Element element, String message)
+    {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void warning(Element element, String message)
+    {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+}
@@ -0,0 +1,265 @@
+package uk.co.loonyrules.sql.storage;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A reference to a binary payload held in a file rather than on-heap, stored in a
+ * BLOB column by the {@link uk.co.loonyrules.sql.codecs.types.BlobRefCodec}.
+ *
+ * Create one from a file to save it, payloads read from the database are spooled to a
+ * temporary file which should be moved with {@link #moveTo(Path)} or deleted with
+ * {@link #delete()} once it's no longer needed. Temporary files are otherwise deleted
+ * once their BlobRef has been garbage collected, or when the JVM exits.
+ */
+public final class BlobRef
+{
+
+    /**
+     * Queue the TemporaryFile of a BlobRef is added to once it's garbage collected
+     */
+    private static final ReferenceQueue<BlobRef> unreachable = new ReferenceQueue<>();
+
+    /**
+     * Keeps the TemporaryFiles reachable until their file is deleted or moved
+     */
+    private static final Set<TemporaryFile> temporaryFiles = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * Reference a file to be stored
+     * @param path of the file
+     * @return the BlobRef of the file
+     */
+    public static BlobRef of(Path path)
+    {
+        return new BlobRef(path, false);
+    }
+
+    /**
+     * Reference a temporary file holding a payload read from the database
+     * @param path of the temporary file
+     * @return the BlobRef of the temporary file
+     */
+    public static BlobRef temporary(Path path)
+    {
+        // Clean up after the BlobRefs nobody deleted
+        deleteUnreachable();
+
+        return new BlobRef(path, true);
+    }
+
+    /**
+     * Delete the temporary files of BlobRefs that have been garbage collected,
+     * also done whenever a temporary BlobRef is created
+     */
+    public static void deleteUnreachable()
+    {
+        Reference<? extends BlobRef> reference;
+
+        while((reference = unreachable.poll()) != null)
+            ((TemporaryFile) reference).delete();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private volatile Path path;
+    private volatile boolean temporary;
+    private final TemporaryFile temporaryFile;
+
+    /**
+     * Construct a new BlobRef
+     * @param path of the file holding the payload
+     * @param temporary whether the file was created when reading from the database
+     */
+    private BlobRef(Path path, boolean temporary)
+    {
+        Preconditions.checkNotNull(path, "Path cannot be null.");
+
+        this.path = path;
+        this.temporary = temporary;
+        this.temporaryFile = temporary ? new TemporaryFile(this, path) : null;
+    }
+
+    /**
+     * Get the file holding the payload
+     * @return the Path of the file
+     */
+    public Path getPath()
+    {
+        return this.path;
+    }
+
+    /**
+     * Check if the file was created when reading from the database
+     * @return whether the file is temporary
+     */
+    public boolean isTemporary()
+    {
+        return this.temporary;
+    }
+
+    /**
+     * Get the size of the payload
+     * @return the size in bytes
+     * @throws IOException if the file can't be read
+     */
+    public long size() throws IOException
+    {
+        return Files.size(this.path);
+    }
+
+    /**
+     * Open a stream reading the payload
+     * @return the InputStream, closed by the caller
+     * @throws IOException if the file can't be read
+     */
+    public InputStream openStream() throws IOException
+    {
+        return Files.newInputStream(this.path);
+    }
+
+    /**
+     * Transfer the payload into a channel, zero-copy when the target is a FileChannel or socket
+     * @param target to transfer into
+     * @return the number of bytes transferred
+     * @throws IOException if the file can't be read or the target written
+     */
+    public long transferTo(WritableByteChannel target) throws IOException
+    {
+        try(FileChannel source = FileChannel.open(this.path, StandardOpenOption.READ))
+        {
+            final long size = source.size();
+            long position = 0;
+
+            // transferTo may transfer less than asked for
+            while(position < size)
+                position += source.transferTo(position, size - position, target);
+
+            return position;
+        }
+    }
+
+    /**
+     * Move the payload to a file, copying it if this BlobRef isn't temporary.
+     * This BlobRef references the new file afterwards.
+     * @param target file to move to
+     * @throws IOException if the payload can't be moved
+     */
+    public void moveTo(Path target) throws IOException
+    {
+        if(this.temporary)
+            Files.move(this.path, target, StandardCopyOption.REPLACE_EXISTING);
+        else
+            Files.copy(this.path, target, StandardCopyOption.REPLACE_EXISTING);
+
+        // The moved file is the caller's to keep
+        if(this.temporaryFile != null)
+            this.temporaryFile.release();
+
+        this.path = target;
+        this.temporary = false;
+    }
+
+    /**
+     * Delete the file if it's temporary, files referenced with {@link #of(Path)} are left alone
+     * @throws IOException if the file can't be deleted
+     */
+    public void delete() throws IOException
+    {
+        if(!this.temporary)
+            return;
+
+        Files.deleteIfExists(this.path);
+        this.temporaryFile.release();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+            return true;
+
+        if (o == null || getClass() != o.getClass())
+            return false;
+
+        return this.path.equals(((BlobRef) o).path);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.path.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BlobRef{" +
+                "path=" + this.path +
+                ", temporary=" + this.temporary +
+                '}';
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The temporary file of a BlobRef, deleted once the BlobRef is garbage collected
+     * unless it was moved or deleted first
+     */
+    private static class TemporaryFile extends PhantomReference<BlobRef>
+    {
+
+        private final Path path;
+
+        private TemporaryFile(BlobRef blobRef, Path path)
+        {
+            super(blobRef, unreachable);
+            this.path = path;
+
+            // In case the BlobRef is still reachable when we exit
+            path.toFile().deleteOnExit();
+            temporaryFiles.add(this);
+        }
+
+        /**
+         * Stop tracking the file, it's been moved or deleted
+         */
+        private void release()
+        {
+            temporaryFiles.remove(this);
+            clear();
+        }
+
+        /**
+         * Delete the file of a garbage collected BlobRef
+         */
+        private void delete()
+        {
+            // Moved or deleted whilst the BlobRef was reachable
+            if(!temporaryFiles.remove(this))
+                return;
+
+            try {
+                Files.deleteIfExists(this.path);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+    }
+
+}
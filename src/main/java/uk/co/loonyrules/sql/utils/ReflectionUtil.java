@@ -1,13 +1,18 @@
 package uk.co.loonyrules.sql.utils;
 
+import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import uk.co.loonyrules.sql.accessors.FieldAccessor;
 import uk.co.loonyrules.sql.annotations.Column;
+import uk.co.loonyrules.sql.annotations.Compressed;
 import uk.co.loonyrules.sql.annotations.Primary;
 import uk.co.loonyrules.sql.annotations.Table;
+import uk.co.loonyrules.sql.codecs.Codec;
+import uk.co.loonyrules.sql.codecs.types.CompressedCodec;
 import uk.co.loonyrules.sql.storage.CaseInsensitiveMap;
 
 import java.lang.reflect.Field;
@@ -15,6 +20,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -51,6 +57,9 @@ public class ReflectionUtil
         }
     });
 
+    private static final ConcurrentMap<Field, FieldAccessor> accessorCache = Maps.newConcurrentMap();
+    private static final ConcurrentMap<Field, ColumnCodecs> columnCodecCache = Maps.newConcurrentMap();
+
     /**
      * Get all Fields for a Class
      * @param clazz to get Field's for
@@ -181,13 +190,98 @@ public class ReflectionUtil
     public static Object getFieldValue(Field field, Object object)
     {
         try {
-            return field.get(object);
-        } catch (IllegalAccessException e) {
+            return getAccessor(field).get(object);
+        } catch (IllegalStateException e) {
             e.printStackTrace();
             return null;
         }
     }
 
+    /**
+     * Get the {@link FieldAccessor} for a Field
+     * @param field to get the FieldAccessor for
+     * @return the cached or newly created FieldAccessor
+     */
+    public static FieldAccessor getAccessor(Field field)
+    {
+        return accessorCache.computeIfAbsent(field, FieldAccessor::new);
+    }
+
+    /**
+     * Get the {@link Codec} for a Field, preferring the one selected with {@link Column#codec()}
+     * @param field to get the Codec for
+     * @param <T> type of the Codec
+     * @return the Codec or null if there isn't one
+     */
+    public static <T extends Codec> T getColumnCodec(Field field)
+    {
+        return (T) getColumnCodecs(field).codec;
+    }
+
+    /**
+     * Get the {@link Codec} selected with {@link Column#codec()} for a Field, wrapped
+     * in a {@link CompressedCodec} if the Field is {@link Compressed}
+     * @param field to get the Codec for
+     * @return the selected Codec wrapped in an Optional
+     */
+    public static Optional<Codec> getSelectedCodec(Field field)
+    {
+        return getColumnCodecs(field).selected;
+    }
+
+    /**
+     * Get the {@link Codec}'s resolved for a Field, resolving them again once another Codec has been registered
+     * @param field to get the Codecs for
+     * @return the cached or newly resolved Codecs
+     */
+    private static ColumnCodecs getColumnCodecs(Field field)
+    {
+        // Read first so a registration racing the resolution is picked up by the next call
+        final long registrations = Codec.getRegistrations();
+
+        ColumnCodecs columnCodecs = columnCodecCache.get(field);
+
+        if(columnCodecs == null || columnCodecs.registrations != registrations)
+        {
+            // Get the Codec selected for this column
+            final Optional<Codec> selected = selectCodec(field);
+
+            // Fallback to the Codec registered for the type
+            final Codec codec = selected.isPresent() ? selected.get() : Codec.getCodec(field.getType());
+
+            // Let the Codec specialise itself for this Field
+            columnCodecCache.put(field, columnCodecs = new ColumnCodecs(registrations, selected, codec == null ? null : codec.forField(field)));
+        }
+
+        return columnCodecs;
+    }
+
+    /**
+     * Select the {@link Codec} for a Field with {@link Column#codec()}, wrapped
+     * in a {@link CompressedCodec} if the Field is {@link Compressed}
+     * @param field to select the Codec for
+     * @return the selected Codec wrapped in an Optional
+     */
+    private static Optional<Codec> selectCodec(Field field)
+    {
+        final Optional<Codec> selected = getColumnAnnotation(field)
+                .<Class<? extends Codec>>map(Column::codec)
+                .filter(codecClass -> codecClass != Codec.class)
+                .map(Codec::getDetached);
+
+        // Not compressed so the selected Codec is used as is
+        if(!field.isAnnotationPresent(Compressed.class))
+            return selected;
+
+        // Compressing the value of the selected or registered Codec
+        final Codec codec = selected.isPresent() ? selected.get() : Codec.getCodec(field.getType());
+        final Codec fieldCodec = codec == null ? null : codec.forField(field);
+
+        Preconditions.checkArgument(fieldCodec != null, "No Codec registered for " + field.getType() + " to compress " + field + ".");
+
+        return Optional.of(CompressedCodec.wrap(fieldCodec, field));
+    }
+
     /**
      * Convert an Object to an Enum via a class type
      * @param type to cast the object to
@@ -218,4 +312,25 @@ public class ReflectionUtil
         return columnNames;
     }
 
-}
\ No newline at end of file
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The {@link Codec}'s resolved for a Field and the number of registrations they were resolved at
+     */
+    private static class ColumnCodecs
+    {
+
+        private final long registrations;
+        private final Optional<Codec> selected;
+        private final Codec codec;
+
+        private ColumnCodecs(long registrations, Optional<Codec> selected, Codec codec)
+        {
+            this.registrations = registrations;
+            this.selected = selected;
+            this.codec = codec;
+        }
+
+    }
+
+}
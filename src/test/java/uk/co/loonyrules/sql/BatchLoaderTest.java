@@ -0,0 +1,241 @@
+package uk.co.loonyrules.sql;
+
+import org.junit.Test;
+import uk.co.loonyrules.sql.annotations.Column;
+import uk.co.loonyrules.sql.annotations.Primary;
+import uk.co.loonyrules.sql.annotations.Table;
+import uk.co.loonyrules.sql.enums.RejectionPolicy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+public class BatchLoaderTest
+{
+
+    @Test
+    public void concurrentLoads() throws Exception
+    {
+        final int loads = 50;
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final ExecutorService callers = Executors.newFixedThreadPool(loads);
+        final List<List<Object>> statements = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            final Database database = database(executor, statements, key -> new Player(((Number) key).longValue()), 5000, loads);
+
+            // Every caller loads at the same time
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<CompletableFuture<Optional<Player>>> futures = Collections.synchronizedList(new ArrayList<>());
+            final CountDownLatch loaded = new CountDownLatch(loads);
+
+            for(int i = 0; i < loads; i++)
+            {
+                final long id = i;
+
+                callers.execute(() -> {
+                    try {
+                        start.await();
+                        futures.add(database.load(Player.class, id));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        loaded.countDown();
+                    }
+                });
+            }
+
+            start.countDown();
+            assertTrue(loaded.await(5, TimeUnit.SECONDS));
+
+            for(CompletableFuture<Optional<Player>> future : futures)
+                assertTrue(future.get(5, TimeUnit.SECONDS).isPresent());
+
+            // One statement for every key, sent as soon as the batch was full
+            assertEquals(1, statements.size());
+            assertEquals(loads, statements.get(0).size());
+            assertEquals(1, database.getBatchLoader(Player.class).getBatches());
+        } finally {
+            callers.shutdown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void keysMatchedLikeMySQL() throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+        final UUID uuid = UUID.randomUUID();
+        final List<List<Object>> statements = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            final Database database = database(executor, statements, key -> key instanceof UUID ? new Session((UUID) key) : new Account("Loony"), 20, 10);
+
+            // Text for a UUID @Primary is bound as a UUID
+            final Optional<Session> session = database.load(Session.class, uuid.toString()).get(5, TimeUnit.SECONDS);
+            assertTrue(session.isPresent());
+            assertEquals(uuid, session.get().id);
+            assertEquals(uuid, statements.get(0).get(0));
+
+            // utf8_general_ci compares without case
+            assertTrue(database.load(Account.class, "LOONY").get(5, TimeUnit.SECONDS).isPresent());
+
+            // Not a UUID
+            try {
+                database.load(Session.class, "not a uuid").get(5, TimeUnit.SECONDS);
+                fail("Loaded a UUID @Primary with an invalid UUID");
+            } catch (Exception e) {
+                // Expected
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void fullQueueNeverBlocks() throws Exception
+    {
+        final QueryExecutor executor = new QueryExecutor(1, 1, RejectionPolicy.BLOCK);
+        final List<List<Object>> statements = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            final Database database = database(executor, statements, key -> new Player(((Number) key).longValue()), 20, 1);
+
+            // Filling the Thread and the queue
+            final CountDownLatch release = new CountDownLatch(1);
+
+            for(int i = 0; i < 2; i++)
+            {
+                executor.execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            // A full batch is offered from this Thread rather than waiting for room
+            final long started = System.nanoTime();
+            final CompletableFuture<Optional<Player>> future = database.getBatchLoader(Player.class).load(1L);
+
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 1000);
+            assertFalse(future.isDone());
+
+            // Retried once there's room
+            release.countDown();
+            assertTrue(future.get(5, TimeUnit.SECONDS).isPresent());
+            assertEquals(0, executor.getRejectedCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Database database(ExecutorService executor, List<List<Object>> statements, Function<Object, Object> rows, long window, int batchSize)
+    {
+        final Credentials credentials = new Credentials("localhost", 3306, "loonysql", "root", "")
+                .setLoaderWindow(window)
+                .setLoaderBatchSize(batchSize);
+
+        return new Database(credentials)
+        {
+
+            @Override
+            public ExecutorService getExecutorService()
+            {
+                return executor;
+            }
+
+            @Override
+            <T> List<T> findInMemory(Class<T> clazz, Query query)
+            {
+                return null;
+            }
+
+            @Override
+            <T> List<T> findByPrimary(Class<T> clazz, String primaryColumn, List<Object> keys)
+            {
+                statements.add(keys);
+
+                final List<T> found = new ArrayList<>();
+
+                for(Object key : keys)
+                    found.add((T) rows.apply(key));
+
+                return found;
+            }
+
+        };
+    }
+
+    @Table(name = "players")
+    public static class Player
+    {
+
+        @Column
+        @Primary
+        private long id;
+
+        public Player()
+        {
+
+        }
+
+        private Player(long id)
+        {
+            this.id = id;
+        }
+
+    }
+
+    @Table(name = "sessions")
+    public static class Session
+    {
+
+        @Column
+        @Primary
+        private UUID id;
+
+        public Session()
+        {
+
+        }
+
+        private Session(UUID id)
+        {
+            this.id = id;
+        }
+
+    }
+
+    @Table(name = "accounts")
+    public static class Account
+    {
+
+        @Column
+        @Primary
+        private String name;
+
+        public Account()
+        {
+
+        }
+
+        private Account(String name)
+        {
+            this.name = name;
+        }
+
+    }
+
+}
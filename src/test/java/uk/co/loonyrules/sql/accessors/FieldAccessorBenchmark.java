@@ -0,0 +1,105 @@
+package uk.co.loonyrules.sql.accessors;
+
+import uk.co.loonyrules.sql.annotations.Column;
+import uk.co.loonyrules.sql.utils.ReflectionUtil;
+
+import java.lang.reflect.Field;
+
+/**
+ * Compares Field.get/Field.set with {@link FieldAccessor}. It's compiled with
+ * the tests but isn't one, run it with the test classpath:
+ * {@code java -cp target/classes:target/test-classes:<dependencies> uk.co.loonyrules.sql.accessors.FieldAccessorBenchmark}
+ */
+public class FieldAccessorBenchmark
+{
+
+    private static final int
+            WARMUP_ITERATIONS = 2_000_000,
+            ITERATIONS = 20_000_000;
+
+    private final Model user = new Model();
+
+    public static void main(String[] args) throws Exception
+    {
+        new FieldAccessorBenchmark().benchmark();
+    }
+
+    private void benchmark() throws Exception
+    {
+        // The Fields we're benchmarking
+        final Field randomField = ReflectionUtil.getField(Model.class, "random");
+        final Field lastNameField = ReflectionUtil.getField(Model.class, "lastName");
+
+        // The FieldAccessors we're benchmarking
+        final FieldAccessor randomAccessor = ReflectionUtil.getAccessor(randomField);
+        final FieldAccessor lastNameAccessor = ReflectionUtil.getAccessor(lastNameField);
+
+        // Warming up both paths
+        {
+            reflection(randomField, lastNameField, WARMUP_ITERATIONS);
+            accessor(randomAccessor, lastNameAccessor, WARMUP_ITERATIONS);
+        }
+
+        // Timing the current Field.get/Field.set path
+        {
+            final long start = System.nanoTime();
+            final long checksum = reflection(randomField, lastNameField, ITERATIONS);
+            print("Field.get/Field.set", System.nanoTime() - start, checksum);
+        }
+
+        // Timing the FieldAccessor path
+        {
+            final long start = System.nanoTime();
+            final long checksum = accessor(randomAccessor, lastNameAccessor, ITERATIONS);
+            print("FieldAccessor", System.nanoTime() - start, checksum);
+        }
+    }
+
+    private long reflection(Field randomField, Field lastNameField, int iterations) throws IllegalAccessException
+    {
+        long checksum = 0;
+
+        for(int i = 0; i < iterations; i++)
+        {
+            randomField.set(user, i);
+            checksum += (int) randomField.get(user);
+            checksum += lastNameField.get(user).hashCode();
+        }
+
+        return checksum;
+    }
+
+    private long accessor(FieldAccessor randomAccessor, FieldAccessor lastNameAccessor, int iterations)
+    {
+        long checksum = 0;
+
+        for(int i = 0; i < iterations; i++)
+        {
+            randomAccessor.setInt(user, i);
+            checksum += randomAccessor.getInt(user);
+            checksum += lastNameAccessor.get(user).hashCode();
+        }
+
+        return checksum;
+    }
+
+    private void print(String prefix, long nanos, long checksum)
+    {
+        System.out.println(prefix + ": " + (nanos / 1_000_000) + "ms for " + ITERATIONS + " iterations ("
+                + ((double) nanos / ITERATIONS) + "ns/op, checksum " + checksum + ")");
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private static class Model
+    {
+
+        @Column
+        private int random;
+
+        @Column
+        private String lastName = "LoonyRules";
+
+    }
+
+}
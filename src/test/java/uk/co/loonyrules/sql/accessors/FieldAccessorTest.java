@@ -0,0 +1,151 @@
+package uk.co.loonyrules.sql.accessors;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class FieldAccessorTest
+{
+
+    @Test
+    public void primitives() throws Exception
+    {
+        final Entity entity = new Entity();
+
+        // Through the primitive typed methods
+        accessor("intValue").setInt(entity, 42);
+        accessor("longValue").setLong(entity, Long.MAX_VALUE);
+        accessor("doubleValue").setDouble(entity, 1.5D);
+        accessor("floatValue").setFloat(entity, -2.25F);
+        accessor("booleanValue").setBoolean(entity, true);
+
+        assertEquals(42, accessor("intValue").getInt(entity));
+        assertEquals(Long.MAX_VALUE, accessor("longValue").getLong(entity));
+        assertEquals(1.5D, accessor("doubleValue").getDouble(entity), 0D);
+        assertEquals(-2.25F, accessor("floatValue").getFloat(entity), 0F);
+        assertTrue(accessor("booleanValue").getBoolean(entity));
+
+        // Through the boxing methods
+        accessor("intValue").set(entity, 7);
+        accessor("booleanValue").set(entity, false);
+
+        assertEquals(7, entity.intValue);
+        assertEquals(Integer.valueOf(7), accessor("intValue").get(entity));
+        assertEquals(Boolean.FALSE, accessor("booleanValue").get(entity));
+    }
+
+    @Test
+    public void widening() throws Exception
+    {
+        final Entity entity = new Entity();
+
+        // Narrower Fields are read and written through the wider methods
+        accessor("shortValue").set(entity, (short) 12);
+        accessor("byteValue").set(entity, (byte) 3);
+
+        assertEquals(12, entity.shortValue);
+        assertEquals(12L, accessor("shortValue").getLong(entity));
+        assertEquals(3, accessor("byteValue").getInt(entity));
+    }
+
+    @Test
+    public void boxed() throws Exception
+    {
+        final Entity entity = new Entity();
+
+        accessor("boxedInt").set(entity, 5);
+        accessor("boxedLong").setLong(entity, 9L);
+
+        assertEquals(Integer.valueOf(5), entity.boxedInt);
+        assertEquals(5, accessor("boxedInt").getInt(entity));
+        assertEquals(Long.valueOf(9L), accessor("boxedLong").get(entity));
+
+        // Boxed Fields can be null
+        accessor("boxedInt").set(entity, null);
+        assertNull(accessor("boxedInt").get(entity));
+    }
+
+    @Test
+    public void references() throws Exception
+    {
+        final Entity entity = new Entity();
+        final UUID uuid = UUID.randomUUID();
+
+        accessor("uuid").set(entity, uuid);
+        accessor("name").set(entity, "LoonyRules");
+
+        assertSame(uuid, accessor("uuid").get(entity));
+        assertEquals("LoonyRules", entity.getName());
+    }
+
+    @Test
+    public void privateAndFinal() throws Exception
+    {
+        final Entity entity = new Entity();
+
+        accessor("finalInt").setInt(entity, 11);
+        accessor("finalName").set(entity, "changed");
+
+        assertEquals(11, accessor("finalInt").getInt(entity));
+        assertEquals("changed", accessor("finalName").get(entity));
+    }
+
+    @Test
+    public void wrongTypes() throws Exception
+    {
+        // Values of the wrong type are rejected rather than stored
+        try {
+            accessor("name").set(new Entity(), 1);
+            fail("Stored an Integer in a String Field");
+        } catch (ClassCastException | IllegalArgumentException e) {
+            // Expected
+        }
+
+        // So are instances that don't own the Field
+        try {
+            accessor("intValue").getInt(new Object());
+            fail("Read a Field from an instance that doesn't own it");
+        } catch (ClassCastException | IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    private FieldAccessor accessor(String name) throws NoSuchFieldException
+    {
+        final Field field = Entity.class.getDeclaredField(name);
+        return new FieldAccessor(field);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private static class Entity
+    {
+
+        private int intValue;
+        private long longValue;
+        private double doubleValue;
+        private float floatValue;
+        private boolean booleanValue;
+        private short shortValue;
+        private byte byteValue;
+
+        private Integer boxedInt;
+        private Long boxedLong;
+
+        private UUID uuid;
+        private String name;
+
+        private final int finalInt = 1;
+        private final String finalName = "final";
+
+        private String getName()
+        {
+            return this.name;
+        }
+
+    }
+
+}
@@ -0,0 +1,136 @@
+package uk.co.loonyrules.sql.codecs;
+
+import org.junit.Test;
+import uk.co.loonyrules.sql.codecs.types.ListCodec;
+import uk.co.loonyrules.sql.enums.Rank;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+
+import static org.junit.Assert.*;
+
+public class ListCodecTest
+{
+
+    private final ListCodec codec = Codec.getCodec(List.class);
+
+    @Test
+    public void separators()
+    {
+        // Elements containing the characters used by both formats
+        final List<Object> list = Arrays.asList("a:b", "~", "c, d", "2:ab", "", ":~, ");
+
+        assertEquals(list, roundTrip(this.codec, list, List.class));
+    }
+
+    @Test
+    public void nulls()
+    {
+        final List<Object> list = Arrays.asList(null, "a", null, "~");
+
+        assertEquals("4:~1:a~1:~", this.codec.encodeText(list));
+        assertEquals(list, roundTrip(this.codec, list, List.class));
+    }
+
+    @Test
+    public void empty()
+    {
+        assertEquals("0:", this.codec.encodeText(Collections.emptyList()));
+        assertTrue(this.codec.decodeText("0:", List.class).isEmpty());
+        assertTrue(this.codec.decodeText("", List.class).isEmpty());
+        assertTrue(this.codec.decodeText(null, List.class).isEmpty());
+    }
+
+    @Test
+    public void elementTypes() throws Exception
+    {
+        final List<Object> numbers = Arrays.asList(1, -20, null, Integer.MAX_VALUE);
+        final List<Object> uuids = Arrays.asList(UUID.randomUUID(), UUID.randomUUID());
+        final List<Object> ranks = Arrays.asList(Rank.values());
+
+        assertEquals(numbers, roundTrip(forField("numbers"), numbers, List.class));
+        assertEquals(uuids, roundTrip(forField("uuids"), uuids, List.class));
+        assertEquals(ranks, roundTrip(forField("ranks"), ranks, List.class));
+    }
+
+    @Test
+    public void sets()
+    {
+        final Collection<Object> set = this.codec.decodeText("3:1:b1:a1:b", Set.class);
+
+        assertTrue(set instanceof Set);
+        assertEquals(Arrays.asList("b", "a"), Arrays.asList(set.toArray()));
+    }
+
+    @Test
+    public void declaredTypes() throws Exception
+    {
+        final Collection<Object> linkedList = this.codec.decodeText("2:1:b1:a", LinkedList.class);
+        final Collection<Object> treeSet = this.codec.decodeText("2:1:b1:a", TreeSet.class);
+        final Collection<Object> deque = this.codec.decodeText("2:1:b1:a", Deque.class);
+
+        assertTrue(linkedList instanceof LinkedList);
+        assertEquals(Arrays.asList("b", "a"), linkedList);
+        assertTrue(treeSet instanceof TreeSet);
+        assertEquals(Arrays.asList("a", "b"), Arrays.asList(treeSet.toArray()));
+        assertTrue(deque instanceof Deque);
+
+        // Nothing we're able to create
+        assertNotNull(forField("deque"));
+        assertNull(forField("queue"));
+    }
+
+    @Test
+    public void legacy() throws Exception
+    {
+        assertEquals(Arrays.asList("a", "b", "c"), this.codec.decodeText("[a, b, c]", List.class));
+        assertEquals(Collections.singletonList("a"), this.codec.decodeText("[a]", List.class));
+        assertTrue(this.codec.decodeText("[]", List.class).isEmpty());
+        assertEquals(Arrays.asList(1, 2), forField("numbers").decodeText("[1, 2]", List.class));
+    }
+
+    @Test
+    public void malformed()
+    {
+        for(String text : Arrays.asList("2:1:a", "1:", "x:", "1:5:ab", "1:-1:", "99999999999:", "1:a:b"))
+        {
+            try {
+                this.codec.decodeText(text, List.class);
+                fail("Decoded malformed collection " + text);
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+        }
+    }
+
+    private static Collection<Object> roundTrip(Codec<Collection<Object>> codec, List<Object> list, Class<?> type)
+    {
+        return codec.decodeText(codec.encodeText(list), type);
+    }
+
+    private static Codec<Collection<Object>> forField(String name) throws NoSuchFieldException
+    {
+        final ListCodec codec = Codec.getCodec(List.class);
+        return codec.forField(Model.class.getDeclaredField(name));
+    }
+
+    private static class Model
+    {
+
+        private List<Integer> numbers;
+        private List<UUID> uuids;
+        private List<Rank> ranks;
+        private Deque<String> deque;
+        private BlockingQueue<String> queue;
+
+    }
+
+}
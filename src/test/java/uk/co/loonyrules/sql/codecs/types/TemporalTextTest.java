@@ -0,0 +1,86 @@
+package uk.co.loonyrules.sql.codecs.types;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.*;
+
+public class TemporalTextTest
+{
+
+    @Test
+    public void fractions() throws SQLException
+    {
+        final String[] fractions = { "1", "12", "123", "1234", "12345", "123456", "1234567", "12345678", "123456789" };
+        final int[] nanos = { 100_000_000, 120_000_000, 123_000_000, 123_400_000, 123_450_000, 123_456_000, 123_456_700, 123_456_780, 123_456_789 };
+
+        for(int i = 0; i < fractions.length; i++)
+            assertEquals(fractions[i], LocalDateTime.of(2018, 3, 4, 5, 6, 7, nanos[i]), TemporalText.parseDateTime("2018-03-04 05:06:07." + fractions[i]));
+
+        // Without and with an empty fraction
+        assertEquals(LocalDateTime.of(2018, 3, 4, 5, 6, 7), TemporalText.parseDateTime("2018-03-04 05:06:07"));
+        assertEquals(LocalDateTime.of(2018, 3, 4, 5, 6, 7), TemporalText.parseDateTime("2018-03-04 05:06:07."));
+    }
+
+    @Test
+    public void zeroDates() throws SQLException
+    {
+        assertNull(TemporalText.parseDateTime("0000-00-00 00:00:00"));
+        assertNull(TemporalText.parseDateTime("0000-00-00"));
+        assertNull(TemporalText.parseDateTime("2018-00-04 00:00:00"));
+        assertNull(TemporalText.parseDate("0000-00-00"));
+        assertNull(TemporalText.parseDate("2018-03-00"));
+
+        assertNull(TemporalText.parseDateTime(null));
+        assertNull(TemporalText.parseDate(null));
+    }
+
+    @Test
+    public void dateOnly() throws SQLException
+    {
+        assertEquals(LocalDateTime.of(2018, 3, 4, 0, 0), TemporalText.parseDateTime("2018-03-04"));
+        assertEquals(LocalDate.of(2018, 3, 4), TemporalText.parseDate("2018-03-04"));
+    }
+
+    @Test
+    public void malformed()
+    {
+        for(String text : new String[] { "2018-3-4", "2018-03-04 5:06:07", "2018-13-04 05:06:07", "2018-03-04 05:06", "yyyy-MM-dd" })
+        {
+            try {
+                TemporalText.parseDateTime(text);
+                fail("Parsed malformed DATETIME " + text);
+            } catch (SQLException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void formatDateTime() throws SQLException
+    {
+        // Padded fields without a fraction
+        assertEquals("0005-01-02 03:04:05", TemporalText.formatDateTime(LocalDateTime.of(5, 1, 2, 3, 4, 5)));
+        assertEquals("2018-12-31 23:59:59", TemporalText.formatDateTime(LocalDateTime.of(2018, 12, 31, 23, 59, 59)));
+
+        // Fractions padded to microseconds, anything smaller is dropped
+        assertEquals("2018-03-04 05:06:07.000001", TemporalText.formatDateTime(LocalDateTime.of(2018, 3, 4, 5, 6, 7, 1_000)));
+        assertEquals("2018-03-04 05:06:07.100000", TemporalText.formatDateTime(LocalDateTime.of(2018, 3, 4, 5, 6, 7, 100_000_000)));
+        assertEquals("2018-03-04 05:06:07.123456", TemporalText.formatDateTime(LocalDateTime.of(2018, 3, 4, 5, 6, 7, 123_456_789)));
+
+        // Formatting then parsing keeps the value
+        final LocalDateTime dateTime = LocalDateTime.of(1999, 9, 9, 9, 9, 9, 90_000);
+        assertEquals(dateTime, TemporalText.parseDateTime(TemporalText.formatDateTime(dateTime)));
+    }
+
+    @Test
+    public void formatDate()
+    {
+        assertEquals("0005-01-02", TemporalText.formatDate(LocalDate.of(5, 1, 2)));
+        assertEquals("2018-12-31", TemporalText.formatDate(LocalDate.of(2018, 12, 31)));
+    }
+
+}
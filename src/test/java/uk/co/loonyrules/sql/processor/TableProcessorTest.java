@@ -0,0 +1,256 @@
+package uk.co.loonyrules.sql.processor;
+
+import org.junit.Test;
+import uk.co.loonyrules.sql.annotations.Table;
+import uk.co.loonyrules.sql.codecs.types.IntegerCodec;
+import uk.co.loonyrules.sql.mappers.EntityMapper;
+import uk.co.loonyrules.sql.mappers.EntityMappers;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class TableProcessorTest
+{
+
+    private static final String FIXTURE = String.join("\n",
+            "package fixture;",
+            "",
+            "import uk.co.loonyrules.sql.annotations.Column;",
+            "import uk.co.loonyrules.sql.annotations.Primary;",
+            "import uk.co.loonyrules.sql.annotations.Table;",
+            "",
+            "@Table(name = \"fixtures\")",
+            "public class Fixture",
+            "{",
+            "    @Column @Primary(autoIncrement = true) public int id;",
+            "    @Column private long coins;",
+            "    @Column(name = \"display_name\", maxLength = 32) public String name;",
+            "    @Column public boolean online;",
+            "    @Column public Integer level;",
+            "    @Column public java.util.List<Integer> scores;",
+            "",
+            "    public long getCoins() { return this.coins; }",
+            "}");
+
+    private static final String PRIMITIVE_FIXTURE = String.join("\n",
+            "package fixture;",
+            "",
+            "import uk.co.loonyrules.sql.annotations.Column;",
+            "import uk.co.loonyrules.sql.annotations.Primary;",
+            "import uk.co.loonyrules.sql.annotations.Table;",
+            "",
+            "@Table(name = \"primitives\")",
+            "public class Primitives",
+            "{",
+            "    @Column @Primary public int id;",
+            "    @Column(maxLength = 20) public long total;",
+            "    @Column public double ratio;",
+            "    @Column public boolean flag;",
+            "}");
+
+    @Test
+    public void generatedMetadata() throws Exception
+    {
+        final EntityMapper<Object> mapper = mapper("Fixture");
+
+        assertEquals("fixtures", mapper.getTableName());
+        assertEquals(Arrays.asList("id", "coins", "display_name", "online", "level", "scores"), mapper.getColumns());
+        assertEquals(Arrays.asList("id", "coins", "name", "online", "level", "scores"), mapper.getFieldNames());
+        assertEquals("id", mapper.getPrimaryColumn());
+
+        // String, Integer and List columns are left to the Codecs registered at runtime
+        assertNull(mapper.getCreateStatement());
+
+        assertEquals("INSERT INTO `fixtures` (`coins`, `display_name`, `online`, `level`, `scores`) VALUES (?, ?, ?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE coins=?, display_name=?, online=?, level=?, scores=?", mapper.getUpsertStatement(false));
+    }
+
+    @Test
+    public void createStatement() throws Exception
+    {
+        final EntityMapper<Object> mapper = mapper("Primitives");
+
+        // Column types decided from the Field types, mirroring the built-in Codecs
+        assertEquals("CREATE TABLE IF NOT EXISTS `primitives` (`id` int(255) AUTO_INCREMENT, `total` bigint(20), `ratio` double, `flag` tinyint(1), "
+                + "PRIMARY KEY (`id`)) ENGINE=InnoDB DEFAULT CHARSET=utf8", mapper.getCreateStatement());
+    }
+
+    @Test
+    public void bindAndPopulate() throws Exception
+    {
+        final EntityMapper<Object> mapper = mapper("Fixture");
+        final Object fixture = mapper.newInstance();
+
+        // Decoding a row, private Fields go through a FieldAccessor
+        final Map<String, Object> row = new HashMap<>();
+        row.put("id", 3);
+        row.put("coins", 250L);
+        row.put("display_name", "LoonyRules");
+        row.put("online", true);
+        row.put("level", 5);
+        row.put("scores", "2:1:12:20");
+
+        mapper.populate(fixture, resultSet(row), mapper.getColumns().toArray(new String[0]));
+
+        assertEquals(3, get(fixture, "id"));
+        assertEquals(250L, fixture.getClass().getMethod("getCoins").invoke(fixture));
+        assertEquals("LoonyRules", get(fixture, "name"));
+        assertEquals(true, get(fixture, "online"));
+        assertEquals(5, get(fixture, "level"));
+
+        // Decoded with the Codec for the Field's element type
+        assertEquals(Arrays.asList(1, 20), get(fixture, "scores"));
+
+        // Binding it back, without the auto increment @Primary when it's unassigned
+        assertEquals(3, mapper.getPrimaryValue(fixture));
+        assertFalse(mapper.isPrimaryUnassigned(fixture));
+        assertEquals(Arrays.asList(3, 250L, "LoonyRules", true, 5, Arrays.asList(1, 20)), Arrays.asList(mapper.bind(fixture, true)));
+        assertEquals(Arrays.asList(250L, "LoonyRules", true, 5, Arrays.asList(1, 20)), Arrays.asList(mapper.bind(fixture, false)));
+
+        // Columns not selected are left alone
+        final Object partial = mapper.newInstance();
+        mapper.populate(partial, resultSet(Collections.singletonMap("display_name", "Partial")), new String[] { null, null, "display_name", null, null, null });
+
+        assertEquals(0, get(partial, "id"));
+        assertEquals("Partial", get(partial, "name"));
+    }
+
+    @Test
+    public void registeredCodecs() throws Exception
+    {
+        final EntityMapper<Object> mapper = mapper("Primitives");
+        final Map<String, Object> row = new HashMap<>();
+        row.put("id", 3);
+        row.put("total", 4L);
+        row.put("ratio", 0.5D);
+        row.put("flag", false);
+
+        try {
+            // A Codec registered for int replaces the direct read and the built-in column type
+            new IntegerCodec()
+            {
+
+                @Override
+                public Integer decode(ResultSet resultSet, Class<?> type, String fieldName) throws SQLException
+                {
+                    return resultSet.getInt(fieldName) * 10;
+                }
+
+                @Override
+                public String getSQLType()
+                {
+                    return "mediumint";
+                }
+
+            };
+
+            final Object primitives = mapper.newInstance();
+            mapper.populate(primitives, resultSet(row), mapper.getColumns().toArray(new String[0]));
+
+            assertEquals(30, get(primitives, "id"));
+            assertNull(mapper.getCreateStatement());
+        } finally {
+            new IntegerCodec();
+        }
+
+        // Read directly again once the built-in Codec is back
+        final Object primitives = mapper.newInstance();
+        mapper.populate(primitives, resultSet(row), mapper.getColumns().toArray(new String[0]));
+
+        assertEquals(3, get(primitives, "id"));
+        assertNotNull(mapper.getCreateStatement());
+    }
+
+    /**
+     * Compile a fixture with the TableProcessor and get the EntityMapper generated for it
+     * @param name of the fixture Class
+     * @return the generated EntityMapper
+     */
+    private static EntityMapper<Object> mapper(String name) throws Exception
+    {
+        final Path directory = Files.createTempDirectory("table-processor");
+        final Path source = directory.resolve("fixture").resolve(name + ".java");
+
+        Files.createDirectories(source.getParent());
+        Files.write(source, (name.equals("Fixture") ? FIXTURE : PRIMITIVE_FIXTURE).getBytes(StandardCharsets.UTF_8));
+
+        // The classes the fixture and generated mapper compile against
+        final String classPath = new File(Table.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    Arrays.asList("-classpath", classPath, "-d", directory.toString(), "-s", directory.toString()),
+                    null, fileManager.getJavaFileObjects(source.toFile()));
+
+            task.setProcessors(Collections.singletonList(new TableProcessor()));
+
+            assertTrue(diagnostics.getDiagnostics().toString(), task.call());
+        }
+
+        // Loading the fixture, its generated mapper is found by the naming convention
+        final ClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, TableProcessorTest.class.getClassLoader());
+        final Class<Object> type = (Class<Object>) Class.forName("fixture." + name, true, classLoader);
+        final EntityMapper<Object> mapper = EntityMappers.get(type);
+
+        assertNotNull(mapper);
+        assertEquals("fixture." + name + EntityMappers.SUFFIX, mapper.getClass().getName());
+
+        return mapper;
+    }
+
+    /**
+     * Create a ResultSet positioned at a single row
+     * @param row column labels and their values
+     * @return the ResultSet
+     */
+    private static ResultSet resultSet(Map<String, Object> row)
+    {
+        final Object[] last = new Object[1];
+
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+            if(method.getName().equals("wasNull"))
+                return last[0] == null;
+
+            final Object value = last[0] = row.get((String) args[0]);
+
+            switch (method.getName())
+            {
+                case "getInt": return value == null ? 0 : ((Number) value).intValue();
+                case "getLong": return value == null ? 0L : ((Number) value).longValue();
+                case "getDouble": return value == null ? 0D : ((Number) value).doubleValue();
+                case "getFloat": return value == null ? 0F : ((Number) value).floatValue();
+                case "getBoolean": return value != null && (Boolean) value;
+                case "getString": return value == null ? null : value.toString();
+                case "getObject": return value;
+                default: throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static Object get(Object object, String field) throws ReflectiveOperationException
+    {
+        return object.getClass().getField(field).get(object);
+    }
+
+}